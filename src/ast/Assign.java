@@ -6,10 +6,11 @@ package ast;
  * @author Rohan Thakur
  * @version 1/10/22
  */
-public class Assign extends Statement
+public final class Assign extends Statement
 {
     private String var;
     private Expression exp;
+    private int slot;
 
     /**
      * Assign constructor for the construction of an assign statement that sets the input
@@ -22,6 +23,7 @@ public class Assign extends Statement
     {
         this.var = var;
         this.exp = exp;
+        this.slot = -1;
     }
 
     /**
@@ -43,4 +45,24 @@ public class Assign extends Statement
     {
         return this.exp;
     }
+
+    /**
+     * Gets the frame slot that the Resolver assigned to the Assign object's variable
+     *
+     * @return the slot of the variable, or -1 if the Assign object has not been resolved
+     */
+    public int getSlot()
+    {
+        return this.slot;
+    }
+
+    /**
+     * Sets the frame slot of the Assign object's variable
+     *
+     * @param slot the slot of the variable in an array-backed Environment frame
+     */
+    public void setSlot(int slot)
+    {
+        this.slot = slot;
+    }
 }
@@ -4,38 +4,40 @@ package ast;
  * BinOp represents binary operator expressions
  * 
  * @author Rohan Thakur
- * @version 1/11/22
+ * @version 10/18/26
  */
-public class BinOp extends Expression
+public final class BinOp extends Expression
 {
 
-    private String op;
+    private Operator op;
     private Expression exp1;
     private Expression exp2;
+    private int hash;
 
     /**
      * BinOp constructor for the construction of a binary operator expression with two expressions
      * separated by a binary operator
      *
-     * @param op the binary operator as a String
+     * @param op the binary operator
      * @param exp1 the Expression object that represents the expression on the left-hand side of the
      * binary operator
      * @param exp2 the Expression object that represents the expression on the right-hand side of
      * the binary operator
      */
-    public BinOp(String op, Expression exp1, Expression exp2)
+    public BinOp(Operator op, Expression exp1, Expression exp2)
     {
         this.op = op;
         this.exp1 = exp1;
         this.exp2 = exp2;
+        this.hash = (op.ordinal() * 31 + exp1.hashCode()) * 31 + exp2.hashCode();
     }
 
     /**
      * Gets the BinOp object's binary operator
      * 
-     * @return the binary operator as a String
+     * @return the binary operator
      */
-    public String getOp()
+    public Operator getOp()
     {
         return this.op;
     }
@@ -61,4 +63,31 @@ public class BinOp extends Expression
     {
         return this.exp2;
     }
+
+    /**
+     * Determines whether the input object is structurally equal to this BinOp
+     *
+     * @param other the object to compare to
+     * @return true if the object is a BinOp with the same operator and structurally equal operands,
+     * otherwise false
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+            return true;
+        return other instanceof BinOp binop && binop.hash == this.hash && binop.op == this.op &&
+               binop.exp1.equals(this.exp1) && binop.exp2.equals(this.exp2);
+    }
+
+    /**
+     * Computes a hash code that is consistent with equals
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
 }
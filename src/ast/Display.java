@@ -6,7 +6,7 @@ package ast;
  * @author Rohan Thakur
  * @version 1/10/22
  */
-public class Display extends Statement
+public final class Display extends Statement
 {
     private Expression exp;
     private Read readStmt;
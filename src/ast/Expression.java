@@ -1,12 +1,13 @@
 package ast;
 
 /**
- * Expression is the overarching abstract class representing any expression
+ * Expression is the overarching abstract class representing any expression. The hierarchy is
+ * sealed so that switches over expressions are checked for exhaustiveness.
  * 
  * @author Rohan Thakur
- * @version 1/10/22
+ * @version 10/18/26
  */
-public abstract class Expression
+public abstract sealed class Expression permits BinOp, MultiplyHigh, Number, Shift, Variable
 {
     
 }
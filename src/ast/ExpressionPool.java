@@ -0,0 +1,74 @@
+package ast;
+
+import java.util.*;
+
+/**
+ * ExpressionPool hash-conses Expressions: it keeps one canonical instance of every structurally
+ * distinct expression, so that identical subtrees are shared instead of repeated. Variables are
+ * shared too, which is safe only because the Resolver gives every occurrence of a name the same
+ * slot, so a pool must never be shared between programs.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ExpressionPool
+{
+    private HashMap<Expression, Expression> pool;
+
+    /**
+     * ExpressionPool constructor for the construction of an empty pool
+     */
+    public ExpressionPool()
+    {
+        this.pool = new HashMap<Expression, Expression>();
+    }
+
+    /**
+     * Gets the canonical instance of the input expression, whose operands must already be
+     * canonical, making the expression canonical if the pool has no equal expression yet
+     *
+     * @param exp the input expression
+     * @return the canonical expression that is structurally equal to the input one
+     * @precondition the operands of the expression were returned by this pool
+     */
+    public Expression intern(Expression exp)
+    {
+        Expression ret = pool.putIfAbsent(exp, exp);
+        return ret != null ? ret : exp;
+    }
+
+    /**
+     * Gets the canonical instance of the input expression, interning all of its subexpressions
+     * first
+     *
+     * @param exp the input expression, whose operands need not be canonical
+     * @return the canonical expression that is structurally equal to the input one
+     */
+    public Expression internTree(Expression exp)
+    {
+        Expression canonical = pool.get(exp);
+        if (canonical != null)
+            return canonical;
+        return intern(switch (exp)
+        {
+            case Number num -> num;
+            case Variable var -> var;
+            case BinOp binop -> new BinOp(binop.getOp(), internTree(binop.getExp1()),
+                                          internTree(binop.getExp2()));
+            case Shift shift -> new Shift(shift.getKind(), internTree(shift.getExp()),
+                                          shift.getDistance());
+            case MultiplyHigh product -> new MultiplyHigh(internTree(product.getExp()),
+                                                          product.getMultiplier());
+        });
+    }
+
+    /**
+     * Gets the number of distinct expressions in the pool
+     *
+     * @return the number of canonical expressions
+     */
+    public int size()
+    {
+        return pool.size();
+    }
+}
@@ -6,7 +6,7 @@ package ast;
  * @author Rohan Thakur
  * @version 1/11/22
  */
-public class If extends Statement
+public final class If extends Statement
 {
     private Expression exp;
     private Program trueProgram;
@@ -0,0 +1,85 @@
+package ast;
+
+/**
+ * MultiplyHigh represents the high 32 bits of the 64-bit product of an integer expression and a
+ * constant, which division by a constant is rewritten into. MultiplyHigh expressions have no
+ * source syntax; only optimization passes create them.
+ * 
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class MultiplyHigh extends Expression
+{
+    private Expression exp;
+    private int multiplier;
+
+    /**
+     * MultiplyHigh constructor for the construction of a high-half product of the input expression
+     *
+     * @param exp the Expression object that represents the expression to multiply
+     * @param multiplier the constant to multiply by
+     */
+    public MultiplyHigh(Expression exp, int multiplier)
+    {
+        this.exp = exp;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Gets the expression being multiplied
+     *
+     * @return the Expression object that represents the expression to multiply
+     */
+    public Expression getExp()
+    {
+        return this.exp;
+    }
+
+    /**
+     * Gets the constant being multiplied by
+     *
+     * @return the multiplier
+     */
+    public int getMultiplier()
+    {
+        return this.multiplier;
+    }
+
+    /**
+     * Applies the multiplication to the input value
+     *
+     * @param value the value to multiply
+     * @return the high 32 bits of the signed 64-bit product of the value and the multiplier
+     */
+    public int apply(int value)
+    {
+        return (int) (((long) value * multiplier) >> 32);
+    }
+
+    /**
+     * Determines whether the input object is structurally equal to this MultiplyHigh
+     *
+     * @param other the object to compare to
+     * @return true if the object is a MultiplyHigh by the same multiplier of a structurally equal
+     * expression, otherwise false
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+            return true;
+        return other instanceof MultiplyHigh product && product.multiplier == this.multiplier &&
+               product.exp.equals(this.exp);
+    }
+
+    /**
+     * Computes a hash code that is consistent with equals
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return exp.hashCode() * 31 + multiplier;
+    }
+}
@@ -4,9 +4,9 @@ package ast;
  * Number represents an integer
  * 
  * @author Rohan Thakur
- * @version 1/10/22
+ * @version 10/18/26
  */
-public class Number extends Expression
+public final class Number extends Expression
 {
     private int value;
 
@@ -29,4 +29,27 @@ public class Number extends Expression
     {
         return this.value;
     }
+
+    /**
+     * Determines whether the input object is structurally equal to this Number
+     *
+     * @param other the object to compare to
+     * @return true if the object is a Number with the same value, otherwise false
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        return other instanceof Number num && num.value == this.value;
+    }
+
+    /**
+     * Computes a hash code that is consistent with equals
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Integer.hashCode(value);
+    }
 }
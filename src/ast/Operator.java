@@ -0,0 +1,108 @@
+package ast;
+
+/**
+ * Operator enumerates the binary operators of BinOp expressions. The Parser resolves each
+ * operator token to its Operator once, so no engine compares operator strings at run time.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public enum Operator
+{
+    PLUS("+"),
+    MINUS("-"),
+    TIMES("*"),
+    DIVIDE("/"),
+    EQ("="),
+    NE("<>"),
+    LT("<"),
+    GT(">"),
+    LE("<="),
+    GE(">=");
+
+    private final String symbol;
+
+    /**
+     * Operator constructor for the construction of an operator with the input source symbol
+     *
+     * @param symbol the symbol of the operator in source code
+     */
+    Operator(String symbol)
+    {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gets the symbol of the operator in source code
+     *
+     * @return the symbol
+     */
+    public String getSymbol()
+    {
+        return symbol;
+    }
+
+    /**
+     * Determines whether the operator is a comparison
+     *
+     * @return true if the operator evaluates to 1 or 0, false if it is arithmetic
+     */
+    public boolean isComparison()
+    {
+        return ordinal() >= EQ.ordinal();
+    }
+
+    /**
+     * Gets the comparison that holds exactly when this one holds with its operands swapped
+     *
+     * @return the swapped comparison, or this operator if swapping its operands does not change it
+     * @precondition the operator is a comparison
+     */
+    public Operator swap()
+    {
+        switch (this)
+        {
+            case LT: return GT;
+            case GT: return LT;
+            case LE: return GE;
+            case GE: return LE;
+            default: return this;
+        }
+    }
+
+    /**
+     * Applies the operator to the input operands
+     *
+     * @param a the left-hand operand
+     * @param b the right-hand operand
+     * @return the result, taking the value of comparisons to be 1 if true and 0 if false
+     * @throws ArithmeticException if the operator is DIVIDE and b is 0
+     */
+    public int apply(int a, int b)
+    {
+        switch (this)
+        {
+            case PLUS: return a + b;
+            case MINUS: return a - b;
+            case TIMES: return a * b;
+            case DIVIDE: return a / b;
+            case EQ: return a == b ? 1 : 0;
+            case NE: return a != b ? 1 : 0;
+            case LT: return a < b ? 1 : 0;
+            case GT: return a > b ? 1 : 0;
+            case LE: return a <= b ? 1 : 0;
+            default: return a >= b ? 1 : 0;
+        }
+    }
+
+    /**
+     * Gets the symbol of the operator in source code
+     *
+     * @return the symbol
+     */
+    @Override
+    public String toString()
+    {
+        return symbol;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 public class Program
 {
     private List<Statement> stmts;
+    private String[] slotNames;
 
     /**
      * Program constructor for the construction of a program with an input list of statements to be
@@ -33,4 +34,25 @@ public class Program
         return this.stmts;
     }
 
+    /**
+     * Gets the names of the variables that the Resolver assigned to frame slots
+     *
+     * @return the array of variable names indexed by slot, or null if the program has not been
+     * resolved
+     */
+    public String[] getSlotNames()
+    {
+        return this.slotNames;
+    }
+
+    /**
+     * Sets the names of the variables that have been assigned to frame slots
+     *
+     * @param slotNames the array of variable names indexed by slot
+     */
+    public void setSlotNames(String[] slotNames)
+    {
+        this.slotNames = slotNames;
+    }
+
 }
@@ -6,9 +6,10 @@ package ast;
  * @author Rohan Thakur
  * @version 1/10/22
  */
-public class Read extends Statement
+public final class Read extends Statement
 {
     private String var;
+    private int slot;
 
     /**
      * Read constructor for the construction of a read statement that prompts the user to provide a
@@ -19,6 +20,7 @@ public class Read extends Statement
     public Read(String var)
     {
         this.var = var;
+        this.slot = -1;
     }
 
     /**
@@ -30,4 +32,24 @@ public class Read extends Statement
     {
         return this.var;
     }
+
+    /**
+     * Gets the frame slot that the Resolver assigned to the Read object's variable
+     *
+     * @return the slot of the variable, or -1 if the Read object has not been resolved
+     */
+    public int getSlot()
+    {
+        return this.slot;
+    }
+
+    /**
+     * Sets the frame slot of the Read object's variable
+     *
+     * @param slot the slot of the variable in an array-backed Environment frame
+     */
+    public void setSlot(int slot)
+    {
+        this.slot = slot;
+    }
 }
@@ -0,0 +1,112 @@
+package ast;
+
+/**
+ * Shift represents shifting an integer expression by a constant distance. Shift expressions have
+ * no source syntax; only optimization passes create them.
+ * 
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Shift extends Expression
+{
+    /**
+     * Kind enumerates the directions of a shift
+     */
+    public enum Kind
+    {
+        LEFT,
+        RIGHT,
+        UNSIGNED_RIGHT
+    }
+
+    private Kind kind;
+    private Expression exp;
+    private int distance;
+
+    /**
+     * Shift constructor for the construction of a shift of the input expression
+     *
+     * @param kind the direction of the shift
+     * @param exp the Expression object that represents the expression to shift
+     * @param distance the number of bits to shift by, from 0 to 31
+     */
+    public Shift(Kind kind, Expression exp, int distance)
+    {
+        this.kind = kind;
+        this.exp = exp;
+        this.distance = distance;
+    }
+
+    /**
+     * Gets the direction of the shift
+     *
+     * @return the kind of the shift
+     */
+    public Kind getKind()
+    {
+        return this.kind;
+    }
+
+    /**
+     * Gets the expression being shifted
+     *
+     * @return the Expression object that represents the expression to shift
+     */
+    public Expression getExp()
+    {
+        return this.exp;
+    }
+
+    /**
+     * Gets the number of bits to shift by
+     *
+     * @return the distance of the shift
+     */
+    public int getDistance()
+    {
+        return this.distance;
+    }
+
+    /**
+     * Applies the shift to the input value
+     *
+     * @param value the value to shift
+     * @return the shifted value, as Java's <<, >>, or >>> operator computes it
+     */
+    public int apply(int value)
+    {
+        switch (kind)
+        {
+            case LEFT: return value << distance;
+            case RIGHT: return value >> distance;
+            default: return value >>> distance;
+        }
+    }
+
+    /**
+     * Determines whether the input object is structurally equal to this Shift
+     *
+     * @param other the object to compare to
+     * @return true if the object is a Shift of the same kind and distance of a structurally equal
+     * expression, otherwise false
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+            return true;
+        return other instanceof Shift shift && shift.kind == this.kind &&
+               shift.distance == this.distance && shift.exp.equals(this.exp);
+    }
+
+    /**
+     * Computes a hash code that is consistent with equals
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return (exp.hashCode() * 31 + kind.ordinal()) * 31 + distance;
+    }
+}
@@ -1,12 +1,13 @@
 package ast;
 
 /**
- * Statement is the overarching abstract class representing any statement
+ * Statement is the overarching abstract class representing any statement. The hierarchy is sealed
+ * so that switches over statements are checked for exhaustiveness.
  * 
  * @author Rohan Thakur
- * @version 1/10/22
+ * @version 10/18/26
  */
-public abstract class Statement
+public abstract sealed class Statement permits Assign, Display, If, Read, While
 {
     
 }
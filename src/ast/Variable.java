@@ -4,11 +4,12 @@ package ast;
  * Variable represents a variable
  * 
  * @author Rohan Thakur
- * @version 1/10/22
+ * @version 10/18/26
  */
-public class Variable extends Expression
+public final class Variable extends Expression
 {
     private String name;
+    private int slot;
 
     /**
      * Variable constructor for the construction of a variable with the input name
@@ -18,6 +19,7 @@ public class Variable extends Expression
     public Variable(String name)
     {
         this.name = name;
+        this.slot = -1;
     }
 
     /**
@@ -29,4 +31,48 @@ public class Variable extends Expression
     {
         return this.name;
     }
+
+    /**
+     * Gets the frame slot that the Resolver assigned to the Variable object's variable
+     *
+     * @return the slot of the variable, or -1 if the Variable object has not been resolved
+     */
+    public int getSlot()
+    {
+        return this.slot;
+    }
+
+    /**
+     * Sets the frame slot of the Variable object's variable
+     *
+     * @param slot the slot of the variable in an array-backed Environment frame
+     */
+    public void setSlot(int slot)
+    {
+        this.slot = slot;
+    }
+
+    /**
+     * Determines whether the input object is structurally equal to this Variable
+     *
+     * @param other the object to compare to
+     * @return true if the object is a Variable with the same name, whatever the slots of the two,
+     * otherwise false
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        return other instanceof Variable var && var.name.equals(this.name);
+    }
+
+    /**
+     * Computes a hash code that is consistent with equals
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return name.hashCode();
+    }
 }
@@ -6,7 +6,7 @@ package ast;
  * @author Rohan Thakur
  * @version 1/11/22
  */
-public class While extends Statement
+public final class While extends Statement
 {
     private Expression exp;
     private Program program;
@@ -0,0 +1,104 @@
+package cache;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+import ast.Program;
+import parser.Parser;
+import scanner.Scanner;
+
+/**
+ * CacheBenchmark compares loading a program from a DiskCache with scanning and parsing its source,
+ * after first checking that the cached program encodes to exactly the bytes of the parsed one
+ *
+ * Usage: java cache.CacheBenchmark [source file] [iterations]
+ * Without a source file, a synthetic program of roughly 1 MB is generated. The cache lives in a
+ * temporary directory that is deleted afterwards.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class CacheBenchmark
+{
+    private static final String SAMPLE =
+        "assign counter = 0\n" +
+        "assign total = 12345 * (counter + 67) / 8 - -9\n" +
+        "while counter <= 1000 do\n" +
+        "    assign total = total + counter * 31\n" +
+        "    if total <> 0 then display total else display counter end\n" +
+        "    assign counter = counter + 1\n" +
+        "end\n" +
+        "display total >= 42 read answer\n";
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args the command-line input args: an optional source file and iteration count
+     * @throws IOException if the source file cannot be read or the cache cannot be written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        byte[] source;
+        if (args.length > 0)
+            source = Files.readAllBytes(Paths.get(args[0]));
+        else
+        {
+            StringBuilder sb = new StringBuilder();
+            while (sb.length() < (1 << 20))
+                sb.append(SAMPLE);
+            source = sb.append(".").toString().getBytes(StandardCharsets.ISO_8859_1);
+        }
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Path directory = Files.createTempDirectory("ast-cache");
+        try
+        {
+            DiskCache cache = new DiskCache(directory);
+            byte[] expected = ProgramCodec.encode(parse(source));
+            cache.load(source);
+            byte[] actual = ProgramCodec.encode(cache.load(source));
+            if (!Arrays.equals(expected, actual) || cache.getHits() != 1)
+                throw new IllegalStateException("Cached and parsed programs differ");
+            System.out.println(source.length + " source bytes, " + expected.length +
+                               " encoded bytes");
+
+            for (int i = 0; i < iterations; i++)
+            {
+                long start = System.nanoTime();
+                parse(source);
+                long parseTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                cache.load(source);
+                long cacheTime = System.nanoTime() - start;
+
+                System.out.printf("iteration %d: scan+parse %.2f ms, cache %.2f ms (%.1fx)%n", i,
+                                  parseTime / 1e6, cacheTime / 1e6,
+                                  (double) parseTime / cacheTime);
+            }
+        }
+        finally
+        {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory))
+            {
+                for (Path entry : entries)
+                    Files.delete(entry);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Scans and parses the input source
+     *
+     * @param source the bytes of the source
+     * @return the parsed program
+     */
+    private static Program parse(byte[] source)
+    {
+        return new Parser(new Scanner(new String(source, StandardCharsets.ISO_8859_1)))
+                   .parseProgram();
+    }
+}
@@ -0,0 +1,116 @@
+package cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+import ast.Program;
+
+/**
+ * CacheTester tests that the program caches reject a source that does not scan by throwing an
+ * IllegalArgumentException instead of ending the process, and that they keep compiling other
+ * sources afterwards
+ *
+ * Usage: java cache.CacheTester
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class CacheTester
+{
+    private static final String SCAN_ERROR = "display 1 # 2 .";
+    private static final String VALID = "display 1 + 2 .";
+
+    /**
+     * Tests the program caches
+     *
+     * @param args the command-line input args
+     * @throws IOException if the DiskCache's temporary directory cannot be written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        testProgramCache();
+        System.out.println("ProgramCache: ok");
+        testDiskCache();
+        System.out.println("DiskCache: ok");
+    }
+
+    /**
+     * Tests that a ProgramCache rejects a source that does not scan and caches nothing for it
+     *
+     * @throws IllegalStateException when the cache does not behave as expected
+     */
+    private static void testProgramCache()
+    {
+        ProgramCache cache = new ProgramCache(4, ProgramCache.Policy.LRU);
+        try
+        {
+            cache.get(SCAN_ERROR);
+            throw new IllegalStateException("ProgramCache compiled " + SCAN_ERROR);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+        if (cache.size() != 0)
+            throw new IllegalStateException("ProgramCache kept a failed compilation");
+        Program program = cache.get(VALID);
+        if (program.getStmts().size() != 1 || cache.size() != 1)
+            throw new IllegalStateException("ProgramCache did not compile " + VALID);
+    }
+
+    /**
+     * Tests that a DiskCache rejects a source that does not scan, both when it has no entry for
+     * the source and when its entry is damaged and the source is parsed again
+     *
+     * @throws IOException if the temporary directory cannot be written
+     * @throws IllegalStateException when the cache does not behave as expected
+     */
+    private static void testDiskCache() throws IOException
+    {
+        Path directory = Files.createTempDirectory("ast-cache");
+        try
+        {
+            DiskCache cache = new DiskCache(directory);
+            byte[] source = SCAN_ERROR.getBytes(StandardCharsets.ISO_8859_1);
+            expectRejected(cache, source);
+            Files.write(directory.resolve(DiskCache.key(source) + ".v" + ProgramCodec.VERSION +
+                                          ".ast"), new byte[] {1, 2, 3});
+            expectRejected(cache, source);
+            Program program = cache.load(VALID.getBytes(StandardCharsets.ISO_8859_1));
+            if (program.getStmts().size() != 1 || cache.getMisses() != 3)
+                throw new IllegalStateException("DiskCache did not compile " + VALID);
+        }
+        finally
+        {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory))
+            {
+                for (Path entry : entries)
+                    Files.delete(entry);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Checks that loading the input source from the input DiskCache throws an
+     * IllegalArgumentException
+     *
+     * @param cache the cache to load the source from
+     * @param source the bytes of a source that does not scan
+     * @throws IOException if the cache cannot be written
+     * @throws IllegalStateException when the source loads
+     */
+    private static void expectRejected(DiskCache cache, byte[] source) throws IOException
+    {
+        try
+        {
+            cache.load(source);
+            throw new IllegalStateException("DiskCache compiled " + SCAN_ERROR);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package cache;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import ast.Program;
+import parser.Parser;
+import scanner.Scanner;
+
+/**
+ * DiskCache keeps the parsed programs of source files in a directory, keyed by the SHA-256 hash
+ * of the source bytes. On a hit the program is decoded from the memory-mapped entry without
+ * scanning or parsing the source at all; on a miss the source is parsed and the program is
+ * encoded into a new entry. The name of every entry carries the ProgramCodec version, so changing
+ * the binary form leaves the old entries unread, and an entry that does not decode is parsed
+ * afresh and overwritten.
+ *
+ * Entries are written to a temporary file and moved into place, so processes that share the
+ * directory never read a partly written entry.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class DiskCache
+{
+    private Path directory;
+    private long hits;
+    private long misses;
+
+    /**
+     * DiskCache constructor for the construction of a cache in the input directory
+     *
+     * @param directory the directory of the cache, which is created if it does not exist
+     * @throws IOException when the directory cannot be created
+     */
+    public DiskCache(Path directory) throws IOException
+    {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Gets the program of the input source file, from the cache if it holds one
+     *
+     * @param source the path of the source file
+     * @return the parsed program, which has not been resolved
+     * @throws IOException when the source file cannot be read or the entry cannot be written
+     */
+    public Program load(Path source) throws IOException
+    {
+        return load(Files.readAllBytes(source));
+    }
+
+    /**
+     * Gets the program of the input source, from the cache if it holds one
+     *
+     * @param source the bytes of the source
+     * @return the parsed program, which has not been resolved
+     * @throws IOException when the entry cannot be written
+     * @throws IllegalArgumentException when the source does not parse
+     */
+    public Program load(byte[] source) throws IOException
+    {
+        Path entry = directory.resolve(key(source) + ".v" + ProgramCodec.VERSION + ".ast");
+        if (Files.exists(entry))
+        {
+            try
+            {
+                Program program = ProgramCodec.decode(map(entry));
+                hits++;
+                return program;
+            }
+            catch (IllegalArgumentException | IOException e)
+            {
+                // a damaged entry is replaced below
+            }
+        }
+        misses++;
+        Program program = new Parser(new Scanner(new String(source, StandardCharsets.ISO_8859_1)))
+                              .parseProgram();
+        Path temp = Files.createTempFile(directory, "entry", ".tmp");
+        try
+        {
+            Files.write(temp, ProgramCodec.encode(program));
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE,
+                       StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally
+        {
+            Files.deleteIfExists(temp);
+        }
+        return program;
+    }
+
+    /**
+     * Gets the number of loads that the cache has served
+     *
+     * @return the number of loads that decoded an entry
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Gets the number of loads that the cache could not serve
+     *
+     * @return the number of loads that parsed the source
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Computes the key of the input source
+     *
+     * @param source the bytes of the source
+     * @return the SHA-256 hash of the source in hexadecimal
+     */
+    public static String key(byte[] source)
+    {
+        try
+        {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(source));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            e.printStackTrace();
+            System.exit(-1);
+            return null;
+        }
+    }
+
+    /**
+     * Maps the input entry into memory
+     *
+     * @param entry the path of the entry
+     * @return the read-only mapping of the whole entry
+     * @throws IOException when the entry cannot be opened or mapped
+     */
+    private static MappedByteBuffer map(Path entry) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ))
+        {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
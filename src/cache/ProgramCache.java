@@ -0,0 +1,259 @@
+package cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import ast.Program;
+import optimizer.Pass;
+import parser.Parser;
+import resolver.Resolver;
+import scanner.Scanner;
+
+/**
+ * ProgramCache is a thread-safe, size-bounded map from the SHA-256 hash of a source to its
+ * compiled Program: parsed, optimized by an optional Pass, and resolved. Concurrent requests for
+ * the same source share one compilation, which the first of them performs while the others wait
+ * for its result. Once the cache is full, each new source evicts the least recently used entry,
+ * or under LFU the least frequently used one, the least recently used among equals. The entry
+ * just requested is never the one evicted.
+ *
+ * A cached Program is fully resolved before any thread can see it and must never be modified
+ * afterwards, so any number of threads may execute it at once, each with its own Environment.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ProgramCache
+{
+    /**
+     * Policy is the order in which entries are evicted
+     */
+    public enum Policy
+    {
+        LRU, LFU
+    }
+
+    private int capacity;
+    private Policy policy;
+    private Pass pass;
+    private Map<String, Entry> entries;
+    private TreeSet<Entry> order;
+    private long tick;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * ProgramCache constructor for the construction of a cache of programs that are only parsed
+     * and resolved
+     *
+     * @param capacity the largest number of programs to keep
+     * @param policy the order in which entries are evicted
+     */
+    public ProgramCache(int capacity, Policy policy)
+    {
+        this(capacity, policy, null);
+    }
+
+    /**
+     * ProgramCache constructor for the construction of a cache of programs that are optimized
+     * by the input pass before they are resolved
+     *
+     * @param capacity the largest number of programs to keep
+     * @param policy the order in which entries are evicted
+     * @param pass the optimization to run on every parsed program, or null for none; it is only
+     * ever run by one thread at a time
+     * @throws IllegalArgumentException when the capacity is not positive
+     */
+    public ProgramCache(int capacity, Policy policy, Pass pass)
+    {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Illegal cache capacity: " + capacity);
+        this.capacity = capacity;
+        this.policy = policy;
+        this.pass = pass;
+        this.entries = new HashMap<String, Entry>();
+        this.order = new TreeSet<Entry>();
+    }
+
+    /**
+     * Gets the compiled program of the input source, compiling it unless the cache holds it or
+     * another thread is compiling it already
+     *
+     * @param source the source of the program
+     * @return the compiled program, which is shared and must not be modified
+     * @throws IllegalArgumentException when the source does not parse
+     */
+    public Program get(String source)
+    {
+        String key = DiskCache.key(source.getBytes(StandardCharsets.ISO_8859_1));
+        Entry entry;
+        boolean compiles = false;
+        synchronized (this)
+        {
+            entry = entries.get(key);
+            if (entry != null)
+            {
+                hits++;
+                order.remove(entry);
+            }
+            else
+            {
+                misses++;
+                entry = new Entry(key);
+                entries.put(key, entry);
+                compiles = true;
+            }
+            entry.uses++;
+            entry.lastUse = tick++;
+            order.add(entry);
+            while (entries.size() > capacity)
+            {
+                Entry evicted = order.first();
+                if (evicted == entry)
+                    evicted = order.higher(entry);
+                order.remove(evicted);
+                entries.remove(evicted.key);
+                evictions++;
+            }
+        }
+
+        if (compiles)
+        {
+            try
+            {
+                entry.program.complete(compile(source));
+            }
+            catch (RuntimeException | Error e)
+            {
+                entry.program.completeExceptionally(e);
+                remove(entry);
+            }
+        }
+        try
+        {
+            return entry.program.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of requests that found their program in the cache
+     *
+     * @return the number of hits, including requests that waited for another thread to compile
+     */
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that compiled their program
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Gets the number of entries evicted to keep the cache within its capacity
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Gets the number of programs in the cache
+     *
+     * @return the number of entries, including those still being compiled
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Compiles the input source
+     *
+     * @param source the source of the program
+     * @return the parsed, optimized, and resolved program
+     */
+    private Program compile(String source)
+    {
+        Program program = new Parser(new Scanner(source)).parseProgram();
+        if (pass != null)
+        {
+            synchronized (pass)
+            {
+                program = pass.run(program);
+            }
+        }
+        new Resolver().resolve(program);
+        return program;
+    }
+
+    /**
+     * Removes the input entry, whose compilation failed, unless it has been evicted already
+     *
+     * @param entry the entry to remove
+     */
+    private synchronized void remove(Entry entry)
+    {
+        if (entries.get(entry.key) == entry)
+        {
+            entries.remove(entry.key);
+            order.remove(entry);
+        }
+    }
+
+    /**
+     * Entry is a cached program, ordered with the next entry to evict first
+     */
+    private class Entry implements Comparable<Entry>
+    {
+        private String key;
+        private CompletableFuture<Program> program;
+        private long uses;
+        private long lastUse;
+
+        /**
+         * Entry constructor for the construction of an entry whose program is not compiled yet
+         *
+         * @param key the hash of the source of the program
+         */
+        private Entry(String key)
+        {
+            this.key = key;
+            this.program = new CompletableFuture<Program>();
+        }
+
+        /**
+         * Compares this entry with the input entry by the eviction policy of the cache
+         *
+         * @param other the entry to compare with
+         * @return a negative number if this entry is to be evicted first, a positive number if
+         * the other one is, or 0 if they are the same entry
+         */
+        @Override
+        public int compareTo(Entry other)
+        {
+            if (policy == Policy.LFU && uses != other.uses)
+                return Long.compare(uses, other.uses);
+            return Long.compare(lastUse, other.lastUse);
+        }
+    }
+}
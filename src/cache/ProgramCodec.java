@@ -0,0 +1,457 @@
+package cache;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * ProgramCodec converts Programs to and from a compact binary form. The form is a header of a
+ * magic number and the format version followed by a stream of records. Each expression and each
+ * name is defined by a record of its own, in post-order, just before the first statement that
+ * uses it, and is referred to afterwards by the index of its definition, so an expression shared
+ * by several statements is stored once and is decoded back into a single shared node. Each
+ * program is its statement count followed by its statements in order, with the programs nested in
+ * While and If statements written out right after them.
+ *
+ * Both directions walk the tree with explicit stacks, so programs nested arbitrarily deeply
+ * round-trip without overflowing the Java stack. The slots assigned by the Resolver are not
+ * stored; a decoded program is resolved afresh before it is executed.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class ProgramCodec
+{
+    /**
+     * The version of the binary form, which changes whenever the form does
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x50415354;
+
+    private static final int NAME = 0;
+    private static final int NUMBER = 1;
+    private static final int VARIABLE = 2;
+    private static final int BINOP = 3;
+    private static final int SHIFT = 4;
+    private static final int MULTIPLY_HIGH = 5;
+    private static final int ASSIGN = 16;
+    private static final int DISPLAY = 17;
+    private static final int DISPLAY_READ = 18;
+    private static final int READ = 19;
+    private static final int IF = 20;
+    private static final int IF_ELSE = 21;
+    private static final int WHILE = 22;
+    private static final int MIN_STATEMENT = 5;
+
+    private static final Operator[] OPERATORS = Operator.values();
+    private static final Shift.Kind[] SHIFT_KINDS = Shift.Kind.values();
+
+    private DataOutputStream out;
+    private Map<Expression, Integer> expressions;
+    private Map<String, Integer> names;
+
+    /**
+     * ProgramCodec constructor for the construction of an encoder that writes to the input stream
+     *
+     * @param out the stream to write records to
+     */
+    private ProgramCodec(DataOutputStream out)
+    {
+        this.out = out;
+        this.expressions = new IdentityHashMap<Expression, Integer>();
+        this.names = new HashMap<String, Integer>();
+    }
+
+    /**
+     * Encodes the input program
+     *
+     * @param program the input program
+     * @return the binary form of the program
+     */
+    public static byte[] encode(Program program)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try
+        {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            new ProgramCodec(out).write(program);
+            out.flush();
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the records of the input program and of every program nested in it
+     *
+     * @param program the input program
+     * @throws IOException never, since the records are written to memory
+     */
+    private void write(Program program) throws IOException
+    {
+        Deque<Object> work = new ArrayDeque<Object>();
+        work.push(program);
+        while (!work.isEmpty())
+        {
+            Object item = work.pop();
+            if (item instanceof Program nested)
+            {
+                List<Statement> stmts = nested.getStmts();
+                out.writeInt(stmts.size());
+                for (int i = stmts.size() - 1; i >= 0; i--)
+                    work.push(stmts.get(i));
+                continue;
+            }
+            switch ((Statement) item)
+            {
+                case Assign assign ->
+                {
+                    int exp = define(assign.getExp());
+                    int var = name(assign.getVar());
+                    out.writeByte(ASSIGN);
+                    out.writeInt(var);
+                    out.writeInt(exp);
+                }
+                case Display display ->
+                {
+                    int exp = define(display.getExpression());
+                    if (display.getReadStmt() == null)
+                    {
+                        out.writeByte(DISPLAY);
+                        out.writeInt(exp);
+                        continue;
+                    }
+                    int var = name(display.getReadStmt().getVar());
+                    out.writeByte(DISPLAY_READ);
+                    out.writeInt(exp);
+                    out.writeInt(var);
+                }
+                case Read readStmt ->
+                {
+                    int var = name(readStmt.getVar());
+                    out.writeByte(READ);
+                    out.writeInt(var);
+                }
+                case If ifStmt ->
+                {
+                    int exp = define(ifStmt.getExpression());
+                    out.writeByte(ifStmt.getFalseProgram() != null ? IF_ELSE : IF);
+                    out.writeInt(exp);
+                    if (ifStmt.getFalseProgram() != null)
+                        work.push(ifStmt.getFalseProgram());
+                    work.push(ifStmt.getTrueProgram());
+                }
+                case While whileStmt ->
+                {
+                    int exp = define(whileStmt.getExpression());
+                    out.writeByte(WHILE);
+                    out.writeInt(exp);
+                    work.push(whileStmt.getProgram());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the definitions of the input expression and of its subexpressions that have not been
+     * defined yet, operands before the expressions that use them
+     *
+     * @param exp the input expression
+     * @return the index of the definition of the expression
+     * @throws IOException never, since the records are written to memory
+     */
+    private int define(Expression exp) throws IOException
+    {
+        Deque<Expression> pending = new ArrayDeque<Expression>();
+        pending.push(exp);
+        while (!pending.isEmpty())
+        {
+            Expression top = pending.peek();
+            if (expressions.containsKey(top))
+            {
+                pending.pop();
+                continue;
+            }
+            boolean ready = true;
+            for (Expression operand : operands(top))
+            {
+                if (!expressions.containsKey(operand))
+                {
+                    pending.push(operand);
+                    ready = false;
+                }
+            }
+            if (!ready)
+                continue;
+            pending.pop();
+            switch (top)
+            {
+                case Number num ->
+                {
+                    out.writeByte(NUMBER);
+                    out.writeInt(num.getValue());
+                }
+                case Variable var ->
+                {
+                    int name = name(var.getName());
+                    out.writeByte(VARIABLE);
+                    out.writeInt(name);
+                }
+                case BinOp binop ->
+                {
+                    out.writeByte(BINOP);
+                    out.writeByte(binop.getOp().ordinal());
+                    out.writeInt(expressions.get(binop.getExp1()));
+                    out.writeInt(expressions.get(binop.getExp2()));
+                }
+                case Shift shift ->
+                {
+                    out.writeByte(SHIFT);
+                    out.writeByte(shift.getKind().ordinal());
+                    out.writeInt(expressions.get(shift.getExp()));
+                    out.writeByte(shift.getDistance());
+                }
+                case MultiplyHigh product ->
+                {
+                    out.writeByte(MULTIPLY_HIGH);
+                    out.writeInt(expressions.get(product.getExp()));
+                    out.writeInt(product.getMultiplier());
+                }
+            }
+            expressions.put(top, expressions.size());
+        }
+        return expressions.get(exp);
+    }
+
+    /**
+     * Writes the definition of the input name unless it has been defined already
+     *
+     * @param name the name of a variable
+     * @return the index of the definition of the name
+     * @throws IOException never, since the records are written to memory
+     */
+    private int name(String name) throws IOException
+    {
+        Integer index = names.get(name);
+        if (index != null)
+            return index;
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(NAME);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        names.put(name, names.size());
+        return names.size() - 1;
+    }
+
+    /**
+     * Gets the operands of the input expression
+     *
+     * @param exp the input expression
+     * @return the expressions that the input expression applies its operation to
+     */
+    private static List<Expression> operands(Expression exp)
+    {
+        return switch (exp)
+        {
+            case BinOp binop -> List.of(binop.getExp1(), binop.getExp2());
+            case Shift shift -> List.of(shift.getExp());
+            case MultiplyHigh product -> List.of(product.getExp());
+            default -> List.of();
+        };
+    }
+
+    /**
+     * Decodes the binary form of a program from the input buffer
+     *
+     * @param buffer the buffer positioned at the start of the binary form
+     * @return the decoded program
+     * @throws IllegalArgumentException when the buffer does not hold exactly one program in the
+     * current version of the binary form
+     */
+    public static Program decode(ByteBuffer buffer)
+    {
+        try
+        {
+            if (buffer.getInt() != MAGIC)
+                throw new IllegalArgumentException("Not an encoded program");
+            int version = buffer.getInt();
+            if (version != VERSION)
+                throw new IllegalArgumentException("Unsupported program format version: " +
+                                                   version);
+            return read(buffer);
+        }
+        catch (RuntimeException e)
+        {
+            if (e instanceof IllegalArgumentException)
+                throw e;
+            throw new IllegalArgumentException("Corrupt encoded program", e);
+        }
+    }
+
+    /**
+     * Reads the records of a program and of every program nested in it from the input buffer.
+     * Every length and statement count is checked against the bytes left before anything is
+     * allocated for it, so a damaged buffer cannot make the decoder run out of memory.
+     *
+     * @param buffer the buffer positioned just after the header
+     * @return the decoded program
+     * @throws IllegalArgumentException when a length or count does not fit in the buffer or bytes
+     * are left over after the program
+     */
+    private static Program read(ByteBuffer buffer)
+    {
+        List<Expression> exps = new ArrayList<Expression>();
+        List<String> names = new ArrayList<String>();
+        Deque<Block> blocks = new ArrayDeque<Block>();
+        Block block = new Block(0, null, null, count(buffer, MIN_STATEMENT));
+        while (true)
+        {
+            if (block.remaining == 0)
+            {
+                Program program = new Program(block.stmts);
+                if (block.kind == 0)
+                {
+                    if (buffer.hasRemaining())
+                        throw new IllegalArgumentException("Corrupt encoded program: " +
+                                                           buffer.remaining() + " trailing bytes");
+                    return program;
+                }
+                Block parent = blocks.pop();
+                if (block.kind == IF_ELSE && block.trueProgram == null)
+                {
+                    blocks.push(parent);
+                    block = new Block(IF_ELSE, block.condition, program,
+                                      count(buffer, MIN_STATEMENT));
+                    continue;
+                }
+                if (block.kind == WHILE)
+                    parent.stmts.add(new While(block.condition, program));
+                else if (block.kind == IF)
+                    parent.stmts.add(new If(block.condition, program, null));
+                else
+                    parent.stmts.add(new If(block.condition, block.trueProgram, program));
+                block = parent;
+                continue;
+            }
+
+            int tag = buffer.get();
+            switch (tag)
+            {
+                case NAME:
+                    byte[] bytes = new byte[count(buffer, 1)];
+                    buffer.get(bytes);
+                    names.add(new String(bytes, StandardCharsets.UTF_8));
+                    break;
+                case NUMBER:
+                    exps.add(new Number(buffer.getInt()));
+                    break;
+                case VARIABLE:
+                    exps.add(new Variable(names.get(buffer.getInt())));
+                    break;
+                case BINOP:
+                    Operator op = OPERATORS[buffer.get()];
+                    Expression exp1 = exps.get(buffer.getInt());
+                    exps.add(new BinOp(op, exp1, exps.get(buffer.getInt())));
+                    break;
+                case SHIFT:
+                    Shift.Kind kind = SHIFT_KINDS[buffer.get()];
+                    Expression shifted = exps.get(buffer.getInt());
+                    exps.add(new Shift(kind, shifted, buffer.get()));
+                    break;
+                case MULTIPLY_HIGH:
+                    Expression multiplied = exps.get(buffer.getInt());
+                    exps.add(new MultiplyHigh(multiplied, buffer.getInt()));
+                    break;
+                case ASSIGN:
+                    block.remaining--;
+                    String var = names.get(buffer.getInt());
+                    block.stmts.add(new Assign(var, exps.get(buffer.getInt())));
+                    break;
+                case DISPLAY:
+                    block.remaining--;
+                    block.stmts.add(new Display(exps.get(buffer.getInt()), null));
+                    break;
+                case DISPLAY_READ:
+                    block.remaining--;
+                    Expression displayed = exps.get(buffer.getInt());
+                    block.stmts.add(new Display(displayed, new Read(names.get(buffer.getInt()))));
+                    break;
+                case READ:
+                    block.remaining--;
+                    block.stmts.add(new Read(names.get(buffer.getInt())));
+                    break;
+                case IF:
+                case IF_ELSE:
+                case WHILE:
+                    block.remaining--;
+                    blocks.push(block);
+                    Expression condition = exps.get(buffer.getInt());
+                    block = new Block(tag, condition, null, count(buffer, MIN_STATEMENT));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Corrupt encoded program: record " + tag);
+            }
+        }
+    }
+
+    /**
+     * Reads a length or count from the input buffer, checking that the items it counts fit in the
+     * bytes left
+     *
+     * @param buffer the buffer positioned at the length or count
+     * @param size the fewest bytes that each counted item takes up
+     * @return the length or count
+     * @throws IllegalArgumentException when the value is negative or more items than the bytes
+     * left can hold
+     */
+    private static int count(ByteBuffer buffer, int size)
+    {
+        int ret = buffer.getInt();
+        if (ret < 0 || ret > buffer.remaining() / size)
+            throw new IllegalArgumentException("Corrupt encoded program: length " + ret + " with " +
+                                               buffer.remaining() + " bytes left");
+        return ret;
+    }
+
+    /**
+     * Block is a program whose statements are still being decoded, together with the statement
+     * that the program will become part of
+     */
+    private static class Block
+    {
+        private int kind;
+        private Expression condition;
+        private Program trueProgram;
+        private int remaining;
+        private List<Statement> stmts;
+
+        /**
+         * Block constructor for the construction of an empty program
+         *
+         * @param kind 0 for the whole program, WHILE for the body of a While statement, or IF or
+         * IF_ELSE for a program of an If statement
+         * @param condition the condition of the enclosing While or If statement
+         * @param trueProgram the already decoded true program if this is the false program
+         * @param remaining the number of statements of the program
+         */
+        private Block(int kind, Expression condition, Program trueProgram, int remaining)
+        {
+            this.kind = kind;
+            this.condition = condition;
+            this.trueProgram = trueProgram;
+            this.remaining = remaining;
+            this.stmts = new ArrayList<Statement>(Math.min(remaining, 1 << 10));
+        }
+    }
+}
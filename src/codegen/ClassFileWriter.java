@@ -0,0 +1,272 @@
+package codegen;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * ClassFileWriter assembles a minimal JVM class file: a constant pool, a public final class that
+ * extends Object and implements a list of interfaces, and methods whose Code attributes are
+ * produced by CodeBuffer
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class ClassFileWriter
+{
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int MAJOR_VERSION = 52;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private ByteArrayOutputStream pool;
+    private DataOutputStream poolOut;
+    private int poolCount;
+    private HashMap<String, Integer> poolIndices;
+    private int thisClass;
+    private int superClass;
+    private List<Integer> interfaces;
+    private ByteArrayOutputStream methods;
+    private DataOutputStream methodsOut;
+    private int methodCount;
+
+    /**
+     * ClassFileWriter constructor for the construction of a class file for the class with the
+     * input internal name (such as "codegen/Compiled")
+     *
+     * @param className the internal name of the class
+     */
+    public ClassFileWriter(String className)
+    {
+        this.pool = new ByteArrayOutputStream();
+        this.poolOut = new DataOutputStream(pool);
+        this.poolCount = 1;
+        this.poolIndices = new HashMap<String, Integer>();
+        this.interfaces = new ArrayList<Integer>();
+        this.methods = new ByteArrayOutputStream();
+        this.methodsOut = new DataOutputStream(methods);
+        this.methodCount = 0;
+        this.thisClass = classRef(className);
+        this.superClass = classRef("java/lang/Object");
+    }
+
+    /**
+     * Adds an interface that the class implements
+     *
+     * @param interfaceName the internal name of the interface
+     */
+    public void addInterface(String interfaceName)
+    {
+        interfaces.add(classRef(interfaceName));
+    }
+
+    /**
+     * Gets the constant pool index of the class being written
+     *
+     * @return the index of the class's CONSTANT_Class entry
+     */
+    public int thisClass()
+    {
+        return thisClass;
+    }
+
+    /**
+     * Adds a constant pool entry unless an identical entry already exists
+     *
+     * @param key a description of the entry that is unique to its contents
+     * @param tag the constant pool tag of the entry
+     * @param body the bytes of the entry that follow its tag
+     * @param slots the number of constant pool slots the entry occupies
+     * @return the index of the entry
+     */
+    private int constant(String key, int tag, byte[] body, int slots)
+    {
+        Integer index = poolIndices.get(key);
+        if (index != null)
+            return index;
+        try
+        {
+            poolOut.writeByte(tag);
+            poolOut.write(body);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        index = poolCount;
+        poolCount += slots;
+        if (poolCount > 0xFFFF)
+            throw new IllegalStateException("Constant pool overflow");
+        poolIndices.put(key, index);
+        return index;
+    }
+
+    /**
+     * Packs the input unsigned 16-bit values into bytes
+     *
+     * @param values the values to pack
+     * @return the big-endian bytes of the values
+     */
+    private static byte[] u2(int... values)
+    {
+        byte[] ret = new byte[2 * values.length];
+        for (int i = 0; i < values.length; i++)
+        {
+            ret[2 * i] = (byte) (values[i] >> 8);
+            ret[2 * i + 1] = (byte) values[i];
+        }
+        return ret;
+    }
+
+    /**
+     * Adds a CONSTANT_Utf8 entry
+     *
+     * @param value the string value
+     * @return the index of the entry
+     */
+    public int utf8(String value)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try
+        {
+            new DataOutputStream(bytes).writeUTF(value);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return constant("Utf8 " + value, 1, bytes.toByteArray(), 1);
+    }
+
+    /**
+     * Adds a CONSTANT_Integer entry
+     *
+     * @param value the int value
+     * @return the index of the entry
+     */
+    public int integer(int value)
+    {
+        return constant("Integer " + value, 3, new byte[] {
+            (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value
+        }, 1);
+    }
+
+    /**
+     * Adds a CONSTANT_String entry
+     *
+     * @param value the string value
+     * @return the index of the entry
+     */
+    public int string(String value)
+    {
+        return constant("String " + value, 8, u2(utf8(value)), 1);
+    }
+
+    /**
+     * Adds a CONSTANT_Class entry
+     *
+     * @param internalName the internal name of the class
+     * @return the index of the entry
+     */
+    public int classRef(String internalName)
+    {
+        return constant("Class " + internalName, 7, u2(utf8(internalName)), 1);
+    }
+
+    /**
+     * Adds a CONSTANT_Methodref entry
+     *
+     * @param owner the internal name of the class that declares the method
+     * @param name the name of the method
+     * @param descriptor the method descriptor
+     * @return the index of the entry
+     */
+    public int methodRef(String owner, String name, String descriptor)
+    {
+        int nameAndType = constant("NameAndType " + name + descriptor, 12,
+                                   u2(utf8(name), utf8(descriptor)), 1);
+        return constant("Methodref " + owner + "." + name + descriptor, 10,
+                        u2(classRef(owner), nameAndType), 1);
+    }
+
+    /**
+     * Adds a method to the class
+     *
+     * @param name the name of the method
+     * @param descriptor the method descriptor
+     * @param code the CodeBuffer holding the method's code
+     */
+    public void addMethod(String name, String descriptor, CodeBuffer code)
+    {
+        int codeName = utf8("Code");
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        byte[] stackMap = code.stackMapTable();
+        int stackMapName = stackMap != null ? utf8("StackMapTable") : 0;
+        byte[] bytecode = code.toByteArray();
+        byte[] exceptionTable = code.exceptionTable();
+        try
+        {
+            methodsOut.writeShort(ACC_PUBLIC);
+            methodsOut.writeShort(nameIndex);
+            methodsOut.writeShort(descriptorIndex);
+            methodsOut.writeShort(1);
+            methodsOut.writeShort(codeName);
+            int stackMapLength = stackMap != null ? 6 + stackMap.length : 0;
+            methodsOut.writeInt(10 + bytecode.length + exceptionTable.length + stackMapLength);
+            methodsOut.writeShort(code.maxStack());
+            methodsOut.writeShort(code.maxLocals());
+            methodsOut.writeInt(bytecode.length);
+            methodsOut.write(bytecode);
+            methodsOut.write(exceptionTable);
+            if (stackMap != null)
+            {
+                methodsOut.writeShort(1);
+                methodsOut.writeShort(stackMapName);
+                methodsOut.writeInt(stackMap.length);
+                methodsOut.write(stackMap);
+            }
+            else
+                methodsOut.writeShort(0);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        methodCount++;
+    }
+
+    /**
+     * Assembles the class file
+     *
+     * @return the bytes of the class file
+     */
+    public byte[] toByteArray()
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try
+        {
+            out.writeInt(MAGIC);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.size());
+            for (int index : interfaces)
+                out.writeShort(index);
+            out.writeShort(0);
+            out.writeShort(methodCount);
+            methods.writeTo(out);
+            out.writeShort(0);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,418 @@
+package codegen;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * CodeBuffer accumulates the bytecode of a single method. It tracks the operand stack depth of
+ * every instruction it emits, resolves forward and backward branches through Labels, and builds
+ * the method's StackMapTable and exception table. The generated code only ever keeps ints on the
+ * operand stack at branch targets and its locals never change type after the method prologue, so
+ * every frame is a full frame with the same locals and a stack of ints, except that an exception
+ * handler starts with the exception alone on the stack.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class CodeBuffer
+{
+    public static final int ICONST_0 = 0x03;
+    public static final int BIPUSH = 0x10;
+    public static final int SIPUSH = 0x11;
+    public static final int LDC = 0x12;
+    public static final int LDC_W = 0x13;
+    public static final int ILOAD = 0x15;
+    public static final int ALOAD = 0x19;
+    public static final int ISTORE = 0x36;
+    public static final int POP = 0x57;
+    public static final int SWAP = 0x5f;
+    public static final int IADD = 0x60;
+    public static final int ISUB = 0x64;
+    public static final int IMUL = 0x68;
+    public static final int LMUL = 0x69;
+    public static final int IDIV = 0x6c;
+    public static final int ISHL = 0x78;
+    public static final int ISHR = 0x7a;
+    public static final int IUSHR = 0x7c;
+    public static final int LSHR = 0x7b;
+    public static final int I2L = 0x85;
+    public static final int L2I = 0x88;
+    public static final int IFEQ = 0x99;
+    public static final int IFNE = 0x9a;
+    public static final int IF_ICMPEQ = 0x9f;
+    public static final int IF_ICMPNE = 0xa0;
+    public static final int IF_ICMPLT = 0xa1;
+    public static final int IF_ICMPGE = 0xa2;
+    public static final int IF_ICMPGT = 0xa3;
+    public static final int IF_ICMPLE = 0xa4;
+    public static final int GOTO = 0xa7;
+    public static final int RETURN = 0xb1;
+    public static final int ATHROW = 0xbf;
+    public static final int INVOKEVIRTUAL = 0xb6;
+    public static final int INVOKESPECIAL = 0xb7;
+    public static final int WIDE = 0xc4;
+
+    private static final int MAX_BRANCH = Short.MAX_VALUE;
+
+    /**
+     * Label marks a position in the code that branches can jump to
+     */
+    public static class Label
+    {
+        private int offset = -1;
+        private List<Integer> fixups = new ArrayList<Integer>();
+    }
+
+    private byte[] code;
+    private int length;
+    private int depth;
+    private int maxStack;
+    private int maxLocals;
+    private TreeMap<Integer, Integer> frames;
+    private TreeMap<Integer, Integer> handlerTypes;
+    private List<int[]> handlers;
+    private byte[] frameLocals;
+    private int frameLocalCount;
+
+    /**
+     * CodeBuffer constructor for the construction of an empty method body
+     *
+     * @param maxLocals the number of local variable slots the method uses
+     */
+    public CodeBuffer(int maxLocals)
+    {
+        this.code = new byte[256];
+        this.length = 0;
+        this.depth = 0;
+        this.maxStack = 0;
+        this.maxLocals = maxLocals;
+        this.frames = new TreeMap<Integer, Integer>();
+        this.handlerTypes = new TreeMap<Integer, Integer>();
+        this.handlers = new ArrayList<int[]>();
+    }
+
+    /**
+     * Sets the verification types of the locals that every stack map frame of the method lists
+     *
+     * @param locals the encoded verification_type_info entries of the locals
+     * @param count the number of locals described by the entries
+     */
+    public void setFrameLocals(byte[] locals, int count)
+    {
+        this.frameLocals = locals;
+        this.frameLocalCount = count;
+    }
+
+    /**
+     * Appends a byte to the code
+     *
+     * @param b the byte to append; only its low 8 bits are used
+     */
+    private void write(int b)
+    {
+        if (length == code.length)
+            code = Arrays.copyOf(code, 2 * length);
+        code[length++] = (byte) b;
+    }
+
+    /**
+     * Records the change in operand stack depth caused by an instruction
+     *
+     * @param delta the number of values pushed minus the number of values popped
+     */
+    private void stack(int delta)
+    {
+        depth += delta;
+        maxStack = Math.max(maxStack, depth);
+    }
+
+    /**
+     * Emits a single-byte instruction
+     *
+     * @param opcode the opcode of the instruction
+     * @param delta the change in stack depth caused by the instruction
+     */
+    public void op(int opcode, int delta)
+    {
+        write(opcode);
+        stack(delta);
+    }
+
+    /**
+     * Emits an instruction followed by a 16-bit constant pool index
+     *
+     * @param opcode the opcode of the instruction
+     * @param index the constant pool index
+     * @param delta the change in stack depth caused by the instruction
+     */
+    public void op16(int opcode, int index, int delta)
+    {
+        write(opcode);
+        write(index >> 8);
+        write(index);
+        stack(delta);
+    }
+
+    /**
+     * Emits an instruction that pushes an int constant onto the stack
+     *
+     * @param value the constant to push
+     * @param pool the class file whose constant pool holds large constants
+     */
+    public void pushInt(int value, ClassFileWriter pool)
+    {
+        if (value >= -1 && value <= 5)
+            op(ICONST_0 + value, 1);
+        else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+        {
+            write(BIPUSH);
+            write(value);
+            stack(1);
+        }
+        else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+        {
+            write(SIPUSH);
+            write(value >> 8);
+            write(value);
+            stack(1);
+        }
+        else
+            loadConstant(pool.integer(value));
+    }
+
+    /**
+     * Emits an instruction that pushes a constant pool entry onto the stack
+     *
+     * @param index the constant pool index of the entry
+     */
+    public void loadConstant(int index)
+    {
+        if (index <= 0xFF)
+        {
+            write(LDC);
+            write(index);
+            stack(1);
+        }
+        else
+            op16(LDC_W, index, 1);
+    }
+
+    /**
+     * Emits an instruction that loads or stores a local variable
+     *
+     * @param opcode ILOAD, ALOAD, or ISTORE
+     * @param local the index of the local variable
+     */
+    public void local(int opcode, int local)
+    {
+        if (local > 0xFF)
+        {
+            write(WIDE);
+            op16(opcode, local, opcode == ISTORE ? -1 : 1);
+        }
+        else
+        {
+            write(opcode);
+            write(local);
+            stack(opcode == ISTORE ? -1 : 1);
+        }
+    }
+
+    /**
+     * Emits a branch instruction to the input label
+     *
+     * @param opcode the opcode of the branch
+     * @param label the label to branch to
+     * @param delta the change in stack depth caused by the branch
+     */
+    public void branch(int opcode, Label label, int delta)
+    {
+        int start = length;
+        write(opcode);
+        stack(delta);
+        if (label.offset >= 0)
+        {
+            int offset = label.offset - start;
+            write(offset >> 8);
+            write(offset);
+        }
+        else
+        {
+            label.fixups.add(start);
+            write(0);
+            write(0);
+        }
+    }
+
+    /**
+     * Places the input label at the current position in the code
+     *
+     * @param label the label to place
+     * @param labelDepth the stack depth at the label, which may differ from the depth of the
+     * instruction that precedes it when that instruction is an unconditional branch
+     */
+    public void place(Label label, int labelDepth)
+    {
+        label.offset = length;
+        depth = labelDepth;
+        frames.put(label.offset, depth);
+        for (int start : label.fixups)
+        {
+            int offset = label.offset - start;
+            code[start + 1] = (byte) (offset >> 8);
+            code[start + 2] = (byte) offset;
+        }
+    }
+
+    /**
+     * Makes the current position in the code the handler of every exception thrown by the
+     * instructions in the input range. The handler starts with the exception alone on the operand
+     * stack.
+     *
+     * @param start the offset of the first instruction of the range
+     * @param end the offset just past the last instruction of the range
+     * @param exceptionClass the constant pool index of the class that the stack map gives the
+     * exception; exceptions of every class are caught
+     * @precondition start < end, and the locals hold their frame types throughout the range
+     */
+    public void placeHandler(int start, int end, int exceptionClass)
+    {
+        handlers.add(new int[] {start, end, length});
+        handlerTypes.put(length, exceptionClass);
+        frames.put(length, 1);
+        depth = 1;
+        maxStack = Math.max(maxStack, depth);
+    }
+
+    /**
+     * Gets the current operand stack depth
+     *
+     * @return the number of values on the operand stack
+     */
+    public int depth()
+    {
+        return depth;
+    }
+
+    /**
+     * Gets the length of the code emitted so far
+     *
+     * @return the number of bytes of code
+     */
+    public int size()
+    {
+        return length;
+    }
+
+    /**
+     * Determines whether every branch in the method fits in a 16-bit branch offset
+     *
+     * @return true if the method can be assembled, false if it is too large
+     */
+    public boolean fits()
+    {
+        return length <= MAX_BRANCH;
+    }
+
+    /**
+     * Gets the maximum operand stack depth of the method
+     *
+     * @return the maximum stack depth
+     */
+    public int maxStack()
+    {
+        return maxStack;
+    }
+
+    /**
+     * Gets the number of local variable slots of the method
+     *
+     * @return the number of locals
+     */
+    public int maxLocals()
+    {
+        return maxLocals;
+    }
+
+    /**
+     * Gets the code of the method
+     *
+     * @return the bytecode
+     */
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf(code, length);
+    }
+
+    /**
+     * Builds the exception table of the method's Code attribute
+     *
+     * @return the exception table, preceded by its length
+     */
+    public byte[] exceptionTable()
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try
+        {
+            out.writeShort(handlers.size());
+            for (int[] handler : handlers)
+            {
+                out.writeShort(handler[0]);
+                out.writeShort(handler[1]);
+                out.writeShort(handler[2]);
+                out.writeShort(0);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Builds the StackMapTable attribute of the method, with one full frame per branch target and
+     * exception handler
+     *
+     * @return the body of the StackMapTable attribute, or null if the method has no branches
+     */
+    public byte[] stackMapTable()
+    {
+        if (frames.isEmpty())
+            return null;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try
+        {
+            out.writeShort(frames.size());
+            int previous = -1;
+            for (Map.Entry<Integer, Integer> frame : frames.entrySet())
+            {
+                int offset = frame.getKey();
+                out.writeByte(255);
+                out.writeShort(offset - previous - 1);
+                out.writeShort(frameLocalCount);
+                out.write(frameLocals);
+                out.writeShort(frame.getValue());
+                Integer exceptionClass = handlerTypes.get(offset);
+                if (exceptionClass != null)
+                {
+                    out.writeByte(7);
+                    out.writeShort(exceptionClass);
+                }
+                else
+                {
+                    for (int i = 0; i < frame.getValue(); i++)
+                        out.writeByte(1);
+                }
+                previous = offset;
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,22 @@
+package codegen;
+
+import environment.Environment;
+
+/**
+ * CompiledProgram is implemented by the hidden classes that JvmCompiler generates; each one runs
+ * a single compiled Program
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface CompiledProgram
+{
+    /**
+     * Runs the compiled program
+     *
+     * @precondition the environment is using the frame layout of the compiled program
+     * @param env the environment that holds the program's variables
+     * @param runtime the runtime helper that performs display and read statements
+     */
+    void run(Environment env, RuntimeSupport runtime);
+}
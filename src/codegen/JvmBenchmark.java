@@ -0,0 +1,116 @@
+package codegen;
+
+import java.io.*;
+import java.nio.file.*;
+
+import ast.Program;
+import environment.Environment;
+import evaluator.Engine;
+import evaluator.Evaluator;
+import parser.Parser;
+import scanner.Scanner;
+
+/**
+ * JvmBenchmark compares the run time of the tree-walking Evaluator with that of the JvmCompiler on
+ * a numeric program, after first checking that both produce the same output
+ *
+ * Usage: java codegen.JvmBenchmark [source file] [iterations]
+ * Without a source file, a built-in nested-loop program is used.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class JvmBenchmark
+{
+    private static final String PROGRAM =
+        "assign total = 0\n" +
+        "assign i = 0\n" +
+        "while i < 2000 do\n" +
+        "    assign j = 0\n" +
+        "    while j < 1000 do\n" +
+        "        assign total = total + i * j / (j + 1) - (i - j) * 3\n" +
+        "        if total > 1000000 then assign total = total - 999999 end\n" +
+        "        assign j = j + 1\n" +
+        "    end\n" +
+        "    assign i = i + 1\n" +
+        "end\n" +
+        "display total\n" +
+        ".";
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args the command-line input args: an optional source file and iteration count
+     * @throws IOException if the source file cannot be read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String source = args.length > 0 ? new String(Files.readAllBytes(Paths.get(args[0]))) :
+                        PROGRAM;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Program program = new Parser(new Scanner(source)).parseProgram();
+        Engine evaluator = new Evaluator();
+        Engine compiler = new JvmCompiler();
+
+        String expected = capture(evaluator, program);
+        String actual = capture(compiler, program);
+        if (!expected.equals(actual))
+            throw new IllegalStateException("Evaluator and JvmCompiler output differ");
+        System.out.print(expected);
+
+        for (int i = 0; i < iterations; i++)
+        {
+            long evaluatorTime = time(evaluator, program);
+            long compilerTime = time(compiler, program);
+            System.out.printf("iteration %d: Evaluator %.1f ms, JvmCompiler %.1f ms (%.1fx)%n", i,
+                              evaluatorTime / 1e6, compilerTime / 1e6,
+                              (double) evaluatorTime / compilerTime);
+        }
+    }
+
+    /**
+     * Runs the input program with the input engine and captures everything it displays
+     *
+     * @param engine the engine to run the program with
+     * @param program the program to run
+     * @return the displayed output of the program
+     */
+    private static String capture(Engine engine, Program program)
+    {
+        PrintStream out = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true));
+        try
+        {
+            engine.exec(program, new Environment());
+        }
+        finally
+        {
+            System.setOut(out);
+        }
+        return bytes.toString();
+    }
+
+    /**
+     * Times one run of the input program with the input engine, discarding its output
+     *
+     * @param engine the engine to run the program with
+     * @param program the program to run
+     * @return the run time in nanoseconds
+     */
+    private static long time(Engine engine, Program program)
+    {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try
+        {
+            long start = System.nanoTime();
+            engine.exec(program, new Environment());
+            return System.nanoTime() - start;
+        }
+        finally
+        {
+            System.setOut(out);
+        }
+    }
+}
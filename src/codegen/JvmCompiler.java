@@ -0,0 +1,425 @@
+package codegen;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+import environment.Environment;
+import evaluator.Engine;
+import evaluator.Evaluator;
+import resolver.Resolver;
+
+/**
+ * JvmCompiler executes Programs by compiling them to JVM bytecode. Every variable becomes a JVM
+ * local, While and If statements become native branches, and display and read statements call a
+ * RuntimeSupport helper. The locals are stored back into the Environment when the program
+ * returns, and also when it throws, so that the Environment holds the values they had at the
+ * error, as it does under the Evaluator. The generated class is loaded as a hidden class so that
+ * HotSpot can optimize it like any other code. Programs whose code does not fit in a single
+ * method are run by the Evaluator instead.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class JvmCompiler implements Engine
+{
+    private static final String CLASS_NAME = "codegen/CompiledProgramImpl";
+    private static final String ENVIRONMENT = "environment/Environment";
+    private static final String RUNTIME = "codegen/RuntimeSupport";
+    private static final String RUN_DESCRIPTOR = "(L" + ENVIRONMENT + ";L" + RUNTIME + ";)V";
+    private static final int ENV_LOCAL = 1;
+    private static final int RUNTIME_LOCAL = 2;
+    private static final int FIRST_VAR_LOCAL = 3;
+
+    private static final CompiledProgram INTERPRET = (env, runtime) -> { };
+
+    private Map<Program, CompiledProgram> compiled;
+    private RuntimeSupport runtime;
+    private Evaluator fallback;
+
+    private ClassFileWriter classFile;
+    private CodeBuffer code;
+
+    /**
+     * JvmCompiler constructor for the construction of a compiler whose compiled programs display
+     * and read through the standard RuntimeSupport
+     */
+    public JvmCompiler()
+    {
+        this.compiled = Collections.synchronizedMap(new WeakHashMap<Program, CompiledProgram>());
+        this.runtime = new RuntimeSupport();
+        this.fallback = new Evaluator();
+    }
+
+    /**
+     * Executes the input program under the input environment, compiling it the first time it is
+     * executed, and flushes what it displayed once it finishes or throws
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    @Override
+    public void exec(Program program, Environment env)
+    {
+        CompiledProgram ret = compiled.get(program);
+        if (ret == null)
+        {
+            ret = compile(program);
+            compiled.put(program, ret);
+        }
+        if (ret == INTERPRET)
+        {
+            fallback.exec(program, env);
+            return;
+        }
+        env.useFrame(program.getSlotNames());
+        try
+        {
+            ret.run(env, runtime);
+        }
+        finally
+        {
+            runtime.flush();
+        }
+    }
+
+    /**
+     * Compiles the input program to a hidden class, resolving its variables first if it has not
+     * been resolved yet
+     *
+     * @param program the input program
+     * @return the compiled program, or INTERPRET if the program is too large for one JVM method
+     */
+    public synchronized CompiledProgram compile(Program program)
+    {
+        if (program.getSlotNames() == null)
+            new Resolver().resolve(program);
+        int vars = program.getSlotNames().length;
+        if (FIRST_VAR_LOCAL + vars > 0xFFFF)
+            return INTERPRET;
+
+        classFile = new ClassFileWriter(CLASS_NAME);
+        classFile.addInterface("codegen/CompiledProgram");
+        compileConstructor();
+
+        code = new CodeBuffer(FIRST_VAR_LOCAL + vars);
+        byte[] locals = new byte[9 + vars];
+        int[] objects = {
+            classFile.thisClass(), classFile.classRef(ENVIRONMENT), classFile.classRef(RUNTIME)
+        };
+        for (int i = 0; i < objects.length; i++)
+        {
+            locals[3 * i] = 7;
+            locals[3 * i + 1] = (byte) (objects[i] >> 8);
+            locals[3 * i + 2] = (byte) objects[i];
+        }
+        Arrays.fill(locals, 9, locals.length, (byte) 1);
+        code.setFrameLocals(locals, FIRST_VAR_LOCAL + vars);
+
+        int getSlot = classFile.methodRef(ENVIRONMENT, "getSlot", "(I)I");
+        for (int i = 0; i < vars; i++)
+        {
+            code.local(CodeBuffer.ALOAD, ENV_LOCAL);
+            code.pushInt(i, classFile);
+            code.op16(CodeBuffer.INVOKEVIRTUAL, getSlot, -1);
+            code.local(CodeBuffer.ISTORE, FIRST_VAR_LOCAL + i);
+        }
+        int start = code.size();
+        compile(program.getStmts());
+        int end = code.size();
+        compileStores(vars);
+        code.op(CodeBuffer.RETURN, 0);
+        if (vars > 0 && end > start)
+        {
+            code.placeHandler(start, end, classFile.classRef("java/lang/Throwable"));
+            compileStores(vars);
+            code.op(CodeBuffer.ATHROW, -1);
+        }
+        if (!code.fits())
+            return INTERPRET;
+        classFile.addMethod("run", RUN_DESCRIPTOR, code);
+
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                                                       .defineHiddenClass(classFile.toByteArray(),
+                                                                          true);
+            return (CompiledProgram) lookup.findConstructor(lookup.lookupClass(),
+                                                            MethodType.methodType(void.class))
+                                           .invoke();
+        }
+        catch (Throwable e)
+        {
+            throw new IllegalStateException("Could not load compiled program", e);
+        }
+        finally
+        {
+            classFile = null;
+            code = null;
+        }
+    }
+
+    /**
+     * Compiles the no-argument constructor of the generated class
+     */
+    private void compileConstructor()
+    {
+        CodeBuffer init = new CodeBuffer(1);
+        init.local(CodeBuffer.ALOAD, 0);
+        init.op16(CodeBuffer.INVOKESPECIAL, classFile.methodRef("java/lang/Object", "<init>", "()V"),
+                  -1);
+        init.op(CodeBuffer.RETURN, 0);
+        classFile.addMethod("<init>", "()V", init);
+    }
+
+    /**
+     * Compiles the stores of every variable's local back into its slot of the Environment
+     *
+     * @param vars the number of variables
+     */
+    private void compileStores(int vars)
+    {
+        int setSlot = classFile.methodRef(ENVIRONMENT, "setSlot", "(II)V");
+        for (int i = 0; i < vars; i++)
+        {
+            code.local(CodeBuffer.ALOAD, ENV_LOCAL);
+            code.pushInt(i, classFile);
+            code.local(CodeBuffer.ILOAD, FIRST_VAR_LOCAL + i);
+            code.op16(CodeBuffer.INVOKEVIRTUAL, setSlot, -3);
+        }
+    }
+
+    /**
+     * Compiles the input list of statements
+     *
+     * @param stmts the input statements
+     */
+    private void compile(List<Statement> stmts)
+    {
+        for (Statement stmt : stmts) compile(stmt);
+    }
+
+    /**
+     * Compiles the input statement
+     *
+     * @param stmt the input statement
+     */
+    private void compile(Statement stmt)
+    {
+        switch (stmt)
+        {
+            case Display display -> compile(display);
+            case Assign assign -> compile(assign);
+            case If ifStmt -> compile(ifStmt);
+            case While whileStmt -> compile(whileStmt);
+            case Read readStmt -> compile(readStmt);
+        }
+    }
+
+    /**
+     * Compiles the input display statement
+     *
+     * @param display the input Display statement
+     */
+    private void compile(Display display)
+    {
+        compile(display.getExpression());
+        code.local(CodeBuffer.ALOAD, RUNTIME_LOCAL);
+        code.op(CodeBuffer.SWAP, 0);
+        code.op16(CodeBuffer.INVOKEVIRTUAL, classFile.methodRef(RUNTIME, "display", "(I)V"), -2);
+        if (display.getReadStmt() != null) compile(display.getReadStmt());
+    }
+
+    /**
+     * Compiles the input read statement
+     *
+     * @param readStmt the input Read statement
+     */
+    private void compile(Read readStmt)
+    {
+        code.local(CodeBuffer.ALOAD, RUNTIME_LOCAL);
+        code.loadConstant(classFile.string(readStmt.getVar()));
+        code.op16(CodeBuffer.INVOKEVIRTUAL,
+                  classFile.methodRef(RUNTIME, "read", "(Ljava/lang/String;)I"), -1);
+        code.local(CodeBuffer.ISTORE, FIRST_VAR_LOCAL + readStmt.getSlot());
+    }
+
+    /**
+     * Compiles the input assign statement
+     *
+     * @param assign the input Assign statement
+     */
+    private void compile(Assign assign)
+    {
+        compile(assign.getExp());
+        code.local(CodeBuffer.ISTORE, FIRST_VAR_LOCAL + assign.getSlot());
+    }
+
+    /**
+     * Compiles the input if/if-else statement
+     *
+     * @param ifStmt the input If statement
+     */
+    private void compile(If ifStmt)
+    {
+        CodeBuffer.Label falseLabel = new CodeBuffer.Label();
+        jumpIfFalse(ifStmt.getExpression(), falseLabel);
+        compile(ifStmt.getTrueProgram().getStmts());
+        if (ifStmt.getFalseProgram() == null)
+            code.place(falseLabel, 0);
+        else
+        {
+            CodeBuffer.Label endLabel = new CodeBuffer.Label();
+            code.branch(CodeBuffer.GOTO, endLabel, 0);
+            code.place(falseLabel, 0);
+            compile(ifStmt.getFalseProgram().getStmts());
+            code.place(endLabel, 0);
+        }
+    }
+
+    /**
+     * Compiles the input While statement
+     *
+     * @param whileStmt the input While statement
+     */
+    private void compile(While whileStmt)
+    {
+        CodeBuffer.Label topLabel = new CodeBuffer.Label();
+        CodeBuffer.Label endLabel = new CodeBuffer.Label();
+        code.place(topLabel, 0);
+        jumpIfFalse(whileStmt.getExpression(), endLabel);
+        compile(whileStmt.getProgram().getStmts());
+        code.branch(CodeBuffer.GOTO, topLabel, 0);
+        code.place(endLabel, 0);
+    }
+
+    /**
+     * Compiles a branch to the input label that is taken when the input condition is false.
+     * Comparisons branch directly on their operands instead of materializing 0 or 1.
+     *
+     * @param exp the condition
+     * @param label the label to branch to when the condition is false
+     */
+    private void jumpIfFalse(Expression exp, CodeBuffer.Label label)
+    {
+        if (exp instanceof BinOp binop && binop.getOp().isComparison())
+        {
+            compile(binop.getExp1());
+            compile(binop.getExp2());
+            code.branch(negate(compareOpcode(binop.getOp())), label, -2);
+            return;
+        }
+        compile(exp);
+        code.branch(CodeBuffer.IFEQ, label, -1);
+    }
+
+    /**
+     * Gets the if_icmp opcode that branches when the input comparison operator holds
+     *
+     * @param op the comparison operator
+     * @return the opcode
+     * @precondition op is a comparison
+     */
+    private static int compareOpcode(Operator op)
+    {
+        switch (op)
+        {
+            case EQ: return CodeBuffer.IF_ICMPEQ;
+            case NE: return CodeBuffer.IF_ICMPNE;
+            case LT: return CodeBuffer.IF_ICMPLT;
+            case GT: return CodeBuffer.IF_ICMPGT;
+            case LE: return CodeBuffer.IF_ICMPLE;
+            default: return CodeBuffer.IF_ICMPGE;
+        }
+    }
+
+    /**
+     * Gets the if_icmp opcode that branches exactly when the input one does not
+     *
+     * @param opcode the input if_icmp opcode
+     * @return the negated opcode
+     */
+    private static int negate(int opcode)
+    {
+        switch (opcode)
+        {
+            case CodeBuffer.IF_ICMPEQ: return CodeBuffer.IF_ICMPNE;
+            case CodeBuffer.IF_ICMPNE: return CodeBuffer.IF_ICMPEQ;
+            case CodeBuffer.IF_ICMPLT: return CodeBuffer.IF_ICMPGE;
+            case CodeBuffer.IF_ICMPGE: return CodeBuffer.IF_ICMPLT;
+            case CodeBuffer.IF_ICMPGT: return CodeBuffer.IF_ICMPLE;
+            default: return CodeBuffer.IF_ICMPGT;
+        }
+    }
+
+    /**
+     * Compiles the input expression, leaving its value on top of the operand stack. A
+     * MultiplyHigh briefly keeps longs on the stack, but never across a branch target, so every
+     * stack map frame still holds only ints.
+     *
+     * @param exp the input expression
+     */
+    private void compile(Expression exp)
+    {
+        switch (exp)
+        {
+            case Number num -> code.pushInt(num.getValue(), classFile);
+            case Variable var -> code.local(CodeBuffer.ILOAD, FIRST_VAR_LOCAL + var.getSlot());
+            case BinOp binop -> compile(binop);
+            case Shift shift ->
+            {
+                compile(shift.getExp());
+                code.pushInt(shift.getDistance(), classFile);
+                code.op(switch (shift.getKind())
+                        {
+                            case LEFT -> CodeBuffer.ISHL;
+                            case RIGHT -> CodeBuffer.ISHR;
+                            case UNSIGNED_RIGHT -> CodeBuffer.IUSHR;
+                        }, -1);
+            }
+            case MultiplyHigh product ->
+            {
+                compile(product.getExp());
+                code.op(CodeBuffer.I2L, 1);
+                code.pushInt(product.getMultiplier(), classFile);
+                code.op(CodeBuffer.I2L, 1);
+                code.op(CodeBuffer.LMUL, -2);
+                code.pushInt(32, classFile);
+                code.op(CodeBuffer.LSHR, -1);
+                code.op(CodeBuffer.L2I, -1);
+            }
+        }
+    }
+
+    /**
+     * Compiles the input BinOp expression, taking the value of boolean expressions to be 1 if true
+     * and 0 if false
+     *
+     * @param binop the input BinOp expression
+     */
+    private void compile(BinOp binop)
+    {
+        compile(binop.getExp1());
+        compile(binop.getExp2());
+        switch (binop.getOp())
+        {
+            case PLUS: code.op(CodeBuffer.IADD, -1); return;
+            case MINUS: code.op(CodeBuffer.ISUB, -1); return;
+            case TIMES: code.op(CodeBuffer.IMUL, -1); return;
+            case DIVIDE: code.op(CodeBuffer.IDIV, -1); return;
+            default: break;
+        }
+        int opcode = compareOpcode(binop.getOp());
+        CodeBuffer.Label trueLabel = new CodeBuffer.Label();
+        CodeBuffer.Label endLabel = new CodeBuffer.Label();
+        code.branch(opcode, trueLabel, -2);
+        int depth = code.depth();
+        code.op(CodeBuffer.ICONST_0, 1);
+        code.branch(CodeBuffer.GOTO, endLabel, 0);
+        code.place(trueLabel, depth);
+        code.op(CodeBuffer.ICONST_0 + 1, 1);
+        code.place(endLabel, depth + 1);
+    }
+}
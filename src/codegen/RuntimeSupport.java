@@ -0,0 +1,76 @@
+package codegen;
+
+import io.ChannelSink;
+import io.InputSource;
+import io.OutputSink;
+import io.StreamSource;
+
+/**
+ * RuntimeSupport performs the display and read statements of compiled programs, with exactly the
+ * same behavior as the Evaluator. Displayed values go to an OutputSink, which is flushed before
+ * every read prompt; the engines flush it once a program finishes. Read values come from an
+ * InputSource and are prompted for only when the source is interactive.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class RuntimeSupport
+{
+    private OutputSink out;
+    private InputSource in;
+
+    /**
+     * RuntimeSupport constructor for the construction of a runtime that displays through a
+     * buffered ChannelSink over System.out and reads from System.in
+     */
+    public RuntimeSupport()
+    {
+        this(new ChannelSink(), StreamSource.stdin());
+    }
+
+    /**
+     * RuntimeSupport constructor for the construction of a runtime that displays through the
+     * input sink and reads from the input source
+     *
+     * @param out the sink that receives displayed values
+     * @param in the source of the values of read statements
+     */
+    public RuntimeSupport(OutputSink out, InputSource in)
+    {
+        this.out = out;
+        this.in = in;
+    }
+
+    /**
+     * Displays the input value of a display statement
+     *
+     * @param value the value to display
+     */
+    public void display(int value)
+    {
+        out.display(value);
+    }
+
+    /**
+     * Reads the value of the input variable of a read statement, prompting for it if the input
+     * source is interactive once everything displayed so far has been written out
+     *
+     * @param var the name of the variable being read
+     * @return the value read
+     */
+    public int read(String var)
+    {
+        out.flush();
+        if (in.isInteractive())
+            System.out.print("Enter a value for the variable " + var + ": ");
+        return in.read();
+    }
+
+    /**
+     * Writes out every value displayed so far
+     */
+    public void flush()
+    {
+        out.flush();
+    }
+}
@@ -5,12 +5,20 @@ import java.util.HashMap;
 /**
  * Environment manages creating, updating, and fetching variables
  *
+ * An Environment starts out storing variables by name. Once a resolved program is executed, the
+ * Environment switches to an int[] frame in which each of the program's variables lives in the
+ * slot the Resolver assigned to it, so the Evaluator never hashes names or boxes values. Names
+ * remain usable for debugging and host access; they are mapped onto their slots.
+ *
  * @author Rohan Thakur
- * @version 1/10/22
+ * @version 10/18/26
  */
 public class Environment
 {
     private HashMap<String, Integer> vars;
+    private String[] slotNames;
+    private HashMap<String, Integer> slots;
+    private int[] frame;
 
     /**
      * Environment constructor for the construction of an Environment object to use for storing
@@ -21,6 +29,32 @@ public class Environment
         this.vars = new HashMap<String, Integer>();
     }
 
+    /**
+     * Switches the environment to an array-backed frame laid out with the input slot names. Any
+     * variables that have already been set by name and that have a slot are moved into the frame.
+     *
+     * @param slotNames the array of variable names indexed by slot
+     * @postcondition the variable in slot i is accessible through getSlot(i) and by name
+     */
+    public void useFrame(String[] slotNames)
+    {
+        if (this.slotNames == slotNames)
+            return;
+        HashMap<String, Integer> oldVars = this.vars;
+        if (this.frame != null)
+            for (int i = 0; i < this.frame.length; i++)
+                oldVars.put(this.slotNames[i], this.frame[i]);
+
+        this.slotNames = slotNames;
+        this.slots = new HashMap<String, Integer>();
+        this.frame = new int[slotNames.length];
+        this.vars = new HashMap<String, Integer>();
+        for (int i = 0; i < slotNames.length; i++)
+            this.slots.put(slotNames[i], i);
+        for (String name : oldVars.keySet())
+            setVariable(name, oldVars.get(name));
+    }
+
     /**
      * Sets a variable to have a given value in the current environment
      *
@@ -29,18 +63,60 @@ public class Environment
      */
     public void setVariable(String variable, int value)
     {
+        if (this.frame != null)
+        {
+            Integer slot = this.slots.get(variable);
+            if (slot != null)
+            {
+                this.frame[slot] = value;
+                return;
+            }
+        }
         this.vars.put(variable, value);
     }
 
     /**
-     * Gets the value of the input variable from the current environment
+     * Gets the value of the input variable from the current environment. Variables that have never
+     * been set hold 0, just like unset frame slots.
      *
      * @param variable the name of the input variable
-     * @return the value of the input variable
+     * @return the value of the input variable, or 0 if the variable has not been set
      */
     public int getVariable(String variable)
     {
-        return this.vars.get(variable);
+        if (this.frame != null)
+        {
+            Integer slot = this.slots.get(variable);
+            if (slot != null)
+                return this.frame[slot];
+        }
+        Integer value = this.vars.get(variable);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Sets the variable in the input frame slot to have a given value
+     *
+     * @precondition the environment is using a frame that has the input slot
+     * @param slot the slot of the variable
+     * @param value the value to assign to the variable
+     */
+    public void setSlot(int slot, int value)
+    {
+        this.frame[slot] = value;
+    }
+
+    /**
+     * Gets the value of the variable in the input frame slot. Slots that have never been set hold
+     * 0.
+     *
+     * @precondition the environment is using a frame that has the input slot
+     * @param slot the slot of the variable
+     * @return the value of the variable
+     */
+    public int getSlot(int slot)
+    {
+        return this.frame[slot];
     }
 
 }
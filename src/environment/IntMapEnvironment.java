@@ -0,0 +1,230 @@
+package environment;
+
+import java.util.Arrays;
+
+/**
+ * IntMapEnvironment is an Environment that stores variables in an open-addressing String to int
+ * table with linear probing, so host code that sets and gets variables by name at high rates
+ * never boxes a value or chases linked hash entries. Each variable also has a dense index in
+ * insertion order, which is what snapshot() and putAll(int[]) use. When a resolved program is run,
+ * the table is rebuilt so that a variable's dense index is its frame slot.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class IntMapEnvironment extends Environment
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] keys;
+    private int[] hashes;
+    private int[] values;
+    private int[] table;
+    private int size;
+    private String[] slotNames;
+
+    /**
+     * IntMapEnvironment constructor for the construction of an empty IntMapEnvironment object to
+     * use for storing variables
+     */
+    public IntMapEnvironment()
+    {
+        this.keys = new String[INITIAL_CAPACITY];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+        this.table = new int[2 * INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Spreads the bits of the input hash so that similar names probe different slots
+     *
+     * @param hash the input hash
+     * @return the mixed hash
+     */
+    private static int mix(int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Finds the dense index of the input variable
+     *
+     * @param variable the name of the variable
+     * @param hash the hash code of the name
+     * @return the dense index of the variable, or -1 if the variable has not been set
+     */
+    private int find(String variable, int hash)
+    {
+        int mask = table.length - 1;
+        for (int i = mix(hash) & mask; table[i] != 0; i = (i + 1) & mask)
+        {
+            int index = table[i] - 1;
+            if (hashes[index] == hash && keys[index].equals(variable))
+                return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the input variable, which must not be in the table yet, with a value of 0
+     *
+     * @param variable the name of the variable
+     * @param hash the hash code of the name
+     * @return the dense index of the new variable
+     */
+    private int insert(String variable, int hash)
+    {
+        if (size == keys.length)
+        {
+            int capacity = 2 * keys.length;
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+            table = new int[2 * capacity];
+            for (int index = 0; index < size; index++)
+                link(index);
+        }
+        keys[size] = variable;
+        hashes[size] = hash;
+        values[size] = 0;
+        link(size);
+        return size++;
+    }
+
+    /**
+     * Links the variable at the input dense index into the first free slot of its probe sequence
+     *
+     * @param index the dense index of the variable
+     */
+    private void link(int index)
+    {
+        int mask = table.length - 1;
+        int i = mix(hashes[index]) & mask;
+        while (table[i] != 0)
+            i = (i + 1) & mask;
+        table[i] = index + 1;
+    }
+
+    /**
+     * Sets a variable to have a given value in the current environment
+     *
+     * @param variable the name of the variable to declare
+     * @param value the value to assign to the variable
+     */
+    @Override
+    public void setVariable(String variable, int value)
+    {
+        int hash = variable.hashCode();
+        int index = find(variable, hash);
+        if (index < 0)
+            index = insert(variable, hash);
+        values[index] = value;
+    }
+
+    /**
+     * Gets the value of the input variable from the current environment
+     *
+     * @param variable the name of the input variable
+     * @return the value of the input variable, or 0 if the variable has not been set
+     */
+    @Override
+    public int getVariable(String variable)
+    {
+        int index = find(variable, variable.hashCode());
+        return index < 0 ? 0 : values[index];
+    }
+
+    /**
+     * Rebuilds the table so that the variable in slot i of the input layout has dense index i.
+     * Variables that have already been set keep their values, and variables that are not in the
+     * layout follow the slotted ones.
+     *
+     * @param slotNames the array of variable names indexed by slot
+     * @postcondition the variable in slot i is accessible through getSlot(i) and by name
+     */
+    @Override
+    public void useFrame(String[] slotNames)
+    {
+        if (this.slotNames == slotNames)
+            return;
+        this.slotNames = slotNames;
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+        int oldSize = size;
+
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < slotNames.length + oldSize)
+            capacity *= 2;
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        values = new int[capacity];
+        table = new int[2 * capacity];
+        size = 0;
+        for (String name : slotNames)
+            insert(name, name.hashCode());
+        for (int i = 0; i < oldSize; i++)
+            setVariable(oldKeys[i], oldValues[i]);
+    }
+
+    /**
+     * Sets the variable in the input frame slot to have a given value
+     *
+     * @precondition the environment is using a frame that has the input slot
+     * @param slot the slot of the variable
+     * @param value the value to assign to the variable
+     */
+    @Override
+    public void setSlot(int slot, int value)
+    {
+        values[slot] = value;
+    }
+
+    /**
+     * Gets the value of the variable in the input frame slot
+     *
+     * @precondition the environment is using a frame that has the input slot
+     * @param slot the slot of the variable
+     * @return the value of the variable
+     */
+    @Override
+    public int getSlot(int slot)
+    {
+        return values[slot];
+    }
+
+    /**
+     * Gets the names of every variable in the environment, in dense index order
+     *
+     * @return the array of variable names, which lines up with the array returned by snapshot()
+     */
+    public String[] names()
+    {
+        return Arrays.copyOf(keys, size);
+    }
+
+    /**
+     * Copies the values of every variable in the environment, in dense index order
+     *
+     * @return the array of variable values, which lines up with the array returned by names()
+     */
+    public int[] snapshot()
+    {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Sets the values of the first variables in dense index order from the input array, which is
+     * typically a snapshot() of this environment
+     *
+     * @precondition the input array is no longer than the number of variables in the environment
+     * @param newValues the values to assign, in dense index order
+     */
+    public void putAll(int[] newValues)
+    {
+        if (newValues.length > size)
+            throw new IllegalArgumentException("Expected at most " + size + " values and found " +
+                                               newValues.length);
+        System.arraycopy(newValues, 0, values, 0, newValues.length);
+    }
+}
@@ -0,0 +1,329 @@
+package evaluator;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+import codegen.RuntimeSupport;
+import environment.Environment;
+import resolver.Resolver;
+
+/**
+ * ClosureCompiler executes Programs by first walking each one a single time and turning every
+ * Expression into an IntNode and every Statement into a StmtNode. Each BinOp selects the lambda
+ * for its operator while it is being built, so running the program is a chain of small
+ * monomorphic calls over an int[] frame that HotSpot inlines well. The nodes of a program are
+ * built the first time it is executed and reused afterwards.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ClosureCompiler implements Engine
+{
+    /**
+     * IntNode is a compiled Expression
+     */
+    @FunctionalInterface
+    public interface IntNode
+    {
+        /**
+         * Evaluates the expression
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the value of the expression
+         */
+        int eval(int[] frame);
+    }
+
+    /**
+     * StmtNode is a compiled Statement
+     */
+    @FunctionalInterface
+    public interface StmtNode
+    {
+        /**
+         * Executes the statement
+         *
+         * @param frame the values of the variables indexed by slot
+         */
+        void exec(int[] frame);
+    }
+
+    private Map<Program, StmtNode> compiled;
+    private RuntimeSupport runtime;
+
+    /**
+     * ClosureCompiler constructor for the construction of an engine that displays and reads
+     * through the standard RuntimeSupport
+     */
+    public ClosureCompiler()
+    {
+        this.compiled = Collections.synchronizedMap(new WeakHashMap<Program, StmtNode>());
+        this.runtime = new RuntimeSupport();
+    }
+
+    /**
+     * Executes the input program under the input environment, building its nodes the first time
+     * it is executed. The values of the variables are copied into a frame before the program runs
+     * and back into the environment once it finishes or throws, and what it displayed is flushed.
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    @Override
+    public void exec(Program program, Environment env)
+    {
+        StmtNode node = compiled.get(program);
+        if (node == null)
+        {
+            node = compile(program);
+            compiled.put(program, node);
+        }
+        String[] slotNames = program.getSlotNames();
+        env.useFrame(slotNames);
+        int[] frame = new int[slotNames.length];
+        for (int i = 0; i < frame.length; i++)
+            frame[i] = env.getSlot(i);
+        try
+        {
+            node.exec(frame);
+        }
+        finally
+        {
+            for (int i = 0; i < frame.length; i++)
+                env.setSlot(i, frame[i]);
+            runtime.flush();
+        }
+    }
+
+    /**
+     * Builds the nodes of the input program, resolving its variables first if it has not been
+     * resolved yet
+     *
+     * @param program the input program
+     * @return the node that runs the whole program
+     */
+    public synchronized StmtNode compile(Program program)
+    {
+        if (program.getSlotNames() == null)
+            new Resolver().resolve(program);
+        return compileBlock(program.getStmts());
+    }
+
+    /**
+     * Builds the node of the input list of statements
+     *
+     * @param stmts the input statements
+     * @return the node that runs the statements in order
+     */
+    private StmtNode compileBlock(List<Statement> stmts)
+    {
+        StmtNode[] nodes = new StmtNode[stmts.size()];
+        for (int i = 0; i < nodes.length; i++)
+            nodes[i] = compile(stmts.get(i));
+        if (nodes.length == 0)
+            return frame -> { };
+        if (nodes.length == 1)
+            return nodes[0];
+        if (nodes.length == 2)
+        {
+            StmtNode first = nodes[0];
+            StmtNode second = nodes[1];
+            return frame ->
+            {
+                first.exec(frame);
+                second.exec(frame);
+            };
+        }
+        return frame ->
+        {
+            for (StmtNode node : nodes) node.exec(frame);
+        };
+    }
+
+    /**
+     * Builds the node of the input statement
+     *
+     * @param stmt the input statement
+     * @return the node that executes the statement
+     */
+    private StmtNode compile(Statement stmt)
+    {
+        return switch (stmt)
+        {
+            case Display display -> compile(display);
+            case Assign assign -> compile(assign);
+            case If ifStmt -> compile(ifStmt);
+            case While whileStmt -> compile(whileStmt);
+            case Read readStmt -> compile(readStmt);
+        };
+    }
+
+    /**
+     * Builds the node of the input display statement
+     *
+     * @param display the input Display statement
+     * @return the node that executes the statement
+     */
+    private StmtNode compile(Display display)
+    {
+        IntNode exp = compile(display.getExpression());
+        RuntimeSupport out = runtime;
+        if (display.getReadStmt() == null)
+            return frame -> out.display(exp.eval(frame));
+        StmtNode read = compile(display.getReadStmt());
+        return frame ->
+        {
+            out.display(exp.eval(frame));
+            read.exec(frame);
+        };
+    }
+
+    /**
+     * Builds the node of the input read statement
+     *
+     * @param readStmt the input Read statement
+     * @return the node that executes the statement
+     */
+    private StmtNode compile(Read readStmt)
+    {
+        RuntimeSupport in = runtime;
+        int slot = readStmt.getSlot();
+        String var = readStmt.getVar();
+        return frame -> frame[slot] = in.read(var);
+    }
+
+    /**
+     * Builds the node of the input assign statement
+     *
+     * @param assign the input Assign statement
+     * @return the node that executes the statement
+     */
+    private StmtNode compile(Assign assign)
+    {
+        IntNode exp = compile(assign.getExp());
+        int slot = assign.getSlot();
+        return frame -> frame[slot] = exp.eval(frame);
+    }
+
+    /**
+     * Builds the node of the input if/if-else statement
+     *
+     * @param ifStmt the input If statement
+     * @return the node that executes the statement
+     */
+    private StmtNode compile(If ifStmt)
+    {
+        IntNode condition = compile(ifStmt.getExpression());
+        StmtNode trueNode = compileBlock(ifStmt.getTrueProgram().getStmts());
+        if (ifStmt.getFalseProgram() == null)
+            return frame ->
+            {
+                if (condition.eval(frame) != 0) trueNode.exec(frame);
+            };
+        StmtNode falseNode = compileBlock(ifStmt.getFalseProgram().getStmts());
+        return frame ->
+        {
+            if (condition.eval(frame) != 0) trueNode.exec(frame);
+            else falseNode.exec(frame);
+        };
+    }
+
+    /**
+     * Builds the node of the input While statement
+     *
+     * @param whileStmt the input While statement
+     * @return the node that executes the statement
+     */
+    private StmtNode compile(While whileStmt)
+    {
+        IntNode condition = compile(whileStmt.getExpression());
+        StmtNode body = compileBlock(whileStmt.getProgram().getStmts());
+        return frame ->
+        {
+            while (condition.eval(frame) != 0) body.exec(frame);
+        };
+    }
+
+    /**
+     * Builds the node of the input expression
+     *
+     * @param exp the input expression
+     * @return the node that evaluates the expression
+     */
+    private IntNode compile(Expression exp)
+    {
+        switch (exp)
+        {
+            case Number num ->
+            {
+                int value = num.getValue();
+                return frame -> value;
+            }
+            case Variable var ->
+            {
+                int slot = var.getSlot();
+                return frame -> frame[slot];
+            }
+            case BinOp binop ->
+            {
+                return compile(binop);
+            }
+            case Shift shift ->
+            {
+                return compile(shift);
+            }
+            case MultiplyHigh product ->
+            {
+                IntNode exp1 = compile(product.getExp());
+                long multiplier = product.getMultiplier();
+                return frame -> (int) ((exp1.eval(frame) * multiplier) >> 32);
+            }
+        }
+    }
+
+    /**
+     * Builds the node of the input BinOp expression, selecting the lambda for its operator now
+     * instead of on every evaluation
+     *
+     * @param binop the input BinOp expression
+     * @return the node that evaluates the expression, taking the value of boolean expressions to
+     * be 1 if true and 0 if false
+     */
+    private IntNode compile(BinOp binop)
+    {
+        IntNode exp1 = compile(binop.getExp1());
+        IntNode exp2 = compile(binop.getExp2());
+        return switch (binop.getOp())
+        {
+            case PLUS -> frame -> exp1.eval(frame) + exp2.eval(frame);
+            case MINUS -> frame -> exp1.eval(frame) - exp2.eval(frame);
+            case TIMES -> frame -> exp1.eval(frame) * exp2.eval(frame);
+            case DIVIDE -> frame -> exp1.eval(frame) / exp2.eval(frame);
+            case EQ -> frame -> exp1.eval(frame) == exp2.eval(frame) ? 1 : 0;
+            case NE -> frame -> exp1.eval(frame) != exp2.eval(frame) ? 1 : 0;
+            case LT -> frame -> exp1.eval(frame) < exp2.eval(frame) ? 1 : 0;
+            case GT -> frame -> exp1.eval(frame) > exp2.eval(frame) ? 1 : 0;
+            case LE -> frame -> exp1.eval(frame) <= exp2.eval(frame) ? 1 : 0;
+            case GE -> frame -> exp1.eval(frame) >= exp2.eval(frame) ? 1 : 0;
+        };
+    }
+
+    /**
+     * Builds the node of the input Shift expression
+     *
+     * @param shift the input Shift expression
+     * @return the node that evaluates the expression
+     */
+    private IntNode compile(Shift shift)
+    {
+        IntNode exp = compile(shift.getExp());
+        int distance = shift.getDistance();
+        return switch (shift.getKind())
+        {
+            case LEFT -> frame -> exp.eval(frame) << distance;
+            case RIGHT -> frame -> exp.eval(frame) >> distance;
+            case UNSIGNED_RIGHT -> frame -> exp.eval(frame) >>> distance;
+        };
+    }
+}
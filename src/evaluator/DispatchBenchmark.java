@@ -0,0 +1,173 @@
+package evaluator;
+
+import java.io.*;
+import java.nio.file.*;
+
+import ast.*;
+import ast.Number;
+import environment.Environment;
+import parser.Parser;
+import resolver.Resolver;
+import scanner.Scanner;
+
+/**
+ * DispatchBenchmark measures what the pattern-matching Evaluator saves over the dispatch it
+ * replaced. LegacyEvaluator below is the previous Evaluator: it dispatches through chains of
+ * getClass() comparisons and switches on the String form of each operator. Both run the same
+ * resolved program under the same frame-backed Environment, so the difference between them is the
+ * cost of dispatch alone.
+ *
+ * Usage: java evaluator.DispatchBenchmark [source file] [iterations]
+ * Without a source file, a built-in nested-loop program is used.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class DispatchBenchmark
+{
+    private static final String PROGRAM =
+        "assign total = 0\n" +
+        "assign i = 0\n" +
+        "while i < 400 do\n" +
+        "    assign j = 0\n" +
+        "    while j < 1000 do\n" +
+        "        assign total = total + i * j / (j + 1) - (i - j) * 3\n" +
+        "        if total > 1000000 then assign total = total - 999999 end\n" +
+        "        if j <> i then assign total = total + 1 else assign total = total - 1 end\n" +
+        "        assign j = j + 1\n" +
+        "    end\n" +
+        "    assign i = i + 1\n" +
+        "end\n" +
+        "display total\n" +
+        ".";
+
+    /**
+     * LegacyEvaluator executes Programs the way the Evaluator did before the AST was sealed
+     */
+    private static class LegacyEvaluator implements Engine
+    {
+        /**
+         * Executes the input program under the input environment
+         *
+         * @param program the input program
+         * @param env the environment to use for variables
+         */
+        @Override
+        public void exec(Program program, Environment env)
+        {
+            if (program.getSlotNames() != null) env.useFrame(program.getSlotNames());
+            for (Statement stmt : program.getStmts()) exec(stmt, env);
+        }
+
+        /**
+         * Executes the input statement, treating any statement that is not a display, assign, or
+         * if statement as a While statement
+         *
+         * @param stmt the input statement
+         * @param env the environment to use for variables
+         */
+        private void exec(Statement stmt, Environment env)
+        {
+            if (stmt.getClass() == Display.class)
+            {
+                System.out.println(eval(((Display) stmt).getExpression(), env));
+            }
+            else if (stmt.getClass() == Assign.class)
+            {
+                Assign assign = (Assign) stmt;
+                env.setSlot(assign.getSlot(), eval(assign.getExp(), env));
+            }
+            else if (stmt.getClass() == If.class)
+            {
+                If ifStmt = (If) stmt;
+                if (eval(ifStmt.getExpression(), env) != 0) exec(ifStmt.getTrueProgram(), env);
+                else if (ifStmt.getFalseProgram() != null) exec(ifStmt.getFalseProgram(), env);
+            }
+            else
+            {
+                While whileStmt = (While) stmt;
+                while (eval(whileStmt.getExpression(), env) != 0)
+                    exec(whileStmt.getProgram(), env);
+            }
+        }
+
+        /**
+         * Evaluates the input expression, treating any expression that is not a number or
+         * variable as a BinOp
+         *
+         * @param exp the input expression
+         * @param env the environment to use for variables
+         * @return the value of the input expression
+         */
+        private int eval(Expression exp, Environment env)
+        {
+            if (exp.getClass() == Number.class) return ((Number) exp).getValue();
+            if (exp.getClass() == Variable.class) return env.getSlot(((Variable) exp).getSlot());
+            BinOp binop = (BinOp) exp;
+            int exp1Val = eval(binop.getExp1(), env);
+            int exp2Val = eval(binop.getExp2(), env);
+            switch (binop.getOp().getSymbol())
+            {
+                case "+": return exp1Val + exp2Val;
+                case "-": return exp1Val - exp2Val;
+                case "*": return exp1Val * exp2Val;
+                case "/": return exp1Val / exp2Val;
+                case "=": return exp1Val == exp2Val ? 1 : 0;
+                case "<>": return exp1Val != exp2Val ? 1 : 0;
+                case "<": return exp1Val < exp2Val ? 1 : 0;
+                case ">": return exp1Val > exp2Val ? 1 : 0;
+                case "<=": return exp1Val <= exp2Val ? 1 : 0;
+                default: return exp1Val >= exp2Val ? 1 : 0;
+            }
+        }
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args the command-line input args: an optional source file and iteration count
+     * @throws IOException if the source file cannot be read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String source = args.length > 0 ? new String(Files.readAllBytes(Paths.get(args[0]))) :
+                        PROGRAM;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Program program = new Parser(new Scanner(source)).parseProgram();
+        new Resolver().resolve(program);
+        Engine legacy = new LegacyEvaluator();
+        Engine evaluator = new Evaluator();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            long legacyTime = time(legacy, program);
+            long evaluatorTime = time(evaluator, program);
+            System.out.printf("iteration %d: getClass/String dispatch %.1f ms, pattern/enum " +
+                              "dispatch %.1f ms (%.2fx)%n", i, legacyTime / 1e6,
+                              evaluatorTime / 1e6, (double) legacyTime / evaluatorTime);
+        }
+    }
+
+    /**
+     * Times one run of the input program with the input engine, discarding its output
+     *
+     * @param engine the engine to run the program with
+     * @param program the program to run
+     * @return the run time in nanoseconds
+     */
+    private static long time(Engine engine, Program program)
+    {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try
+        {
+            long start = System.nanoTime();
+            engine.exec(program, new Environment());
+            return System.nanoTime() - start;
+        }
+        finally
+        {
+            System.setOut(out);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package evaluator;
+
+import ast.Program;
+import environment.Environment;
+
+/**
+ * Engine is implemented by every way of executing a Program, so that the tree-walking Evaluator
+ * and the compiling back ends can be selected interchangeably
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface Engine
+{
+    /**
+     * Executes the input program under the input environment
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    void exec(Program program, Environment env);
+}
@@ -1,122 +1,252 @@
 package evaluator;
 
-import java.util.Scanner;
+import java.util.*;
 
 import ast.*;
 import ast.Number;
 import environment.Environment;
+import io.ChannelSink;
+import io.InputSource;
+import io.OutputSink;
+import io.StreamSource;
 
 /**
- * Evaluator executes Programs comprised of AST Statements and Expressions
- * 
+ * Evaluator executes Programs comprised of AST Statements and Expressions. Statements and
+ * expressions are dispatched through exhaustive pattern-matching switches over the sealed AST
+ * hierarchies, and operators through switches over the Operator enum.
+ *
+ * Nested programs are executed with explicit stacks instead of recursion, and expressions are
+ * evaluated recursively only up to MAX_RECURSION levels deep, below which an iterative post-order
+ * traversal takes over, so that neither deeply nested statements nor long operator chains can
+ * overflow the Java stack.
+ *
+ * Displayed values go to an OutputSink, by default a buffered ChannelSink over System.out, which
+ * is flushed before every read prompt and once the program finishes or throws. Read statements
+ * take their values from an InputSource, by default the shared StreamSource over System.in, and
+ * are prompted for only when the source is interactive.
+ *
+ * An Evaluator keeps no state of its own while it executes, so one instance may execute programs
+ * on many threads at once, each with its own Environment, as long as its sink and source may be
+ * shared, as ChannelSink and the input sources may. The programs must be resolved beforehand,
+ * since resolving modifies them.
+ *
  * @author Rohan Thakur
- * @version 1/11/22
+ * @version 10/18/26
  */
-public class Evaluator
+public class Evaluator implements Engine
 {
     /**
-     * Executes the input program under the input environment
-     * 
+     * The number of expression levels evaluated by recursion before the iterative traversal takes
+     * over; ordinary expressions never reach it, so they keep the speed of plain recursion
+     */
+    public static final int MAX_RECURSION = 256;
+
+    private OutputSink out;
+    private InputSource in;
+
+    /**
+     * Evaluator constructor for the construction of an evaluator that displays through a buffered
+     * ChannelSink over System.out and reads from System.in
+     */
+    public Evaluator()
+    {
+        this(new ChannelSink());
+    }
+
+    /**
+     * Evaluator constructor for the construction of an evaluator that displays through the input
+     * sink and reads from System.in
+     *
+     * @param out the sink that receives displayed values
+     */
+    public Evaluator(OutputSink out)
+    {
+        this(out, StreamSource.stdin());
+    }
+
+    /**
+     * Evaluator constructor for the construction of an evaluator that displays through the input
+     * sink and reads from the input source
+     *
+     * @param out the sink that receives displayed values
+     * @param in the source of the values of read statements
+     */
+    public Evaluator(OutputSink out, InputSource in)
+    {
+        this.out = out;
+        this.in = in;
+    }
+
+    /**
+     * Executes the input program under the input environment. If the program has been resolved,
+     * the environment is switched to the program's frame layout first.
+     *
      * @param program the input program
      * @param env the environment to use for variables
+     * @postcondition everything the program displayed has been flushed, even if it threw
      */
+    @Override
     public void exec(Program program, Environment env)
     {
-        for (Statement stmt : program.getStmts()) exec(stmt, env);
+        if (program.getSlotNames() != null) env.useFrame(program.getSlotNames());
+        try
+        {
+            run(program, env);
+        }
+        finally
+        {
+            out.flush();
+        }
+    }
+
+    /**
+     * Executes the statements of the input program and of the programs nested in them. Each level
+     * of the explicit stacks holds a program, the index of its next statement, and, for the body
+     * of a While statement, the loop, whose condition is checked again whenever the body finishes.
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    private void run(Program program, Environment env)
+    {
+        Program[] programs = new Program[16];
+        int[] next = new int[16];
+        While[] loops = new While[16];
+        int depth = 0;
+        programs[0] = program;
+        while (depth >= 0)
+        {
+            List<Statement> stmts = programs[depth].getStmts();
+            if (next[depth] == stmts.size())
+            {
+                if (loops[depth] != null && eval(loops[depth].getExpression(), env) != 0)
+                    next[depth] = 0;
+                else
+                    depth--;
+                continue;
+            }
+            Statement stmt = stmts.get(next[depth]++);
+            Program nested = exec(stmt, env);
+            if (nested == null)
+                continue;
+            if (++depth == programs.length)
+            {
+                programs = Arrays.copyOf(programs, depth * 2);
+                next = Arrays.copyOf(next, depth * 2);
+                loops = Arrays.copyOf(loops, depth * 2);
+            }
+            programs[depth] = nested;
+            next[depth] = 0;
+            loops[depth] = stmt instanceof While whileStmt ? whileStmt : null;
+        }
     }
 
     /**
-     * Executes the input statement
-     * 
+     * Executes the input statement, except for the program nested in it
+     *
      * @param stmt the input statement
      * @param env the environment to use for variables
+     * @return the nested program to execute next: the chosen branch of an If statement or the
+     * body of a While statement whose condition holds, otherwise null
      */
-    private void exec(Statement stmt, Environment env)
+    private Program exec(Statement stmt, Environment env)
     {
-        if (stmt.getClass() == Display.class) exec((Display) stmt, env);
-        else if (stmt.getClass() == Assign.class) exec((Assign) stmt, env);
-        else if (stmt.getClass() == If.class) exec((If) stmt, env);
-        else exec((While) stmt, env);
+        switch (stmt)
+        {
+            case Display display -> exec(display, env);
+            case Assign assign -> exec(assign, env);
+            case Read readStmt -> exec(readStmt, env);
+            case If ifStmt ->
+            {
+                if (eval(ifStmt.getExpression(), env) != 0) return ifStmt.getTrueProgram();
+                return ifStmt.getFalseProgram();
+            }
+            case While whileStmt ->
+            {
+                if (eval(whileStmt.getExpression(), env) != 0) return whileStmt.getProgram();
+            }
+        }
+        return null;
     }
 
     /**
      * Executes the input display statement
-     * 
+     *
      * @param display the input Display statement
      * @param env the environment to use for variables
      */
     private void exec(Display display, Environment env)
     {
-        System.out.println(eval(display.getExpression(), env));
+        out.display(eval(display.getExpression(), env));
         if (display.getReadStmt() != null) exec(display.getReadStmt(), env);
     }
 
     /**
-     * Executes the input read statement
-     * 
+     * Executes the input read statement, prompting for the value if the input source is
+     * interactive once everything displayed so far has been written out
+     *
      * @param readStmt the input Read statement
      * @param env the environment to use for variables
      */
     private void exec(Read readStmt, Environment env)
     {
-        System.out.print("Enter a value for the variable " + readStmt.getVar() + ": ");
-        Scanner scanner = new Scanner(System.in);
-        int val = Integer.parseInt(scanner.nextLine());
-        scanner.close();
-        env.setVariable(readStmt.getVar(), val);
+        out.flush();
+        if (in.isInteractive())
+            System.out.print("Enter a value for the variable " + readStmt.getVar() + ": ");
+        int val = in.read();
+        if (readStmt.getSlot() >= 0) env.setSlot(readStmt.getSlot(), val);
+        else env.setVariable(readStmt.getVar(), val);
     }
 
     /**
      * Executes the input assign statement
-     * 
+     *
      * @param assign the input Assign statement
      * @param env the environment to use for variables
      */
     private void exec(Assign assign, Environment env)
     {
-        env.setVariable(assign.getVar(), eval(assign.getExp(), env));
-    }
-
-    /**
-     * Executes the input if/if-else statement
-     * 
-     * @param ifStmt the input If statement
-     * @param env the environment to use for variables
-     */
-    private void exec(If ifStmt, Environment env)
-    {
-        if (eval(ifStmt.getExpression(), env) != 0) exec(ifStmt.getTrueProgram(), env);
-        else if (ifStmt.getFalseProgram() != null) exec(ifStmt.getFalseProgram(), env);
+        if (assign.getSlot() >= 0) env.setSlot(assign.getSlot(), eval(assign.getExp(), env));
+        else env.setVariable(assign.getVar(), eval(assign.getExp(), env));
     }
 
     /**
-     * Executes the input While statement
-     * 
-     * @param whileStmt the input While statement
+     * Evaluates the input expression
+     *
+     * @param exp the input expression
      * @param env the environment to use for variables
+     * @return the value of the input expression
      */
-    private void exec(While whileStmt, Environment env)
+    private int eval(Expression exp, Environment env)
     {
-        while (eval(whileStmt.getExpression(), env) != 0) exec(whileStmt.getProgram(), env);
+        return eval(exp, env, 0);
     }
 
     /**
-     * Evaluates the input expression
-     * 
+     * Evaluates the input expression, which lies at the input depth of recursion
+     *
      * @param exp the input expression
      * @param env the environment to use for variables
+     * @param depth the number of recursive evaluations that enclose this one
      * @return the value of the input expression
      */
-    private int eval(Expression exp, Environment env)
+    private int eval(Expression exp, Environment env, int depth)
     {
-        if (exp.getClass() == Number.class) return eval((Number) exp, env);
-        if (exp.getClass() == Variable.class) return eval((Variable) exp, env);
-        return eval((BinOp) exp, env);
+        if (depth == MAX_RECURSION)
+            return evalIteratively(exp, env);
+        return switch (exp)
+        {
+            case Number num -> eval(num, env);
+            case Variable var -> eval(var, env);
+            case BinOp binop -> eval(binop, env, depth);
+            case Shift shift -> shift.apply(eval(shift.getExp(), env, depth + 1));
+            case MultiplyHigh product -> product.apply(eval(product.getExp(), env, depth + 1));
+        };
     }
 
     /**
      * Evaluates the input Number object
-     * 
+     *
      * @param num the input Number object
      * @param env the environment to use for variables
      * @return the value of the input Number object
@@ -128,41 +258,129 @@ public class Evaluator
 
     /**
      * Evaluates the input Variable
-     * 
+     *
      * @param var the input Variable
      * @param env the environment to use for variables
      * @return the value of the input Variable
      */
     private int eval(Variable var, Environment env)
     {
+        if (var.getSlot() >= 0) return env.getSlot(var.getSlot());
         return env.getVariable(var.getName());
     }
 
     /**
      * Evaluates the input BinOp expression
-     * 
+     *
      * @param binop the input BinOp expression
      * @param env the environment to use for variables
+     * @param depth the number of recursive evaluations that enclose this one
      * @return the value of the input BinOp expression, taking the value of boolean expressions to
      * be 1 if true and 0 if false
      */
-    private int eval(BinOp binop, Environment env)
+    private int eval(BinOp binop, Environment env, int depth)
     {
-        int exp1Val = eval(binop.getExp1(), env);
-        int exp2Val = eval(binop.getExp2(), env);
-        switch (binop.getOp())
+        int exp1Val = eval(binop.getExp1(), env, depth + 1);
+        int exp2Val = eval(binop.getExp2(), env, depth + 1);
+        return apply(binop.getOp(), exp1Val, exp2Val);
+    }
+
+    /**
+     * Applies the input operator to the input values
+     *
+     * @param op the operator
+     * @param exp1Val the value of the left-hand operand
+     * @param exp2Val the value of the right-hand operand
+     * @return the result, taking the value of boolean expressions to be 1 if true and 0 if false
+     */
+    private static int apply(Operator op, int exp1Val, int exp2Val)
+    {
+        return switch (op)
         {
-            case "+": return exp1Val + exp2Val;
-            case "-": return exp1Val - exp2Val;
-            case "*": return exp1Val * exp2Val;
-            case "/": return exp1Val / exp2Val;
-            case "=": return exp1Val == exp2Val ? 1 : 0;
-            case "<>": return exp1Val != exp2Val ? 1 : 0;
-            case "<": return exp1Val < exp2Val ? 1 : 0;
-            case ">": return exp1Val > exp2Val ? 1 : 0;
-            case "<=": return exp1Val <= exp2Val ? 1 : 0;
-            default: return exp1Val >= exp2Val ? 1 : 0;
-        }
+            case PLUS -> exp1Val + exp2Val;
+            case MINUS -> exp1Val - exp2Val;
+            case TIMES -> exp1Val * exp2Val;
+            case DIVIDE -> exp1Val / exp2Val;
+            case EQ -> exp1Val == exp2Val ? 1 : 0;
+            case NE -> exp1Val != exp2Val ? 1 : 0;
+            case LT -> exp1Val < exp2Val ? 1 : 0;
+            case GT -> exp1Val > exp2Val ? 1 : 0;
+            case LE -> exp1Val <= exp2Val ? 1 : 0;
+            case GE -> exp1Val >= exp2Val ? 1 : 0;
+        };
     }
 
+    /**
+     * Evaluates the input expression by an iterative post-order traversal. Each node is pushed
+     * once to have its operands pushed above it and once more to combine their values, which by
+     * then are on top of the value stack, so the left operand is still evaluated first.
+     *
+     * @param exp the input expression
+     * @param env the environment to use for variables
+     * @return the value of the input expression
+     */
+    private int evalIteratively(Expression exp, Environment env)
+    {
+        Expression[] nodes = new Expression[64];
+        boolean[] expanded = new boolean[64];
+        int[] values = new int[64];
+        int top = 0;
+        int sp = 0;
+        nodes[top++] = exp;
+        while (top > 0)
+        {
+            Expression node = nodes[--top];
+            if (sp + 1 >= values.length)
+                values = Arrays.copyOf(values, values.length * 2);
+            if (expanded[top])
+            {
+                switch (node)
+                {
+                    case BinOp binop ->
+                    {
+                        sp--;
+                        values[sp - 1] = apply(binop.getOp(), values[sp - 1], values[sp]);
+                    }
+                    case Shift shift -> values[sp - 1] = shift.apply(values[sp - 1]);
+                    case MultiplyHigh product -> values[sp - 1] = product.apply(values[sp - 1]);
+                    default -> { }
+                }
+                continue;
+            }
+            if (top + 3 > nodes.length)
+            {
+                nodes = Arrays.copyOf(nodes, nodes.length * 2);
+                expanded = Arrays.copyOf(expanded, expanded.length * 2);
+            }
+            switch (node)
+            {
+                case Number num -> values[sp++] = eval(num, env);
+                case Variable var -> values[sp++] = eval(var, env);
+                case BinOp binop ->
+                {
+                    expanded[top] = true;
+                    nodes[top++] = binop;
+                    expanded[top] = false;
+                    nodes[top++] = binop.getExp2();
+                    expanded[top] = false;
+                    nodes[top++] = binop.getExp1();
+                }
+                case Shift shift ->
+                {
+                    expanded[top] = true;
+                    nodes[top++] = shift;
+                    expanded[top] = false;
+                    nodes[top++] = shift.getExp();
+                }
+                case MultiplyHigh product ->
+                {
+                    expanded[top] = true;
+                    nodes[top++] = product;
+                    expanded[top] = false;
+                    nodes[top++] = product.getExp();
+                }
+            }
+        }
+        return values[0];
+    }
 }
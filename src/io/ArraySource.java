@@ -0,0 +1,61 @@
+package io;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * ArraySource supplies values from memory, for running programs in batches without a terminal
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ArraySource implements InputSource
+{
+    private PrimitiveIterator.OfInt values;
+
+    /**
+     * ArraySource constructor for the construction of a source of the input values
+     *
+     * @param values the values to read, in order
+     */
+    public ArraySource(int... values)
+    {
+        this(Arrays.stream(values).iterator());
+    }
+
+    /**
+     * ArraySource constructor for the construction of a source of the values of an iterator
+     *
+     * @param values the iterator of the values to read
+     */
+    public ArraySource(PrimitiveIterator.OfInt values)
+    {
+        this.values = values;
+    }
+
+    /**
+     * Reads the next value
+     *
+     * @return the next value
+     * @throws NoSuchElementException when there are no values left
+     */
+    @Override
+    public synchronized int read()
+    {
+        if (!values.hasNext())
+            throw new NoSuchElementException("No input left");
+        return values.nextInt();
+    }
+
+    /**
+     * Tells whether a person is typing the input, which nobody is
+     *
+     * @return false
+     */
+    @Override
+    public boolean isInteractive()
+    {
+        return false;
+    }
+}
@@ -0,0 +1,238 @@
+package io;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AsyncSink hands displayed values to a dedicated writer thread, which formats them into another
+ * OutputSink, so that a slow consumer of the output does not stall the thread that displays them.
+ *
+ * The values pass through a preallocated ring buffer of int slots with a single producer, the
+ * thread that displays, and a single consumer, the writer thread. Each side only ever writes its
+ * own position and reads the other's, so no locks are taken and the values come out in the order
+ * they went in. When the ring is full, the producer waits according
+ * to its BackPressure: it parks until the writer frees a slot, spins until then, or drops the
+ * value and counts it. A flush waits until the writer has drained the ring and flushed its sink,
+ * so a read prompt never appears before output displayed ahead of it. The writer parks while the
+ * ring is empty. The producer publishes without a fence, so it may miss that the writer has just
+ * parked; it therefore also unparks the writer whenever it finds the ring full or waits for a
+ * flush, so that the producer never waits on, or drops values because of, a parked writer.
+ *
+ * Only one thread may display into or flush an AsyncSink at a time. SPIN only pays off when the
+ * producer and the writer thread each have a core of their own.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class AsyncSink implements OutputSink, AutoCloseable
+{
+    /**
+     * The default number of slots in the ring
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    /**
+     * BackPressure is what the producer does when the ring is full
+     */
+    public enum BackPressure
+    {
+        BLOCK, SPIN, DROP
+    }
+
+    private final int[] slots;
+    private final int mask;
+    private final OutputSink out;
+    private final BackPressure backPressure;
+    private final Thread writer;
+
+    private final AtomicLong tail;
+    private final AtomicLong head;
+    private final AtomicLong flushed;
+    private volatile long flushRequest;
+    private volatile boolean closed;
+    private volatile Thread waitingProducer;
+    private volatile boolean writerParked;
+
+    private long next;
+    private long headCache;
+    private long dropped;
+
+    /**
+     * AsyncSink constructor for the construction of a sink whose writer thread displays into the
+     * input sink
+     *
+     * @param out the sink that the writer thread displays values into
+     * @param capacity the number of slots in the ring, which is rounded up to a power of two
+     * @param backPressure what to do with a value displayed while the ring is full
+     * @throws IllegalArgumentException when the capacity is not positive or exceeds 2^30
+     */
+    public AsyncSink(OutputSink out, int capacity, BackPressure backPressure)
+    {
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("Illegal ring capacity: " + capacity);
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+        this.slots = new int[size];
+        this.mask = size - 1;
+        this.out = out;
+        this.backPressure = backPressure;
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+        this.flushed = new AtomicLong();
+        this.writer = new Thread(this::drain, "AsyncSink writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Publishes the input value to the writer thread, first waiting for a free slot or dropping
+     * the value if the ring is full
+     *
+     * @param value the value of a display statement
+     * @throws IllegalStateException when the sink has been closed
+     */
+    @Override
+    public void display(int value)
+    {
+        if (closed)
+            throw new IllegalStateException("Display after close");
+        if (next - headCache >= slots.length)
+        {
+            headCache = head.get();
+            if (next - headCache >= slots.length)
+            {
+                if (backPressure == BackPressure.DROP)
+                {
+                    LockSupport.unpark(writer);
+                    dropped++;
+                    return;
+                }
+                await(head, next - slots.length + 1);
+                headCache = head.get();
+            }
+        }
+        slots[(int) next & mask] = value;
+        tail.lazySet(++next);
+        if (writerParked)
+            LockSupport.unpark(writer);
+    }
+
+    /**
+     * Waits until the writer thread has displayed every published value and flushed its sink
+     *
+     * @postcondition every value displayed and not dropped has reached the underlying output
+     */
+    @Override
+    public void flush()
+    {
+        long target = next;
+        if (flushed.get() >= target)
+            return;
+        flushRequest = target;
+        LockSupport.unpark(writer);
+        await(flushed, target);
+    }
+
+    /**
+     * Flushes the sink and stops its writer thread
+     *
+     * @postcondition the sink accepts no more values
+     */
+    @Override
+    public void close()
+    {
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+        try
+        {
+            writer.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of values dropped because the ring was full
+     *
+     * @return the number of dropped values, which is always 0 unless the back pressure is DROP
+     */
+    public long getDropped()
+    {
+        return dropped;
+    }
+
+    /**
+     * Waits until the writer thread has advanced the input position to the input target, by
+     * spinning if the back pressure is SPIN and by parking until the writer wakes the producer
+     * otherwise. The writer is unparked first, in case it parked without seeing the last value
+     * published.
+     *
+     * @param position the head or flushed position of the writer thread
+     * @param target the value the position must reach
+     */
+    private void await(AtomicLong position, long target)
+    {
+        LockSupport.unpark(writer);
+        while (position.get() < target)
+        {
+            if (backPressure == BackPressure.SPIN)
+            {
+                Thread.onSpinWait();
+                continue;
+            }
+            waitingProducer = Thread.currentThread();
+            if (position.get() < target)
+                LockSupport.park(this);
+            waitingProducer = null;
+        }
+    }
+
+    /**
+     * Runs on the writer thread: displays every published value into the sink in order, frees
+     * its slots, and flushes the sink whenever a flush has been requested and the ring is empty
+     */
+    private void drain()
+    {
+        long position = 0;
+        while (true)
+        {
+            long request = flushRequest;
+            long published = tail.get();
+            if (position < published)
+            {
+                for (; position < published; position++)
+                    out.display(slots[(int) position & mask]);
+                head.set(position);
+                wakeProducer();
+                continue;
+            }
+            if (flushed.get() < request)
+            {
+                out.flush();
+                flushed.set(request);
+                wakeProducer();
+                continue;
+            }
+            if (closed)
+                return;
+            writerParked = true;
+            if (tail.get() == position && flushRequest == request && !closed)
+                LockSupport.park(this);
+            writerParked = false;
+        }
+    }
+
+    /**
+     * Unparks the producer if it is waiting for the writer thread
+     */
+    private void wakeProducer()
+    {
+        Thread producer = waitingProducer;
+        if (producer != null)
+            LockSupport.unpark(producer);
+    }
+}
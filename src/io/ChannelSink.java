@@ -0,0 +1,131 @@
+package io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * ChannelSink formats displayed values as decimal digits straight into a reusable byte buffer and
+ * writes the buffer to a WritableByteChannel only when it is full or is flushed, so displaying a
+ * value never allocates. The output is byte for byte what System.out.println would have printed.
+ * Like a PrintStream, a ChannelSink may be shared by threads; each line is written whole.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ChannelSink implements OutputSink
+{
+    /**
+     * The default size of the buffer in bytes
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+    private static final int MAX_LINE = 11 + LINE_SEPARATOR.length;
+
+    private WritableByteChannel channel;
+    private OutputStream stream;
+    private boolean followsSystemOut;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+    private int count;
+
+    /**
+     * ChannelSink constructor for the construction of a sink that writes to System.out, following
+     * it to whatever stream it has been set to whenever the buffer is written out
+     */
+    public ChannelSink()
+    {
+        this(System.out);
+        this.followsSystemOut = true;
+    }
+
+    /**
+     * ChannelSink constructor for the construction of a sink that writes to an output stream,
+     * which is flushed along with the sink
+     *
+     * @param stream the output stream to write to
+     */
+    public ChannelSink(OutputStream stream)
+    {
+        this(Channels.newChannel(stream), DEFAULT_CAPACITY);
+        this.stream = stream;
+    }
+
+    /**
+     * ChannelSink constructor for the construction of a sink that writes to a channel
+     *
+     * @param channel the channel to write to
+     * @param capacity the size of the buffer in bytes
+     * @throws IllegalArgumentException when the buffer cannot hold a single line
+     */
+    public ChannelSink(WritableByteChannel channel, int capacity)
+    {
+        if (capacity < MAX_LINE)
+            throw new IllegalArgumentException("Buffer capacity too small: " + capacity);
+        this.channel = channel;
+        this.bytes = new byte[capacity];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Formats the input value and a line separator into the buffer, writing the buffer out first
+     * if the line might not fit
+     *
+     * @param value the value of a display statement
+     */
+    @Override
+    public synchronized void display(int value)
+    {
+        if (count + MAX_LINE > bytes.length)
+            flush();
+        int rest = value < 0 ? value : -value;
+        int length = value < 0 ? 2 : 1;
+        for (int i = rest; i <= -10; i /= 10)
+            length++;
+        int pos = count + length;
+        do
+        {
+            bytes[--pos] = (byte) ('0' - rest % 10);
+            rest /= 10;
+        }
+        while (rest != 0);
+        if (value < 0)
+            bytes[--pos] = '-';
+        count += length;
+        for (byte b : LINE_SEPARATOR)
+            bytes[count++] = b;
+    }
+
+    /**
+     * Writes the buffer out to the channel, and flushes the output stream if the sink writes to
+     * one. A sink that follows System.out switches to its current stream first.
+     *
+     * @postcondition the buffer is empty
+     */
+    @Override
+    public synchronized void flush()
+    {
+        if (followsSystemOut && stream != System.out)
+        {
+            stream = System.out;
+            channel = Channels.newChannel(stream);
+        }
+        try
+        {
+            buffer.limit(count).position(0);
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            count = 0;
+            if (stream != null)
+                stream.flush();
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}
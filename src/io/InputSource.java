@@ -0,0 +1,26 @@
+package io;
+
+/**
+ * InputSource supplies the values of read statements
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface InputSource
+{
+    /**
+     * Reads the next value
+     *
+     * @return the next value of the input
+     * @throws java.util.NoSuchElementException when the input has run out
+     * @throws NumberFormatException when the next value of the input is not an int
+     */
+    int read();
+
+    /**
+     * Tells whether a person is typing the input, in which case the engines prompt for each value
+     *
+     * @return true if every read should be prompted for, otherwise false
+     */
+    boolean isInteractive();
+}
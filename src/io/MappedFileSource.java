@@ -0,0 +1,58 @@
+package io;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedFileSource reads values from a file mapped into memory, so that large input sets are
+ * parsed straight out of the page cache without being copied through a stream
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class MappedFileSource extends TextSource
+{
+    private MappedByteBuffer buffer;
+
+    /**
+     * MappedFileSource constructor for the construction of a source that reads from a file
+     *
+     * @param path the path of the file of whitespace-separated values
+     * @throws IOException when the file cannot be opened or mapped
+     * @throws IllegalArgumentException when the file is 2 GB or larger
+     */
+    public MappedFileSource(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Input file too large: " + path);
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Tells whether a person is typing the input, which nobody is
+     *
+     * @return false
+     */
+    @Override
+    public boolean isInteractive()
+    {
+        return false;
+    }
+
+    /**
+     * Gets the next byte of the file
+     *
+     * @return the next byte as an unsigned value, or -1 at the end of the file
+     */
+    @Override
+    protected int next()
+    {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+}
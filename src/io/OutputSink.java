@@ -0,0 +1,25 @@
+package io;
+
+/**
+ * OutputSink receives the values of display statements. A sink may hold values back, so the
+ * engines flush it before every read prompt and whenever a program finishes or throws.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface OutputSink
+{
+    /**
+     * Displays the input value on a line of its own
+     *
+     * @param value the value of a display statement
+     */
+    void display(int value);
+
+    /**
+     * Writes out every value the sink has been given so far
+     *
+     * @postcondition every displayed value has reached the underlying output
+     */
+    void flush();
+}
@@ -0,0 +1,88 @@
+package io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * StreamSource reads values from an input stream through its own buffer, which it refills with
+ * as many bytes as the stream has ready. The stream is never closed, so the shared source over
+ * System.in serves every read statement of every program.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class StreamSource extends TextSource
+{
+    private static StreamSource stdin;
+
+    private InputStream stream;
+    private boolean interactive;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+
+    /**
+     * StreamSource constructor for the construction of a source that reads from an input stream
+     *
+     * @param stream the input stream to read from
+     * @param interactive whether a person is typing the input, so that reads are prompted for
+     */
+    public StreamSource(InputStream stream, boolean interactive)
+    {
+        this.stream = stream;
+        this.interactive = interactive;
+        this.buffer = new byte[8192];
+    }
+
+    /**
+     * Gets the interactive source over System.in that the engines share by default
+     *
+     * @return the source over System.in
+     */
+    public static synchronized StreamSource stdin()
+    {
+        if (stdin == null)
+            stdin = new StreamSource(System.in, true);
+        return stdin;
+    }
+
+    /**
+     * Tells whether a person is typing the input
+     *
+     * @return the interactive flag the source was constructed with
+     */
+    @Override
+    public boolean isInteractive()
+    {
+        return interactive;
+    }
+
+    /**
+     * Gets the next byte of the stream, refilling the buffer first if it is empty
+     *
+     * @return the next byte as an unsigned value, or -1 at the end of the stream
+     */
+    @Override
+    protected int next()
+    {
+        if (position == limit)
+        {
+            try
+            {
+                limit = stream.read(buffer);
+            }
+            catch (IOException e)
+            {
+                e.printStackTrace();
+                System.exit(-1);
+            }
+            position = 0;
+            if (limit <= 0)
+            {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+}
@@ -0,0 +1,70 @@
+package io;
+
+import java.util.NoSuchElementException;
+
+/**
+ * TextSource parses whitespace-separated decimal ints straight from the bytes of its input,
+ * without building a String for any of them
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+abstract class TextSource implements InputSource
+{
+    /**
+     * Parses the next int of the input
+     *
+     * @return the next value of the input
+     * @throws NoSuchElementException when only whitespace is left in the input
+     * @throws NumberFormatException when the next word of the input is not an int
+     */
+    @Override
+    public synchronized int read()
+    {
+        int c = next();
+        while (isWhitespace(c))
+            c = next();
+        if (c < 0)
+            throw new NoSuchElementException("No input left");
+        boolean negative = c == '-';
+        if (c == '-' || c == '+')
+            c = next();
+        if (c < '0' || c > '9')
+            throw new NumberFormatException("Illegal input: expected a digit");
+        int value = 0;
+        do
+        {
+            int digit = c - '0';
+            if (value < (Integer.MIN_VALUE + digit) / 10)
+                throw new NumberFormatException("Input out of range");
+            value = value * 10 - digit;
+            c = next();
+        }
+        while (c >= '0' && c <= '9');
+        if (c >= 0 && !isWhitespace(c))
+            throw new NumberFormatException("Illegal input: unexpected " + (char) c);
+        if (negative)
+            return value;
+        if (value == Integer.MIN_VALUE)
+            throw new NumberFormatException("Input out of range");
+        return -value;
+    }
+
+    /**
+     * Gets the next byte of the input
+     *
+     * @return the next byte as an unsigned value, or -1 at the end of the input
+     */
+    protected abstract int next();
+
+    /**
+     * Determines whether the input byte separates values
+     *
+     * @param c a byte of the input, or -1
+     * @return true if c is a space, tab, carriage return, or line feed, otherwise false
+     */
+    private static boolean isWhitespace(int c)
+    {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+}
@@ -0,0 +1,23 @@
+package ir;
+
+import environment.Environment;
+
+/**
+ * Backend is implemented by everything that can execute a Function, so that the optimized IR
+ * can be run by an interpreter or handed to a code generator interchangeably
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface Backend
+{
+    /**
+     * Executes the input function under the input environment
+     *
+     * @param function the input function, which has been numbered
+     * @param env the environment that holds the initial values of the variables and receives
+     * their final values, or if the function throws, the values the state of the throwing
+     * instruction holds
+     */
+    void exec(Function function, Environment env);
+}
@@ -0,0 +1,202 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * BasicBlock is a straight-line sequence of instructions that control enters only at the top and
+ * leaves only through the terminator at the bottom. Phis are kept apart from the other
+ * instructions, since they all take effect at once on entry to the block.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class BasicBlock
+{
+    private int id;
+    private List<Phi> phis;
+    private List<Instruction> instructions;
+    private List<BasicBlock> predecessors;
+
+    /**
+     * BasicBlock constructor for the construction of an empty block
+     *
+     * @param id the number of the block within its function
+     */
+    BasicBlock(int id)
+    {
+        this.id = id;
+        this.phis = new ArrayList<Phi>();
+        this.instructions = new ArrayList<Instruction>();
+        this.predecessors = new ArrayList<BasicBlock>();
+    }
+
+    /**
+     * Gets the number of the block
+     *
+     * @return the number of the block within its function
+     */
+    public int getId()
+    {
+        return id;
+    }
+
+    /**
+     * Sets the number of the block
+     *
+     * @param id the number
+     */
+    void setId(int id)
+    {
+        this.id = id;
+    }
+
+    /**
+     * Gets the name that printed instructions use for the block
+     *
+     * @return 'b' followed by the number of the block
+     */
+    public String getName()
+    {
+        return "b" + id;
+    }
+
+    /**
+     * Gets the phis of the block
+     *
+     * @return the modifiable list of phis
+     */
+    public List<Phi> getPhis()
+    {
+        return phis;
+    }
+
+    /**
+     * Gets the instructions of the block other than its phis
+     *
+     * @return the modifiable list of instructions, ending with the terminator once the block is
+     * complete
+     */
+    public List<Instruction> getInstructions()
+    {
+        return instructions;
+    }
+
+    /**
+     * Adds a phi to the block
+     *
+     * @param phi the phi to add
+     */
+    public void addPhi(Phi phi)
+    {
+        phi.setBlock(this);
+        phis.add(phi);
+    }
+
+    /**
+     * Appends an instruction to the block
+     *
+     * @param instruction the instruction to append
+     * @return the instruction
+     */
+    public Instruction append(Instruction instruction)
+    {
+        instruction.setBlock(this);
+        instructions.add(instruction);
+        return instruction;
+    }
+
+    /**
+     * Inserts an instruction into the block
+     *
+     * @param index the index of the instruction among the instructions of the block
+     * @param instruction the instruction to insert
+     */
+    public void insert(int index, Instruction instruction)
+    {
+        instruction.setBlock(this);
+        instructions.add(index, instruction);
+    }
+
+    /**
+     * Replaces one instruction of the block with another
+     *
+     * @param index the index of the instruction among the instructions of the block
+     * @param instruction the instruction to put in its place
+     */
+    public void set(int index, Instruction instruction)
+    {
+        instruction.setBlock(this);
+        instructions.set(index, instruction);
+    }
+
+    /**
+     * Gets the terminator of the block
+     *
+     * @return the last instruction of the block
+     * @precondition the block is complete
+     */
+    public Instruction getTerminator()
+    {
+        return instructions.get(instructions.size() - 1);
+    }
+
+    /**
+     * Gets the blocks that control can pass to from the block
+     *
+     * @return the successors named by the terminator
+     */
+    public List<BasicBlock> getSuccessors()
+    {
+        return instructions.isEmpty() ? List.of() : getTerminator().getSuccessors();
+    }
+
+    /**
+     * Gets the blocks that can pass control to the block
+     *
+     * @return the unmodifiable list of predecessors, in the order of the operands of the phis
+     */
+    public List<BasicBlock> getPredecessors()
+    {
+        return Collections.unmodifiableList(predecessors);
+    }
+
+    /**
+     * Records a new edge into the block
+     *
+     * @param predecessor the block that can pass control to this one
+     * @precondition the phis of the block do not yet have operands for the new edge
+     */
+    public void addPredecessor(BasicBlock predecessor)
+    {
+        predecessors.add(predecessor);
+    }
+
+    /**
+     * Removes an edge into the block, along with the operands of the phis for it
+     *
+     * @param predecessor the block that no longer passes control to this one
+     */
+    public void removePredecessor(BasicBlock predecessor)
+    {
+        int index = predecessors.indexOf(predecessor);
+        predecessors.remove(index);
+        for (Phi phi : phis)
+            if (phi.getOperands().size() > index)
+                phi.removeIncoming(index);
+    }
+
+    /**
+     * Describes the block
+     *
+     * @return the block and its instructions as they are printed
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder ret = new StringBuilder(getName()).append(":\n");
+        for (Phi phi : phis) ret.append("    ").append(phi).append('\n');
+        for (Instruction instruction : instructions)
+            ret.append("    ").append(instruction).append('\n');
+        return ret.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package ir;
+
+import ast.Operator;
+
+/**
+ * BinaryOp is an instruction that applies an arithmetic or comparison operator to two values
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class BinaryOp extends Instruction
+{
+    private Operator op;
+
+    /**
+     * BinaryOp constructor for the construction of the input operator applied to the input values
+     *
+     * @param op the operator
+     * @param left the instruction whose value is the left-hand operand
+     * @param right the instruction whose value is the right-hand operand
+     */
+    public BinaryOp(Operator op, Instruction left, Instruction right)
+    {
+        super(left, right);
+        this.op = op;
+    }
+
+    /**
+     * Gets the operator
+     *
+     * @return the operator of the instruction
+     */
+    public Operator getOp()
+    {
+        return op;
+    }
+
+    /**
+     * Determines whether the instruction is pure, which it is unless it divides by a value that
+     * is not a nonzero Constant
+     *
+     * @return true if the instruction cannot throw, otherwise false
+     */
+    @Override
+    public boolean isPure()
+    {
+        return op != Operator.DIVIDE ||
+               getOperand(1) instanceof Constant divisor && divisor.getValue() != 0;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return getName() + " = " + getOperand(0).getName() + " " + op + " " +
+               getOperand(1).getName() + stateToString();
+    }
+}
@@ -0,0 +1,74 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Branch is the terminator that passes control to one block if a value is nonzero and to another
+ * block otherwise
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Branch extends Instruction
+{
+    private BasicBlock ifTrue;
+    private BasicBlock ifFalse;
+
+    /**
+     * Branch constructor for the construction of a branch on the input condition
+     *
+     * @param condition the instruction whose value decides the branch
+     * @param ifTrue the block to pass control to if the condition is nonzero
+     * @param ifFalse the block to pass control to if the condition is zero
+     * @precondition the two blocks are different
+     */
+    public Branch(Instruction condition, BasicBlock ifTrue, BasicBlock ifFalse)
+    {
+        super(condition);
+        this.ifTrue = ifTrue;
+        this.ifFalse = ifFalse;
+    }
+
+    /**
+     * Gets the block that control passes to if the condition is nonzero
+     *
+     * @return the true block
+     */
+    public BasicBlock getIfTrue()
+    {
+        return ifTrue;
+    }
+
+    /**
+     * Gets the block that control passes to if the condition is zero
+     *
+     * @return the false block
+     */
+    public BasicBlock getIfFalse()
+    {
+        return ifFalse;
+    }
+
+    /**
+     * Gets the blocks that control can pass to after the instruction
+     *
+     * @return the list of the true block and the false block
+     */
+    @Override
+    public List<BasicBlock> getSuccessors()
+    {
+        return List.of(ifTrue, ifFalse);
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return "branch " + getOperand(0).getName() + " " + ifTrue.getName() + " " +
+               ifFalse.getName();
+    }
+}
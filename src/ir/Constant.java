@@ -0,0 +1,54 @@
+package ir;
+
+/**
+ * Constant is an instruction whose value is an int literal
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Constant extends Instruction
+{
+    private int value;
+
+    /**
+     * Constant constructor for the construction of the input literal
+     *
+     * @param value the value of the literal
+     */
+    public Constant(int value)
+    {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value of the literal
+     *
+     * @return the value
+     */
+    public int getValue()
+    {
+        return value;
+    }
+
+    /**
+     * Determines whether the instruction is pure, which every Constant is
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPure()
+    {
+        return true;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return getName() + " = const " + value;
+    }
+}
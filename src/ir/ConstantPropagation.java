@@ -0,0 +1,243 @@
+package ir;
+
+import java.util.*;
+
+import ast.Operator;
+
+/**
+ * ConstantPropagation is sparse conditional constant propagation after Wegman and Zadeck. Every
+ * value starts out unknown, and control starts out reaching only the entry block. Values are
+ * evaluated as the blocks holding them become reachable and lowered to a single constant or to
+ * overdefined as their operands change; a phi only meets the values along edges that are known to
+ * be taken, and a branch on a constant takes only one edge. Once nothing changes, the values found
+ * to be constant are replaced with Constants, branches on constants become jumps, and the blocks
+ * that were never reached are removed. A division by a constant 0 is never folded, so it still
+ * throws when it runs.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ConstantPropagation implements IRPass
+{
+    private static final int UNKNOWN = 0;
+    private static final int CONSTANT = 1;
+    private static final int OVERDEFINED = 2;
+
+    private int[] state;
+    private int[] value;
+    private Set<BasicBlock> reached;
+    private Set<List<BasicBlock>> taken;
+    private Map<Instruction, List<Instruction>> users;
+    private Deque<BasicBlock> blockWork;
+    private Deque<Instruction> valueWork;
+
+    /**
+     * Propagates the constants of the input function
+     *
+     * @param function the input function
+     */
+    @Override
+    public void run(Function function)
+    {
+        function.number();
+        state = new int[function.getSize()];
+        value = new int[function.getSize()];
+        reached = new HashSet<BasicBlock>();
+        taken = new HashSet<List<BasicBlock>>();
+        users = new HashMap<Instruction, List<Instruction>>();
+        blockWork = new ArrayDeque<BasicBlock>();
+        valueWork = new ArrayDeque<Instruction>();
+        for (BasicBlock block : function.getBlocks())
+        {
+            for (Phi phi : block.getPhis()) addUses(phi);
+            for (Instruction instruction : block.getInstructions()) addUses(instruction);
+        }
+
+        reached.add(function.getEntry());
+        blockWork.add(function.getEntry());
+        while (!blockWork.isEmpty() || !valueWork.isEmpty())
+        {
+            if (!blockWork.isEmpty())
+            {
+                BasicBlock block = blockWork.poll();
+                for (Phi phi : block.getPhis()) visit(phi);
+                for (Instruction instruction : block.getInstructions()) visit(instruction);
+            }
+            else
+            {
+                Instruction instruction = valueWork.poll();
+                if (reached.contains(instruction.getBlock()))
+                    visit(instruction);
+            }
+        }
+        rewrite(function);
+    }
+
+    /**
+     * Records the input instruction as a user of each of its operands
+     *
+     * @param instruction the input instruction
+     */
+    private void addUses(Instruction instruction)
+    {
+        for (Instruction operand : instruction.getOperands())
+            users.computeIfAbsent(operand, o -> new ArrayList<Instruction>()).add(instruction);
+    }
+
+    /**
+     * Evaluates the input instruction over the lattice, or marks the edges that it takes if it is
+     * a terminator
+     *
+     * @param instruction the input instruction, whose block has been reached
+     */
+    private void visit(Instruction instruction)
+    {
+        switch (instruction)
+        {
+            case Jump jump -> take(jump.getBlock(), jump.getTarget());
+            case Branch branch ->
+            {
+                int id = branch.getOperand(0).getId();
+                if (state[id] == OVERDEFINED || state[id] == CONSTANT && value[id] != 0)
+                    take(branch.getBlock(), branch.getIfTrue());
+                if (state[id] == OVERDEFINED || state[id] == CONSTANT && value[id] == 0)
+                    take(branch.getBlock(), branch.getIfFalse());
+            }
+            case Output output -> { }
+            case Return ret -> { }
+            case Constant constant -> lower(constant, CONSTANT, constant.getValue());
+            case Parameter parameter -> lower(parameter, OVERDEFINED, 0);
+            case Input input -> lower(input, OVERDEFINED, 0);
+            case Phi phi ->
+            {
+                List<BasicBlock> predecessors = phi.getBlock().getPredecessors();
+                for (int i = 0; i < predecessors.size(); i++)
+                {
+                    if (!taken.contains(List.of(predecessors.get(i), phi.getBlock())))
+                        continue;
+                    Instruction operand = phi.getOperand(i);
+                    if (state[operand.getId()] == CONSTANT)
+                        lower(phi, CONSTANT, value[operand.getId()]);
+                    else if (state[operand.getId()] == OVERDEFINED)
+                        lower(phi, OVERDEFINED, 0);
+                }
+            }
+            case BinaryOp binop ->
+            {
+                int left = binop.getOperand(0).getId();
+                int right = binop.getOperand(1).getId();
+                if (state[left] == OVERDEFINED || state[right] == OVERDEFINED ||
+                    binop.getOp() == Operator.DIVIDE && state[right] == CONSTANT &&
+                        value[right] == 0)
+                    lower(binop, OVERDEFINED, 0);
+                else if (state[left] == CONSTANT && state[right] == CONSTANT)
+                    lower(binop, CONSTANT, binop.getOp().apply(value[left], value[right]));
+            }
+            case ShiftOp shift ->
+            {
+                int operand = shift.getOperand(0).getId();
+                if (state[operand] != UNKNOWN)
+                    lower(shift, state[operand], shift.apply(value[operand]));
+            }
+            case MultiplyHighOp product ->
+            {
+                int operand = product.getOperand(0).getId();
+                if (state[operand] != UNKNOWN)
+                    lower(product, state[operand], product.apply(value[operand]));
+            }
+        }
+    }
+
+    /**
+     * Lowers the lattice value of the input instruction, queueing its users if it changes
+     *
+     * @param instruction the input instruction
+     * @param newState CONSTANT or OVERDEFINED
+     * @param newValue the constant value if newState is CONSTANT
+     * @postcondition the instruction is OVERDEFINED if it was already a different constant
+     */
+    private void lower(Instruction instruction, int newState, int newValue)
+    {
+        int id = instruction.getId();
+        if (state[id] == OVERDEFINED ||
+            state[id] == CONSTANT && newState == CONSTANT && value[id] == newValue)
+            return;
+        state[id] = state[id] == CONSTANT ? OVERDEFINED : newState;
+        value[id] = newValue;
+        valueWork.addAll(users.getOrDefault(instruction, List.of()));
+    }
+
+    /**
+     * Marks the edge between the input blocks as taken
+     *
+     * @param from the block that passes control
+     * @param to the block that receives it
+     */
+    private void take(BasicBlock from, BasicBlock to)
+    {
+        if (!taken.add(List.of(from, to)))
+            return;
+        if (reached.add(to))
+            blockWork.add(to);
+        else
+            valueWork.addAll(to.getPhis());
+    }
+
+    /**
+     * Rewrites the input function with the results of the propagation
+     *
+     * @param function the input function
+     */
+    private void rewrite(Function function)
+    {
+        Map<Instruction, Instruction> replacements = new HashMap<Instruction, Instruction>();
+        for (BasicBlock block : function.getBlocks())
+        {
+            if (!reached.contains(block))
+                continue;
+            int position = 0;
+            for (Phi phi : block.getPhis())
+                if (state[phi.getId()] == CONSTANT)
+                    replace(phi, block, position++, replacements);
+            List<Instruction> instructions = block.getInstructions();
+            for (int i = 0; i < instructions.size(); i++)
+            {
+                Instruction instruction = instructions.get(i);
+                if (instruction instanceof Constant || !instruction.isPure() &&
+                    !(instruction instanceof BinaryOp))
+                    continue;
+                if (state[instruction.getId()] == CONSTANT)
+                    replace(instruction, block, i + 1, replacements);
+            }
+            if (block.getTerminator() instanceof Branch branch)
+            {
+                int id = branch.getOperand(0).getId();
+                if (state[id] != CONSTANT)
+                    continue;
+                BasicBlock target = value[id] != 0 ? branch.getIfTrue() : branch.getIfFalse();
+                BasicBlock other = value[id] != 0 ? branch.getIfFalse() : branch.getIfTrue();
+                block.set(instructions.size() - 1, new Jump(target));
+                if (reached.contains(other))
+                    other.removePredecessor(block);
+            }
+        }
+        function.replaceAll(replacements);
+        function.removeUnreachable();
+    }
+
+    /**
+     * Records the replacement of the input instruction with a new Constant of its value
+     *
+     * @param instruction the input instruction, whose value is constant
+     * @param block the block of the instruction
+     * @param index the index among the instructions of the block to insert the Constant at
+     * @param replacements the map from instructions to the instructions that replace them
+     */
+    private void replace(Instruction instruction, BasicBlock block, int index,
+                         Map<Instruction, Instruction> replacements)
+    {
+        Constant constant = new Constant(value[instruction.getId()]);
+        block.insert(index, constant);
+        replacements.put(instruction, constant);
+    }
+}
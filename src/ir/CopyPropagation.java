@@ -0,0 +1,45 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * CopyPropagation removes the copies of the IR. Assignments of one variable to another never
+ * produce instructions, since Lowering simply makes both names refer to the same value, so the
+ * only copies left are trivial phis, which select a single value other than themselves. Each is
+ * replaced by that value, which may make other phis trivial in turn.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class CopyPropagation implements IRPass
+{
+    /**
+     * Removes the trivial phis of the input function
+     *
+     * @param function the input function
+     */
+    @Override
+    public void run(Function function)
+    {
+        boolean changed = true;
+        while (changed)
+        {
+            changed = false;
+            Map<Instruction, Instruction> replacements = new HashMap<Instruction, Instruction>();
+            for (BasicBlock block : function.getBlocks())
+            {
+                for (Phi phi : block.getPhis())
+                {
+                    Instruction value = phi.getTrivialValue();
+                    if (value == null)
+                        continue;
+                    while (replacements.containsKey(value)) value = replacements.get(value);
+                    if (value != phi)
+                        replacements.put(phi, value);
+                }
+            }
+            function.replaceAll(replacements);
+            changed = !replacements.isEmpty();
+        }
+    }
+}
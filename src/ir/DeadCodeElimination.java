@@ -0,0 +1,42 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * DeadCodeElimination removes the pure instructions whose values nothing needs. Instructions that
+ * are not pure, which are terminators, displays, reads, and divisions that may throw, are live,
+ * and so is every operand of a live instruction; everything else is removed. Because liveness is
+ * propagated from the uses rather than counted, cycles of phis that only feed each other are
+ * removed as well.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class DeadCodeElimination implements IRPass
+{
+    /**
+     * Removes the dead instructions of the input function
+     *
+     * @param function the input function
+     */
+    @Override
+    public void run(Function function)
+    {
+        Set<Instruction> live = new HashSet<Instruction>();
+        Deque<Instruction> work = new ArrayDeque<Instruction>();
+        for (BasicBlock block : function.getBlocks())
+            for (Instruction instruction : block.getInstructions())
+                if (!instruction.isPure() && live.add(instruction))
+                    work.push(instruction);
+        while (!work.isEmpty())
+            for (Instruction operand : work.pop().getOperands())
+                if (live.add(operand))
+                    work.push(operand);
+
+        for (BasicBlock block : function.getBlocks())
+        {
+            block.getPhis().removeIf(phi -> !live.contains(phi));
+            block.getInstructions().removeIf(instruction -> !live.contains(instruction));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Dominators computes the dominator tree of a function with the iterative algorithm of Cooper,
+ * Harvey, and Kennedy. A block dominates another when every path from the entry block to the
+ * other block passes through it.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Dominators
+{
+    private List<BasicBlock> order;
+    private Map<BasicBlock, Integer> index;
+    private Map<BasicBlock, BasicBlock> idom;
+    private Map<BasicBlock, List<BasicBlock>> children;
+
+    /**
+     * Dominators constructor for the construction of the dominator tree of the input function
+     *
+     * @param function the input function
+     * @precondition every block of the function is reachable from its entry block
+     */
+    public Dominators(Function function)
+    {
+        this.order = reversePostorder(function.getEntry());
+        this.index = new HashMap<BasicBlock, Integer>();
+        for (int i = 0; i < order.size(); i++) index.put(order.get(i), i);
+
+        BasicBlock entry = function.getEntry();
+        this.idom = new HashMap<BasicBlock, BasicBlock>();
+        idom.put(entry, entry);
+        boolean changed = true;
+        while (changed)
+        {
+            changed = false;
+            for (BasicBlock block : order)
+            {
+                if (block == entry)
+                    continue;
+                BasicBlock dom = null;
+                for (BasicBlock predecessor : block.getPredecessors())
+                    if (idom.containsKey(predecessor))
+                        dom = dom == null ? predecessor : intersect(predecessor, dom);
+                if (dom != idom.get(block))
+                {
+                    idom.put(block, dom);
+                    changed = true;
+                }
+            }
+        }
+
+        this.children = new HashMap<BasicBlock, List<BasicBlock>>();
+        for (BasicBlock block : order)
+        {
+            children.put(block, new ArrayList<BasicBlock>());
+            if (block != entry)
+                children.get(idom.get(block)).add(block);
+        }
+    }
+
+    /**
+     * Gets the blocks reachable from the input block in reverse postorder, in which every block
+     * comes before its successors except along back edges
+     *
+     * @param entry the block to start from
+     * @return the reachable blocks in reverse postorder
+     */
+    public static List<BasicBlock> reversePostorder(BasicBlock entry)
+    {
+        List<BasicBlock> ret = new ArrayList<BasicBlock>();
+        Set<BasicBlock> visited = new HashSet<BasicBlock>();
+        Deque<Iterator<BasicBlock>> stack = new ArrayDeque<Iterator<BasicBlock>>();
+        Deque<BasicBlock> path = new ArrayDeque<BasicBlock>();
+        visited.add(entry);
+        stack.push(entry.getSuccessors().iterator());
+        path.push(entry);
+        while (!stack.isEmpty())
+        {
+            if (stack.peek().hasNext())
+            {
+                BasicBlock next = stack.peek().next();
+                if (visited.add(next))
+                {
+                    stack.push(next.getSuccessors().iterator());
+                    path.push(next);
+                }
+            }
+            else
+            {
+                stack.pop();
+                ret.add(path.pop());
+            }
+        }
+        Collections.reverse(ret);
+        return ret;
+    }
+
+    /**
+     * Finds the nearest common dominator of the input blocks in the tree built so far
+     *
+     * @param a one block
+     * @param b another block
+     * @return the block that dominates both and is dominated by every other such block
+     */
+    private BasicBlock intersect(BasicBlock a, BasicBlock b)
+    {
+        while (a != b)
+        {
+            while (index.get(a) > index.get(b)) a = idom.get(a);
+            while (index.get(b) > index.get(a)) b = idom.get(b);
+        }
+        return a;
+    }
+
+    /**
+     * Gets the reachable blocks of the function in reverse postorder
+     *
+     * @return the unmodifiable list of blocks
+     */
+    public List<BasicBlock> getOrder()
+    {
+        return Collections.unmodifiableList(order);
+    }
+
+    /**
+     * Gets the immediate dominator of the input block
+     *
+     * @param block the input block
+     * @return the closest block that strictly dominates it, or the entry block itself if the
+     * input block is the entry block
+     */
+    public BasicBlock getImmediateDominator(BasicBlock block)
+    {
+        return idom.get(block);
+    }
+
+    /**
+     * Gets the blocks that the input block immediately dominates
+     *
+     * @param block the input block
+     * @return the children of the block in the dominator tree
+     */
+    public List<BasicBlock> getChildren(BasicBlock block)
+    {
+        return Collections.unmodifiableList(children.get(block));
+    }
+
+    /**
+     * Determines whether one block dominates another
+     *
+     * @param a the possible dominator
+     * @param b the block it may dominate
+     * @return true if every path from the entry block to b passes through a, otherwise false
+     */
+    public boolean dominates(BasicBlock a, BasicBlock b)
+    {
+        while (true)
+        {
+            if (a == b)
+                return true;
+            BasicBlock parent = idom.get(b);
+            if (parent == b)
+                return false;
+            b = parent;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Function is a program lowered into a control-flow graph of basic blocks in SSA form: every
+ * instruction is defined exactly once, and each use of a variable refers to the one definition
+ * that reaches it, with phis where definitions meet
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Function
+{
+    private List<BasicBlock> blocks;
+    private int size;
+
+    /**
+     * Function constructor for the construction of a function with an empty entry block
+     */
+    public Function()
+    {
+        this.blocks = new ArrayList<BasicBlock>();
+        this.blocks.add(new BasicBlock(0));
+    }
+
+    /**
+     * Creates a new block at the end of the function
+     *
+     * @return the new, empty block
+     */
+    public BasicBlock newBlock()
+    {
+        BasicBlock block = new BasicBlock(blocks.size());
+        blocks.add(block);
+        return block;
+    }
+
+    /**
+     * Gets the entry block
+     *
+     * @return the block where execution starts
+     */
+    public BasicBlock getEntry()
+    {
+        return blocks.get(0);
+    }
+
+    /**
+     * Gets the blocks of the function
+     *
+     * @return the unmodifiable list of blocks, the entry block first
+     */
+    public List<BasicBlock> getBlocks()
+    {
+        return Collections.unmodifiableList(blocks);
+    }
+
+    /**
+     * Numbers the blocks in order and every instruction in order within them
+     *
+     * @postcondition every block and instruction has a distinct number, and getSize() is the
+     * number of instructions
+     */
+    public void number()
+    {
+        size = 0;
+        for (int i = 0; i < blocks.size(); i++)
+        {
+            BasicBlock block = blocks.get(i);
+            block.setId(i);
+            for (Phi phi : block.getPhis()) phi.setId(size++);
+            for (Instruction instruction : block.getInstructions()) instruction.setId(size++);
+        }
+    }
+
+    /**
+     * Gets the number of instructions that the last call to number() counted
+     *
+     * @return one more than the largest instruction number
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Replaces every use of each key of the input map with a use of its value, following chains
+     * of replacements, and removes the replaced instructions from their blocks
+     *
+     * @param replacements the map from instructions to the instructions that replace them
+     */
+    public void replaceAll(Map<Instruction, Instruction> replacements)
+    {
+        if (replacements.isEmpty())
+            return;
+        for (BasicBlock block : blocks)
+        {
+            block.getPhis().removeIf(replacements::containsKey);
+            block.getInstructions().removeIf(replacements::containsKey);
+            for (Phi phi : block.getPhis()) replaceOperands(phi, replacements);
+            for (Instruction instruction : block.getInstructions())
+                replaceOperands(instruction, replacements);
+        }
+    }
+
+    /**
+     * Replaces the operands of the input instruction that are keys of the input map
+     *
+     * @param instruction the input instruction
+     * @param replacements the map from instructions to the instructions that replace them
+     */
+    private static void replaceOperands(Instruction instruction,
+                                        Map<Instruction, Instruction> replacements)
+    {
+        for (int i = 0; i < instruction.getOperands().size(); i++)
+        {
+            Instruction operand = instruction.getOperand(i);
+            Instruction replacement = replacements.get(operand);
+            if (replacement == null)
+                continue;
+            while (replacements.containsKey(replacement) && replacement != operand)
+                replacement = replacements.get(replacement);
+            instruction.setOperand(i, replacement);
+        }
+    }
+
+    /**
+     * Removes the blocks that control cannot reach from the entry block, together with their
+     * edges into reachable blocks
+     */
+    public void removeUnreachable()
+    {
+        Set<BasicBlock> reachable = new HashSet<BasicBlock>();
+        Deque<BasicBlock> work = new ArrayDeque<BasicBlock>();
+        work.push(getEntry());
+        reachable.add(getEntry());
+        while (!work.isEmpty())
+            for (BasicBlock successor : work.pop().getSuccessors())
+                if (reachable.add(successor))
+                    work.push(successor);
+        for (BasicBlock block : blocks)
+            if (!reachable.contains(block))
+                for (BasicBlock successor : block.getSuccessors())
+                    if (reachable.contains(successor))
+                        successor.removePredecessor(block);
+        blocks.removeIf(block -> !reachable.contains(block));
+    }
+
+    /**
+     * Describes the function
+     *
+     * @return every block of the function as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder ret = new StringBuilder();
+        for (BasicBlock block : blocks) ret.append(block);
+        return ret.toString();
+    }
+}
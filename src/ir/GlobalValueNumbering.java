@@ -0,0 +1,144 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * GlobalValueNumbering removes redundant computations. It walks the dominator tree with a scoped
+ * table from the operator and operands of each pure instruction to the first instruction that
+ * computed them, so a computation is replaced by an identical one only when that one dominates
+ * it and has therefore already run. Operands of commutative operators are ordered, so a + b and
+ * b + a get the same number, and phis of a block that select the same values do too.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class GlobalValueNumbering implements IRPass
+{
+    private Map<List<Object>, Instruction> table;
+    private Map<Instruction, Instruction> replacements;
+
+    /**
+     * Removes the redundant computations of the input function
+     *
+     * @param function the input function
+     */
+    @Override
+    public void run(Function function)
+    {
+        function.number();
+        table = new HashMap<List<Object>, Instruction>();
+        replacements = new HashMap<Instruction, Instruction>();
+        Dominators dominators = new Dominators(function);
+        Deque<Object> stack = new ArrayDeque<Object>();
+        stack.push(function.getEntry());
+        while (!stack.isEmpty())
+        {
+            Object top = stack.pop();
+            if (top instanceof List<?> keys)
+            {
+                for (Object key : keys) table.remove(key);
+                continue;
+            }
+            BasicBlock block = (BasicBlock) top;
+            stack.push(number(block));
+            for (BasicBlock child : dominators.getChildren(block)) stack.push(child);
+        }
+        function.replaceAll(replacements);
+    }
+
+    /**
+     * Numbers the values of the input block, recording the replacement of each redundant one
+     *
+     * @param block the input block, whose dominators have all been numbered
+     * @return the keys that the block added to the table, which leave scope after its children in
+     * the dominator tree have been numbered
+     */
+    private List<List<Object>> number(BasicBlock block)
+    {
+        List<List<Object>> added = new ArrayList<List<Object>>();
+        for (Phi phi : block.getPhis()) number(phi, added);
+        for (Instruction instruction : block.getInstructions())
+            if (instruction.isPure())
+                number(instruction, added);
+        return added;
+    }
+
+    /**
+     * Numbers the value of the input instruction
+     *
+     * @param instruction the input instruction, which is pure
+     * @param added the list of keys that the current block added to the table
+     */
+    private void number(Instruction instruction, List<List<Object>> added)
+    {
+        List<Object> key = key(instruction);
+        Instruction existing = table.get(key);
+        if (existing != null)
+            replacements.put(instruction, existing);
+        else
+        {
+            table.put(key, instruction);
+            added.add(key);
+        }
+    }
+
+    /**
+     * Gets the key of the input instruction, which equals the key of every instruction that
+     * computes the same value from the same operands
+     *
+     * @param instruction the input instruction
+     * @return the list of what determines the value of the instruction
+     */
+    private List<Object> key(Instruction instruction)
+    {
+        List<Object> ret = new ArrayList<Object>();
+        ret.add(instruction.getClass());
+        switch (instruction)
+        {
+            case Constant constant -> ret.add(constant.getValue());
+            case Parameter parameter -> ret.add(parameter.getVar());
+            case Phi phi -> ret.add(phi.getBlock());
+            case BinaryOp binop -> ret.add(binop.getOp());
+            case ShiftOp shift ->
+            {
+                ret.add(shift.getKind());
+                ret.add(shift.getDistance());
+            }
+            case MultiplyHighOp product -> ret.add(product.getMultiplier());
+            default -> { }
+        }
+        List<Integer> operands = new ArrayList<Integer>();
+        for (Instruction operand : instruction.getOperands()) operands.add(find(operand).getId());
+        if (instruction instanceof BinaryOp binop && commutes(binop))
+            Collections.sort(operands);
+        ret.addAll(operands);
+        return ret;
+    }
+
+    /**
+     * Determines whether the operands of the input instruction can be swapped
+     *
+     * @param binop the input instruction
+     * @return true if its operator is +, *, =, or &lt;&gt;, otherwise false
+     */
+    private static boolean commutes(BinaryOp binop)
+    {
+        return switch (binop.getOp())
+        {
+            case PLUS, TIMES, EQ, NE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Gets the instruction that will replace the input one
+     *
+     * @param instruction the input instruction
+     * @return the instruction that computes its value and is not itself replaced
+     */
+    private Instruction find(Instruction instruction)
+    {
+        Instruction ret = replacements.get(instruction);
+        return ret != null ? ret : instruction;
+    }
+}
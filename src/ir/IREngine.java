@@ -0,0 +1,76 @@
+package ir;
+
+import java.util.*;
+
+import ast.Program;
+import environment.Environment;
+import evaluator.Engine;
+
+/**
+ * IREngine executes Programs by lowering them to SSA form, optimizing them with a PassManager,
+ * and running the result on a Backend. Each Program is lowered and optimized only the first time
+ * it is executed.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class IREngine implements Engine
+{
+    private Map<Program, Function> compiled;
+    private PassManager passes;
+    private Backend backend;
+
+    /**
+     * IREngine constructor for the construction of an engine that runs the standard passes and
+     * executes with the IRInterpreter
+     */
+    public IREngine()
+    {
+        this(PassManager.standard(), new IRInterpreter());
+    }
+
+    /**
+     * IREngine constructor for the construction of an engine with the input passes and back end
+     *
+     * @param passes the passes to optimize every lowered program with
+     * @param backend the back end to execute the optimized programs with
+     */
+    public IREngine(PassManager passes, Backend backend)
+    {
+        this.compiled = Collections.synchronizedMap(new WeakHashMap<Program, Function>());
+        this.passes = passes;
+        this.backend = backend;
+    }
+
+    /**
+     * Gets the pass manager, whose report gives the time spent in each pass
+     *
+     * @return the pass manager
+     */
+    public PassManager getPassManager()
+    {
+        return passes;
+    }
+
+    /**
+     * Executes the input program under the input environment, lowering and optimizing it the
+     * first time it is executed
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    @Override
+    public void exec(Program program, Environment env)
+    {
+        Function function = compiled.get(program);
+        if (function == null)
+        {
+            synchronized (passes)
+            {
+                function = passes.run(new Lowering().lower(program));
+            }
+            compiled.put(program, function);
+        }
+        backend.exec(function, env);
+    }
+}
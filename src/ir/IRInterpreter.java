@@ -0,0 +1,148 @@
+package ir;
+
+import java.util.*;
+
+import codegen.RuntimeSupport;
+import environment.Environment;
+
+/**
+ * IRInterpreter is the back end that executes a Function directly. The value of every
+ * instruction lives in an int[] indexed by the instruction's number; on entry to a block, all of
+ * its phis read their operands for the edge taken before any of them is written.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class IRInterpreter implements Backend
+{
+    private RuntimeSupport runtime;
+
+    /**
+     * IRInterpreter constructor for the construction of an interpreter that displays and reads
+     * through the standard RuntimeSupport
+     */
+    public IRInterpreter()
+    {
+        this.runtime = new RuntimeSupport();
+    }
+
+    /**
+     * Executes the input function under the input environment. If an instruction throws, the
+     * variables are given the values its state holds, which are the values they had when it ran.
+     * Either way, everything the function displayed is flushed.
+     *
+     * @param function the input function, which has been numbered
+     * @param env the environment that holds the initial values of the variables and receives
+     * their final values
+     */
+    @Override
+    public void exec(Function function, Environment env)
+    {
+        try
+        {
+            run(function, env);
+        }
+        finally
+        {
+            runtime.flush();
+        }
+    }
+
+    /**
+     * Executes the input function under the input environment, one block at a time
+     *
+     * @param function the input function, which has been numbered
+     * @param env the environment that holds the initial values of the variables and receives
+     * their final values
+     */
+    private void run(Function function, Environment env)
+    {
+        int[] values = new int[function.getSize()];
+        int[] incoming = new int[0];
+        BasicBlock previous = null;
+        BasicBlock block = function.getEntry();
+        while (true)
+        {
+            List<Phi> phis = block.getPhis();
+            if (!phis.isEmpty())
+            {
+                int edge = block.getPredecessors().indexOf(previous);
+                if (incoming.length < phis.size())
+                    incoming = new int[phis.size()];
+                for (int i = 0; i < phis.size(); i++)
+                    incoming[i] = values[phis.get(i).getOperand(edge).getId()];
+                for (int i = 0; i < phis.size(); i++)
+                    values[phis.get(i).getId()] = incoming[i];
+            }
+            previous = block;
+            block = run(block, values, env);
+            if (block == null)
+                return;
+        }
+    }
+
+    /**
+     * Executes the instructions of the input block other than its phis. If one of them throws,
+     * the variables of its state are written into the environment before the exception is
+     * rethrown.
+     *
+     * @param block the input block
+     * @param values the values of the instructions indexed by number
+     * @param env the environment of the variables
+     * @return the block to pass control to, or null if the block returned
+     */
+    private BasicBlock run(BasicBlock block, int[] values, Environment env)
+    {
+        List<Instruction> instructions = block.getInstructions();
+        int index = 0;
+        try
+        {
+            for (; index < instructions.size(); index++)
+            {
+                Instruction instruction = instructions.get(index);
+                int id = instruction.getId();
+                switch (instruction)
+                {
+                    case Constant constant -> values[id] = constant.getValue();
+                    case Parameter parameter -> values[id] = env.getVariable(parameter.getVar());
+                    case BinaryOp binop ->
+                        values[id] = binop.getOp().apply(values[binop.getOperand(0).getId()],
+                                                         values[binop.getOperand(1).getId()]);
+                    case ShiftOp shift ->
+                        values[id] = shift.apply(values[shift.getOperand(0).getId()]);
+                    case MultiplyHighOp product ->
+                        values[id] = product.apply(values[product.getOperand(0).getId()]);
+                    case Output output -> runtime.display(values[output.getOperand(0).getId()]);
+                    case Input input -> values[id] = runtime.read(input.getVar());
+                    case Jump jump ->
+                    {
+                        return jump.getTarget();
+                    }
+                    case Branch branch ->
+                    {
+                        return values[branch.getOperand(0).getId()] != 0 ? branch.getIfTrue() :
+                                                                           branch.getIfFalse();
+                    }
+                    case Return ret ->
+                    {
+                        for (int i = 0; i < ret.getVars().size(); i++)
+                            env.setVariable(ret.getVars().get(i),
+                                            values[ret.getOperand(i).getId()]);
+                        return null;
+                    }
+                    case Phi phi -> throw new IllegalArgumentException("Phi outside the phis of " +
+                                                                       block.getName());
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            Instruction instruction = instructions.get(index);
+            List<String> vars = instruction.getStateVars();
+            for (int i = 0; i < vars.size(); i++)
+                env.setVariable(vars.get(i), values[instruction.getStateValue(i).getId()]);
+            throw e;
+        }
+        throw new IllegalArgumentException("Block " + block.getName() + " has no terminator");
+    }
+}
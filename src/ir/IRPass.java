@@ -0,0 +1,19 @@
+package ir;
+
+/**
+ * IRPass is implemented by every optimization of the SSA intermediate representation. Unlike an
+ * AST Pass, an IRPass rewrites the function it is given in place.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface IRPass
+{
+    /**
+     * Optimizes the input function without changing what it displays
+     *
+     * @param function the input function, which every block of is reachable from its entry block
+     * @postcondition every block of the function is still reachable from its entry block
+     */
+    void run(Function function);
+}
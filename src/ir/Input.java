@@ -0,0 +1,44 @@
+package ir;
+
+/**
+ * Input is the instruction of a read statement, whose value is the value the user enters for a
+ * variable
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Input extends Instruction
+{
+    private String var;
+
+    /**
+     * Input constructor for the construction of a read of the input variable
+     *
+     * @param var the name of the variable, which the prompt shows
+     */
+    public Input(String var)
+    {
+        this.var = var;
+    }
+
+    /**
+     * Gets the name of the variable being read
+     *
+     * @return the name
+     */
+    public String getVar()
+    {
+        return var;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return getName() + " = read " + var + stateToString();
+    }
+}
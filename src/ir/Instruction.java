@@ -0,0 +1,211 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Instruction is the superclass of every instruction of the SSA intermediate representation. An
+ * instruction that produces a value is its own name for that value, so operands refer directly to
+ * the instructions that define them. Every block ends with exactly one terminator: a Jump, a
+ * Branch, or a Return. An instruction that can throw may carry a state: the values that the
+ * program's variables have just before it runs, kept as its last operands so that every pass
+ * updates them like any other operand.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract sealed class Instruction
+    permits Constant, Parameter, Phi, BinaryOp, ShiftOp, MultiplyHighOp, Output, Input, Jump,
+            Branch, Return
+{
+    private List<Instruction> operands;
+    private List<String> stateVars;
+    private BasicBlock block;
+    private int id;
+
+    /**
+     * Instruction constructor for the construction of an instruction with the input operands
+     *
+     * @param operands the instructions whose values this one uses
+     */
+    protected Instruction(Instruction... operands)
+    {
+        this.operands = new ArrayList<Instruction>(Arrays.asList(operands));
+        this.stateVars = List.of();
+        this.id = -1;
+    }
+
+    /**
+     * Gets the operands of the instruction
+     *
+     * @return the unmodifiable list of the instructions whose values this one uses
+     */
+    public List<Instruction> getOperands()
+    {
+        return Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Gets one operand of the instruction
+     *
+     * @param index the index of the operand
+     * @return the instruction whose value is the operand
+     */
+    public Instruction getOperand(int index)
+    {
+        return operands.get(index);
+    }
+
+    /**
+     * Sets one operand of the instruction
+     *
+     * @param index the index of the operand
+     * @param operand the instruction whose value becomes the operand
+     */
+    public void setOperand(int index, Instruction operand)
+    {
+        operands.set(index, operand);
+    }
+
+    /**
+     * Adds an operand to the end of the operands of the instruction
+     *
+     * @param operand the instruction whose value becomes the new last operand
+     */
+    protected void addOperand(Instruction operand)
+    {
+        operands.add(operand);
+    }
+
+    /**
+     * Removes one operand of the instruction
+     *
+     * @param index the index of the operand
+     */
+    protected void removeOperand(int index)
+    {
+        operands.remove(index);
+    }
+
+    /**
+     * Records the values that the variables have just before the instruction runs, which a back
+     * end writes into the Environment if the instruction throws
+     *
+     * @param vars the names of the variables
+     * @param values the instructions whose values the variables have, in the same order
+     * @precondition the instruction has no state yet
+     */
+    public void setState(List<String> vars, List<Instruction> values)
+    {
+        stateVars = List.copyOf(vars);
+        operands.addAll(values);
+    }
+
+    /**
+     * Gets the names of the variables whose values the state of the instruction holds
+     *
+     * @return the names of the variables, which is empty if the instruction has no state
+     */
+    public List<String> getStateVars()
+    {
+        return stateVars;
+    }
+
+    /**
+     * Gets the value that one variable has just before the instruction runs
+     *
+     * @param index the index of the variable in the state
+     * @return the instruction whose value the variable has
+     */
+    public Instruction getStateValue(int index)
+    {
+        return operands.get(operands.size() - stateVars.size() + index);
+    }
+
+    /**
+     * Describes the state of the instruction
+     *
+     * @return the state as it is printed after the instruction, or "" if it has none
+     */
+    protected String stateToString()
+    {
+        if (stateVars.isEmpty())
+            return "";
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < stateVars.size(); i++)
+            values.add(stateVars.get(i) + " = " + getStateValue(i).getName());
+        return " [" + String.join(", ", values) + "]";
+    }
+
+    /**
+     * Gets the block that holds the instruction
+     *
+     * @return the block, or null if the instruction has not been placed in one
+     */
+    public BasicBlock getBlock()
+    {
+        return block;
+    }
+
+    /**
+     * Sets the block that holds the instruction
+     *
+     * @param block the block
+     */
+    void setBlock(BasicBlock block)
+    {
+        this.block = block;
+    }
+
+    /**
+     * Gets the number that Function.number() gave the instruction, which the back ends use to
+     * index the values of a running program
+     *
+     * @return the number of the instruction, or -1 if it has not been numbered
+     */
+    public int getId()
+    {
+        return id;
+    }
+
+    /**
+     * Sets the number of the instruction
+     *
+     * @param id the number
+     */
+    void setId(int id)
+    {
+        this.id = id;
+    }
+
+    /**
+     * Determines whether the instruction can be removed when its value is unused or replaced by
+     * another instruction that computes the same value, which is the case when executing it has
+     * no effect besides producing its value and it cannot throw
+     *
+     * @return true if the instruction is pure, otherwise false
+     */
+    public boolean isPure()
+    {
+        return false;
+    }
+
+    /**
+     * Gets the blocks that control can pass to after the instruction
+     *
+     * @return the successor blocks if the instruction is a terminator, otherwise an empty list
+     */
+    public List<BasicBlock> getSuccessors()
+    {
+        return List.of();
+    }
+
+    /**
+     * Gets the name that printed instructions use for the value of the instruction
+     *
+     * @return '%' followed by the number of the instruction
+     */
+    public String getName()
+    {
+        return "%" + id;
+    }
+}
@@ -0,0 +1,56 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Jump is the terminator that passes control to a single block
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Jump extends Instruction
+{
+    private BasicBlock target;
+
+    /**
+     * Jump constructor for the construction of a jump to the input block
+     *
+     * @param target the block to jump to
+     */
+    public Jump(BasicBlock target)
+    {
+        this.target = target;
+    }
+
+    /**
+     * Gets the block the jump passes control to
+     *
+     * @return the target block
+     */
+    public BasicBlock getTarget()
+    {
+        return target;
+    }
+
+    /**
+     * Gets the blocks that control can pass to after the instruction
+     *
+     * @return the list of the target block
+     */
+    @Override
+    public List<BasicBlock> getSuccessors()
+    {
+        return List.of(target);
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return "jump " + target.getName();
+    }
+}
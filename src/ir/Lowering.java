@@ -0,0 +1,355 @@
+package ir;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * Lowering translates a Program into a Function in SSA form with the algorithm of Braun et al.,
+ * which builds SSA directly from the structured statements. The current definition of every
+ * variable is tracked per block; reading a variable in a block without a definition looks it up
+ * in the predecessors, placing a phi where several definitions meet and a Parameter in the entry
+ * block when no definition reaches. A block is sealed once all of its predecessors are known, so
+ * the phis of a loop header are completed only after its back edge has been lowered. Phis that
+ * turn out to select a single value are left for CopyPropagation to remove. Every division that
+ * may throw and every read is given the current definitions of all of the program's variables as
+ * its state, so that the Environment can be left as the Evaluator would leave it.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Lowering
+{
+    private Function function;
+    private BasicBlock current;
+    private Map<BasicBlock, Map<String, Instruction>> definitions;
+    private Map<BasicBlock, Map<String, Phi>> incomplete;
+    private Set<BasicBlock> sealed;
+    private Set<String> vars;
+    private List<String> stateVars;
+
+    /**
+     * Lowers the input program
+     *
+     * @param program the input program, which is not modified
+     * @return the numbered function that computes the same thing as the program
+     */
+    public Function lower(Program program)
+    {
+        function = new Function();
+        current = function.getEntry();
+        definitions = new HashMap<BasicBlock, Map<String, Instruction>>();
+        incomplete = new HashMap<BasicBlock, Map<String, Phi>>();
+        sealed = new HashSet<BasicBlock>();
+        vars = new LinkedHashSet<String>();
+        collect(program.getStmts());
+        stateVars = List.copyOf(vars);
+        seal(current);
+
+        lower(program.getStmts());
+        List<String> names = new ArrayList<String>(vars);
+        List<Instruction> values = new ArrayList<Instruction>();
+        for (String var : names) values.add(read(var, current));
+        current.append(new Return(names, values));
+        function.number();
+        return function;
+    }
+
+    /**
+     * Lowers the input statements into the current block and the blocks that follow it
+     *
+     * @param stmts the input statements
+     */
+    private void lower(List<Statement> stmts)
+    {
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case Assign assign -> write(assign.getVar(), current, lower(assign.getExp()));
+                case Display display ->
+                {
+                    current.append(new Output(lower(display.getExpression())));
+                    if (display.getReadStmt() != null)
+                        lower(display.getReadStmt().getVar());
+                }
+                case Read readStmt -> lower(readStmt.getVar());
+                case If ifStmt -> lower(ifStmt);
+                case While whileStmt -> lower(whileStmt);
+            }
+        }
+    }
+
+    /**
+     * Adds the name of every variable that the input statements assign or read to the set of the
+     * program's variables
+     *
+     * @param stmts the input statements
+     */
+    private void collect(List<Statement> stmts)
+    {
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case Assign assign ->
+                {
+                    collect(assign.getExp());
+                    vars.add(assign.getVar());
+                }
+                case Display display ->
+                {
+                    collect(display.getExpression());
+                    if (display.getReadStmt() != null)
+                        vars.add(display.getReadStmt().getVar());
+                }
+                case Read readStmt -> vars.add(readStmt.getVar());
+                case If ifStmt ->
+                {
+                    collect(ifStmt.getExpression());
+                    collect(ifStmt.getTrueProgram().getStmts());
+                    if (ifStmt.getFalseProgram() != null)
+                        collect(ifStmt.getFalseProgram().getStmts());
+                }
+                case While whileStmt ->
+                {
+                    collect(whileStmt.getExpression());
+                    collect(whileStmt.getProgram().getStmts());
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the name of every variable that the input expression reads to the set of the
+     * program's variables
+     *
+     * @param exp the input expression
+     */
+    private void collect(Expression exp)
+    {
+        switch (exp)
+        {
+            case Variable var -> vars.add(var.getName());
+            case BinOp binop ->
+            {
+                collect(binop.getExp1());
+                collect(binop.getExp2());
+            }
+            case Shift shift -> collect(shift.getExp());
+            case MultiplyHigh product -> collect(product.getExp());
+            case Number num -> { }
+        }
+    }
+
+    /**
+     * Finds the current definition of every variable of the program in the current block
+     *
+     * @return the instructions whose values the variables have, in the order of stateVars
+     */
+    private List<Instruction> state()
+    {
+        List<Instruction> ret = new ArrayList<Instruction>(stateVars.size());
+        for (String var : stateVars) ret.add(read(var, current));
+        return ret;
+    }
+
+    /**
+     * Lowers a read of the input variable
+     *
+     * @param var the name of the variable
+     */
+    private void lower(String var)
+    {
+        Input input = new Input(var);
+        input.setState(stateVars, state());
+        write(var, current, current.append(input));
+    }
+
+    /**
+     * Lowers the input If statement, leaving the block after it current
+     *
+     * @param ifStmt the input If statement
+     */
+    private void lower(If ifStmt)
+    {
+        Instruction condition = lower(ifStmt.getExpression());
+        BasicBlock ifTrue = function.newBlock();
+        BasicBlock ifFalse = function.newBlock();
+        BasicBlock join = ifStmt.getFalseProgram() != null ? function.newBlock() : ifFalse;
+        branch(condition, ifTrue, ifFalse);
+        seal(ifTrue);
+
+        current = ifTrue;
+        lower(ifStmt.getTrueProgram().getStmts());
+        jump(join);
+        if (ifStmt.getFalseProgram() != null)
+        {
+            seal(ifFalse);
+            current = ifFalse;
+            lower(ifStmt.getFalseProgram().getStmts());
+            jump(join);
+        }
+        seal(join);
+        current = join;
+    }
+
+    /**
+     * Lowers the input While statement, leaving the block after it current
+     *
+     * @param whileStmt the input While statement
+     */
+    private void lower(While whileStmt)
+    {
+        BasicBlock header = function.newBlock();
+        BasicBlock body = function.newBlock();
+        BasicBlock exit = function.newBlock();
+        jump(header);
+
+        current = header;
+        branch(lower(whileStmt.getExpression()), body, exit);
+        seal(body);
+        seal(exit);
+
+        current = body;
+        lower(whileStmt.getProgram().getStmts());
+        jump(header);
+        seal(header);
+        current = exit;
+    }
+
+    /**
+     * Lowers the input expression into the current block
+     *
+     * @param exp the input expression
+     * @return the instruction whose value is the value of the expression
+     */
+    private Instruction lower(Expression exp)
+    {
+        return switch (exp)
+        {
+            case Number num -> current.append(new Constant(num.getValue()));
+            case Variable var -> read(var.getName(), current);
+            case BinOp binop ->
+            {
+                Instruction left = lower(binop.getExp1());
+                Instruction right = lower(binop.getExp2());
+                BinaryOp ret = new BinaryOp(binop.getOp(), left, right);
+                if (!ret.isPure())
+                    ret.setState(stateVars, state());
+                yield current.append(ret);
+            }
+            case Shift shift ->
+                current.append(new ShiftOp(shift.getKind(), lower(shift.getExp()),
+                                           shift.getDistance()));
+            case MultiplyHigh product ->
+                current.append(new MultiplyHighOp(lower(product.getExp()),
+                                                  product.getMultiplier()));
+        };
+    }
+
+    /**
+     * Ends the current block with a jump to the input block
+     *
+     * @param target the block to jump to
+     */
+    private void jump(BasicBlock target)
+    {
+        current.append(new Jump(target));
+        target.addPredecessor(current);
+    }
+
+    /**
+     * Ends the current block with a branch on the input condition
+     *
+     * @param condition the instruction whose value decides the branch
+     * @param ifTrue the block to pass control to if the condition is nonzero
+     * @param ifFalse the block to pass control to if the condition is zero
+     */
+    private void branch(Instruction condition, BasicBlock ifTrue, BasicBlock ifFalse)
+    {
+        current.append(new Branch(condition, ifTrue, ifFalse));
+        ifTrue.addPredecessor(current);
+        ifFalse.addPredecessor(current);
+    }
+
+    /**
+     * Records the input value as the current definition of the input variable in the input block
+     *
+     * @param var the name of the variable
+     * @param block the block
+     * @param value the instruction whose value the variable now has
+     */
+    private void write(String var, BasicBlock block, Instruction value)
+    {
+        vars.add(var);
+        definitions.computeIfAbsent(block, b -> new HashMap<String, Instruction>()).put(var, value);
+    }
+
+    /**
+     * Finds the definition of the input variable that reaches the end of the input block
+     *
+     * @param var the name of the variable
+     * @param block the block
+     * @return the instruction whose value the variable has at the end of the block
+     */
+    private Instruction read(String var, BasicBlock block)
+    {
+        vars.add(var);
+        Map<String, Instruction> defined = definitions.get(block);
+        if (defined != null && defined.containsKey(var))
+            return defined.get(var);
+
+        Instruction ret;
+        if (!sealed.contains(block))
+        {
+            Phi phi = new Phi(var);
+            block.addPhi(phi);
+            incomplete.computeIfAbsent(block, b -> new HashMap<String, Phi>()).put(var, phi);
+            ret = phi;
+        }
+        else if (block.getPredecessors().isEmpty())
+        {
+            ret = new Parameter(var);
+            block.insert(0, ret);
+        }
+        else if (block.getPredecessors().size() == 1)
+            ret = read(var, block.getPredecessors().get(0));
+        else
+        {
+            Phi phi = new Phi(var);
+            block.addPhi(phi);
+            write(var, block, phi);
+            addIncoming(phi, block);
+            ret = phi;
+        }
+        write(var, block, ret);
+        return ret;
+    }
+
+    /**
+     * Gives the input phi the definition that reaches it along each edge into its block
+     *
+     * @param phi the input phi
+     * @param block the block of the phi
+     */
+    private void addIncoming(Phi phi, BasicBlock block)
+    {
+        for (BasicBlock predecessor : block.getPredecessors())
+            phi.addIncoming(read(phi.getVar(), predecessor));
+    }
+
+    /**
+     * Records that every predecessor of the input block is known, completing its pending phis
+     *
+     * @param block the block to seal
+     */
+    private void seal(BasicBlock block)
+    {
+        sealed.add(block);
+        Map<String, Phi> pending = incomplete.remove(block);
+        if (pending != null)
+            for (Phi phi : pending.values()) addIncoming(phi, block);
+    }
+}
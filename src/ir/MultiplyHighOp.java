@@ -0,0 +1,68 @@
+package ir;
+
+/**
+ * MultiplyHighOp is an instruction whose value is the high 32 bits of the 64-bit product of a
+ * value and a constant multiplier
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class MultiplyHighOp extends Instruction
+{
+    private int multiplier;
+
+    /**
+     * MultiplyHighOp constructor for the construction of the high product of the input value
+     *
+     * @param value the instruction whose value is multiplied
+     * @param multiplier the constant multiplier
+     */
+    public MultiplyHighOp(Instruction value, int multiplier)
+    {
+        super(value);
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Gets the constant multiplier
+     *
+     * @return the multiplier
+     */
+    public int getMultiplier()
+    {
+        return multiplier;
+    }
+
+    /**
+     * Computes the high product of the input value
+     *
+     * @param value the value to multiply
+     * @return the high 32 bits of value * multiplier as a 64-bit product
+     */
+    public int apply(int value)
+    {
+        return (int) (((long) value * multiplier) >> 32);
+    }
+
+    /**
+     * Determines whether the instruction is pure, which every MultiplyHighOp is
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPure()
+    {
+        return true;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return getName() + " = mulhi " + getOperand(0).getName() + " " + multiplier;
+    }
+}
@@ -0,0 +1,31 @@
+package ir;
+
+/**
+ * Output is the instruction of a display statement, which prints out a value
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Output extends Instruction
+{
+    /**
+     * Output constructor for the construction of the display of the input value
+     *
+     * @param value the instruction whose value is displayed
+     */
+    public Output(Instruction value)
+    {
+        super(value);
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return "display " + getOperand(0).getName();
+    }
+}
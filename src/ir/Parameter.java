@@ -0,0 +1,55 @@
+package ir;
+
+/**
+ * Parameter is an instruction of the entry block whose value is the value that a variable has in
+ * the Environment when the program starts
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Parameter extends Instruction
+{
+    private String var;
+
+    /**
+     * Parameter constructor for the construction of the initial value of the input variable
+     *
+     * @param var the name of the variable
+     */
+    public Parameter(String var)
+    {
+        this.var = var;
+    }
+
+    /**
+     * Gets the name of the variable
+     *
+     * @return the name
+     */
+    public String getVar()
+    {
+        return var;
+    }
+
+    /**
+     * Determines whether the instruction is pure, which every Parameter is
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPure()
+    {
+        return true;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        return getName() + " = param " + var;
+    }
+}
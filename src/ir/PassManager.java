@@ -0,0 +1,86 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * PassManager runs a sequence of IR passes in order and keeps the time that each of them takes.
+ * The function is renumbered after every pass, so the back ends can run it as soon as the pass
+ * manager returns.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class PassManager
+{
+    private List<IRPass> passes;
+    private long[] nanos;
+
+    /**
+     * PassManager constructor for the construction of a pipeline of the input passes
+     *
+     * @param passes the passes in the order they run
+     */
+    public PassManager(IRPass... passes)
+    {
+        this.passes = List.of(passes);
+        this.nanos = new long[passes.length];
+    }
+
+    /**
+     * Creates the standard pipeline: copy propagation, global value numbering, sparse conditional
+     * constant propagation, and dead code elimination. Copy propagation and value numbering run a
+     * second time after constant propagation, since removing the edges it proves are never taken
+     * makes more phis trivial and more blocks dominate each other.
+     *
+     * @return a new pass manager for the standard pipeline
+     */
+    public static PassManager standard()
+    {
+        return new PassManager(new CopyPropagation(), new GlobalValueNumbering(),
+                               new ConstantPropagation(), new CopyPropagation(),
+                               new GlobalValueNumbering(), new DeadCodeElimination());
+    }
+
+    /**
+     * Runs every pass on the input function in order, adding the time each takes to its total
+     *
+     * @param function the input function
+     * @return the optimized, numbered function
+     */
+    public Function run(Function function)
+    {
+        for (int i = 0; i < passes.size(); i++)
+        {
+            long start = System.nanoTime();
+            passes.get(i).run(function);
+            function.number();
+            nanos[i] += System.nanoTime() - start;
+        }
+        return function;
+    }
+
+    /**
+     * Gets the total time that one pass has taken over every run so far
+     *
+     * @param index the index of the pass in the pipeline
+     * @return the time in nanoseconds
+     */
+    public long getNanos(int index)
+    {
+        return nanos[index];
+    }
+
+    /**
+     * Describes the time that each pass has taken over every run so far
+     *
+     * @return one line per pass, giving its name and its time in milliseconds
+     */
+    public String report()
+    {
+        StringBuilder ret = new StringBuilder();
+        for (int i = 0; i < passes.size(); i++)
+            ret.append(String.format("%-28s %10.3f ms%n", passes.get(i).getClass().getSimpleName(),
+                                     nanos[i] / 1e6));
+        return ret.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Phi is the instruction at the start of a block that selects the value of a variable by the
+ * edge control arrived along. Its i-th operand is the value for the block's i-th predecessor.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Phi extends Instruction
+{
+    private String var;
+
+    /**
+     * Phi constructor for the construction of a phi without operands
+     *
+     * @param var the name of the variable whose value the phi selects, used when printing
+     */
+    public Phi(String var)
+    {
+        this.var = var;
+    }
+
+    /**
+     * Gets the name of the variable whose value the phi selects
+     *
+     * @return the name
+     */
+    public String getVar()
+    {
+        return var;
+    }
+
+    /**
+     * Adds the value for the next predecessor of the block
+     *
+     * @param value the instruction whose value the phi selects along that edge
+     */
+    public void addIncoming(Instruction value)
+    {
+        addOperand(value);
+    }
+
+    /**
+     * Removes the value for one predecessor of the block
+     *
+     * @param index the index of the predecessor
+     */
+    void removeIncoming(int index)
+    {
+        removeOperand(index);
+    }
+
+    /**
+     * Gets the only value the phi can select other than itself
+     *
+     * @return that value, or null if the phi selects more than one distinct value
+     */
+    public Instruction getTrivialValue()
+    {
+        Instruction ret = null;
+        for (Instruction operand : getOperands())
+        {
+            if (operand == this || operand == ret)
+                continue;
+            if (ret != null)
+                return null;
+            ret = operand;
+        }
+        return ret;
+    }
+
+    /**
+     * Determines whether the instruction is pure, which every Phi is
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPure()
+    {
+        return true;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        List<String> names = new ArrayList<String>();
+        for (Instruction operand : getOperands()) names.add(operand.getName());
+        return getName() + " = phi " + var + " [" + String.join(", ", names) + "]";
+    }
+}
@@ -0,0 +1,52 @@
+package ir;
+
+import java.util.*;
+
+/**
+ * Return is the terminator that ends the program. Its operands are the final values of the
+ * program's variables, which the back ends write back into the Environment.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class Return extends Instruction
+{
+    private List<String> vars;
+
+    /**
+     * Return constructor for the construction of the end of a program
+     *
+     * @param vars the names of the variables of the program
+     * @param values the instructions whose values are the final values of the variables, in the
+     * same order
+     */
+    public Return(List<String> vars, List<Instruction> values)
+    {
+        super(values.toArray(new Instruction[0]));
+        this.vars = List.copyOf(vars);
+    }
+
+    /**
+     * Gets the names of the variables whose final values are the operands
+     *
+     * @return the names of the variables, in the order of the operands
+     */
+    public List<String> getVars()
+    {
+        return vars;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < vars.size(); i++)
+            values.add(vars.get(i) + " = " + getOperand(i).getName());
+        return "return " + String.join(", ", values);
+    }
+}
@@ -0,0 +1,88 @@
+package ir;
+
+import ast.Shift;
+
+/**
+ * ShiftOp is an instruction that shifts a value by a constant distance
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class ShiftOp extends Instruction
+{
+    private Shift.Kind kind;
+    private int distance;
+
+    /**
+     * ShiftOp constructor for the construction of a shift of the input value
+     *
+     * @param kind the direction of the shift
+     * @param value the instruction whose value is shifted
+     * @param distance the number of bits to shift by, from 0 to 31
+     */
+    public ShiftOp(Shift.Kind kind, Instruction value, int distance)
+    {
+        super(value);
+        this.kind = kind;
+        this.distance = distance;
+    }
+
+    /**
+     * Gets the direction of the shift
+     *
+     * @return the kind of the shift
+     */
+    public Shift.Kind getKind()
+    {
+        return kind;
+    }
+
+    /**
+     * Gets the number of bits to shift by
+     *
+     * @return the distance of the shift
+     */
+    public int getDistance()
+    {
+        return distance;
+    }
+
+    /**
+     * Applies the shift to the input value
+     *
+     * @param value the value to shift
+     * @return the shifted value, as Java's <<, >>, or >>> operator computes it
+     */
+    public int apply(int value)
+    {
+        switch (kind)
+        {
+            case LEFT: return value << distance;
+            case RIGHT: return value >> distance;
+            default: return value >>> distance;
+        }
+    }
+
+    /**
+     * Determines whether the instruction is pure, which every ShiftOp is
+     *
+     * @return true
+     */
+    @Override
+    public boolean isPure()
+    {
+        return true;
+    }
+
+    /**
+     * Describes the instruction
+     *
+     * @return the instruction as it is printed
+     */
+    @Override
+    public String toString()
+    {
+        String symbol = kind == Shift.Kind.LEFT ? "<<" : kind == Shift.Kind.RIGHT ? ">>" : ">>>";
+        return getName() + " = " + getOperand(0).getName() + " " + symbol + " " + distance;
+    }
+}
@@ -0,0 +1,181 @@
+package nodes;
+
+import ast.Operator;
+
+/**
+ * ArithConstNode evaluates an arithmetic operator one of whose operands is a number literal. If
+ * the literal is on the left, the operator is commutative and the literal has been moved to the
+ * right. Each operator has a subclass of its own, chosen by create when the node is built, so
+ * evaluating the node never branches on the operator.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class ArithConstNode extends ExprNode
+{
+    private final int value;
+    private ExprNode left;
+
+    /**
+     * ArithConstNode constructor for the construction of an arithmetic operator node with a
+     * constant right-hand operand
+     *
+     * @param left the node of the expression on the left-hand side of the operator
+     * @param value the right-hand operand
+     */
+    private ArithConstNode(ExprNode left, int value)
+    {
+        this.value = value;
+        this.left = adopt(left);
+    }
+
+    /**
+     * Creates the arithmetic operator node of the input operator with a constant right-hand
+     * operand
+     *
+     * @param op the operator, one of PLUS, MINUS, TIMES, and DIVIDE
+     * @param left the node of the expression on the left-hand side of the operator
+     * @param value the right-hand operand
+     * @return the node specialized for the operator
+     * @throws IllegalArgumentException when the operator is not arithmetic
+     */
+    public static ArithConstNode create(Operator op, ExprNode left, int value)
+    {
+        switch (op)
+        {
+            case PLUS: return new Plus(left, value);
+            case MINUS: return new Minus(left, value);
+            case TIMES: return new Times(left, value);
+            case DIVIDE: return new Divide(left, value);
+            default: throw new IllegalArgumentException("Not an arithmetic operator: " + op);
+        }
+    }
+
+    /**
+     * Replaces the non-constant operand with the input node
+     *
+     * @param oldChild the operand to replace
+     * @param newChild the node to put in the operand's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        left = (ExprNode) newChild;
+    }
+
+    /**
+     * Plus evaluates the addition of a constant
+     */
+    private static final class Plus extends ArithConstNode
+    {
+        /**
+         * Plus constructor for the construction of a node that adds a constant
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Plus(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the addition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the sum of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) + super.value;
+        }
+    }
+
+    /**
+     * Minus evaluates the subtraction of a constant
+     */
+    private static final class Minus extends ArithConstNode
+    {
+        /**
+         * Minus constructor for the construction of a node that subtracts a constant
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Minus(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the subtraction
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the difference of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) - super.value;
+        }
+    }
+
+    /**
+     * Times evaluates the multiplication by a constant
+     */
+    private static final class Times extends ArithConstNode
+    {
+        /**
+         * Times constructor for the construction of a node that multiplies by a constant
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Times(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the multiplication
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the product of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) * super.value;
+        }
+    }
+
+    /**
+     * Divide evaluates the division by a constant
+     */
+    private static final class Divide extends ArithConstNode
+    {
+        /**
+         * Divide constructor for the construction of a node that divides by a constant
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Divide(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the division
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the quotient of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) / super.value;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package nodes;
+
+import ast.Operator;
+
+/**
+ * ArithNode evaluates an arithmetic operator whose operands are both computed at run time. Each
+ * operator has a subclass of its own, chosen by create when the node is built, so evaluating the
+ * node never branches on the operator.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class ArithNode extends ExprNode
+{
+    private ExprNode left;
+    private ExprNode right;
+
+    /**
+     * ArithNode constructor for the construction of an arithmetic operator node
+     *
+     * @param left the node of the expression on the left-hand side of the operator
+     * @param right the node of the expression on the right-hand side of the operator
+     */
+    private ArithNode(ExprNode left, ExprNode right)
+    {
+        this.left = adopt(left);
+        this.right = adopt(right);
+    }
+
+    /**
+     * Creates the arithmetic operator node of the input operator
+     *
+     * @param op the operator, one of PLUS, MINUS, TIMES, and DIVIDE
+     * @param left the node of the expression on the left-hand side of the operator
+     * @param right the node of the expression on the right-hand side of the operator
+     * @return the node specialized for the operator
+     * @throws IllegalArgumentException when the operator is not arithmetic
+     */
+    public static ArithNode create(Operator op, ExprNode left, ExprNode right)
+    {
+        switch (op)
+        {
+            case PLUS: return new Plus(left, right);
+            case MINUS: return new Minus(left, right);
+            case TIMES: return new Times(left, right);
+            case DIVIDE: return new Divide(left, right);
+            default: throw new IllegalArgumentException("Not an arithmetic operator: " + op);
+        }
+    }
+
+    /**
+     * Replaces one of this node's operands with the input node
+     *
+     * @param oldChild the operand to replace
+     * @param newChild the node to put in the operand's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        if (oldChild == left) left = (ExprNode) newChild;
+        else right = (ExprNode) newChild;
+    }
+
+    /**
+     * Plus evaluates an addition
+     */
+    private static final class Plus extends ArithNode
+    {
+        /**
+         * Plus constructor for the construction of an addition node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Plus(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the addition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the sum of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) + super.right.eval(frame);
+        }
+    }
+
+    /**
+     * Minus evaluates a subtraction
+     */
+    private static final class Minus extends ArithNode
+    {
+        /**
+         * Minus constructor for the construction of a subtraction node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Minus(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the subtraction
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the difference of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) - super.right.eval(frame);
+        }
+    }
+
+    /**
+     * Times evaluates a multiplication
+     */
+    private static final class Times extends ArithNode
+    {
+        /**
+         * Times constructor for the construction of a multiplication node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Times(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the multiplication
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the product of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) * super.right.eval(frame);
+        }
+    }
+
+    /**
+     * Divide evaluates a division
+     */
+    private static final class Divide extends ArithNode
+    {
+        /**
+         * Divide constructor for the construction of a division node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Divide(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the division
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the quotient of the operands
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.left.eval(frame) / super.right.eval(frame);
+        }
+    }
+}
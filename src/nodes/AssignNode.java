@@ -0,0 +1,48 @@
+package nodes;
+
+/**
+ * AssignNode executes an assign statement
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class AssignNode extends StmtNode
+{
+    private final int slot;
+    private ExprNode exp;
+
+    /**
+     * AssignNode constructor for the construction of an assign statement node
+     *
+     * @param slot the frame slot of the variable being assigned
+     * @param exp the node of the expression whose value is assigned
+     */
+    public AssignNode(int slot, ExprNode exp)
+    {
+        this.slot = slot;
+        this.exp = adopt(exp);
+    }
+
+    /**
+     * Executes the assign statement
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        frame[slot] = exp.eval(frame);
+    }
+
+    /**
+     * Replaces the expression with the input node
+     *
+     * @param oldChild the expression to replace
+     * @param newChild the node to put in the expression's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        exp = (ExprNode) newChild;
+    }
+}
@@ -0,0 +1,82 @@
+package nodes;
+
+import ast.Operator;
+
+/**
+ * BinOpNode is a binary operator expression that has not run yet. The first time it is evaluated
+ * it replaces itself with the node specialized for its operator and operands: a comparison becomes
+ * a CompareNode that conditions can test without materializing 0 or 1, and an operator with a
+ * number literal operand takes the literal as a constant instead of evaluating a child for it.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class BinOpNode extends ExprNode
+{
+    private final Operator op;
+    private ExprNode left;
+    private ExprNode right;
+
+    /**
+     * BinOpNode constructor for the construction of an unspecialized binary operator node
+     *
+     * @param op the binary operator
+     * @param left the node of the expression on the left-hand side of the operator
+     * @param right the node of the expression on the right-hand side of the operator
+     */
+    public BinOpNode(Operator op, ExprNode left, ExprNode right)
+    {
+        this.op = op;
+        this.left = adopt(left);
+        this.right = adopt(right);
+    }
+
+    /**
+     * Replaces this node with the node specialized for its operator and operands
+     *
+     * @return the specialized node
+     */
+    private ExprNode specialize()
+    {
+        boolean compare = op.isComparison();
+        if (right instanceof ConstantNode)
+        {
+            int value = ((ConstantNode) right).getValue();
+            return replace(compare ? CompareConstNode.create(op, left, value) :
+                           ArithConstNode.create(op, left, value));
+        }
+        if (left instanceof ConstantNode &&
+            (compare || op == Operator.PLUS || op == Operator.TIMES))
+        {
+            int value = ((ConstantNode) left).getValue();
+            return replace(compare ? CompareConstNode.create(op.swap(), right, value) :
+                           ArithConstNode.create(op, right, value));
+        }
+        return replace(compare ? CompareNode.create(op, left, right) :
+                       ArithNode.create(op, left, right));
+    }
+
+    /**
+     * Specializes this node and evaluates the expression
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return the value of the expression
+     */
+    @Override
+    public int eval(int[] frame)
+    {
+        return specialize().eval(frame);
+    }
+
+    /**
+     * Specializes this node and evaluates the expression as a condition
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return true if the expression is nonzero, otherwise false
+     */
+    @Override
+    public boolean test(int[] frame)
+    {
+        return specialize().test(frame);
+    }
+}
@@ -0,0 +1,47 @@
+package nodes;
+
+/**
+ * BlockNode executes a list of statements in order
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class BlockNode extends StmtNode
+{
+    private final StmtNode[] stmts;
+
+    /**
+     * BlockNode constructor for the construction of a block of statements
+     *
+     * @param stmts the nodes of the statements
+     */
+    public BlockNode(StmtNode[] stmts)
+    {
+        this.stmts = stmts;
+        for (StmtNode stmt : stmts) adopt(stmt);
+    }
+
+    /**
+     * Executes the statements in order
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        for (StmtNode stmt : stmts) stmt.exec(frame);
+    }
+
+    /**
+     * Replaces one of the statements with the input node
+     *
+     * @param oldChild the statement to replace
+     * @param newChild the node to put in the statement's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        for (int i = 0; i < stmts.length; i++)
+            if (stmts[i] == oldChild) stmts[i] = (StmtNode) newChild;
+    }
+}
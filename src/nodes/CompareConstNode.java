@@ -0,0 +1,261 @@
+package nodes;
+
+import ast.Operator;
+
+/**
+ * CompareConstNode evaluates a comparison one of whose operands is a number literal. If the
+ * literal is on the left, the comparison has been swapped so that the literal is on the right.
+ * Each comparison has a subclass of its own, chosen by create when the node is built, so testing
+ * the node never branches on the operator.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class CompareConstNode extends ExprNode
+{
+    private final int value;
+    private ExprNode left;
+
+    /**
+     * CompareConstNode constructor for the construction of a comparison node with a constant
+     * right-hand operand
+     *
+     * @param left the node of the expression on the left-hand side of the comparison
+     * @param value the right-hand operand
+     */
+    private CompareConstNode(ExprNode left, int value)
+    {
+        this.value = value;
+        this.left = adopt(left);
+    }
+
+    /**
+     * Creates the comparison node of the input operator with a constant right-hand operand
+     *
+     * @param op the comparison operator
+     * @param left the node of the expression on the left-hand side of the comparison
+     * @param value the right-hand operand
+     * @return the node specialized for the operator
+     * @throws IllegalArgumentException when the operator is not a comparison
+     */
+    public static CompareConstNode create(Operator op, ExprNode left, int value)
+    {
+        switch (op)
+        {
+            case EQ: return new Equal(left, value);
+            case NE: return new NotEqual(left, value);
+            case LT: return new Less(left, value);
+            case GT: return new Greater(left, value);
+            case LE: return new LessEqual(left, value);
+            case GE: return new GreaterEqual(left, value);
+            default: throw new IllegalArgumentException("Not a comparison: " + op);
+        }
+    }
+
+    /**
+     * Evaluates the comparison
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return 1 if the comparison holds, otherwise 0
+     */
+    @Override
+    public int eval(int[] frame)
+    {
+        return test(frame) ? 1 : 0;
+    }
+
+    /**
+     * Evaluates the comparison as a condition
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return true if the comparison holds, otherwise false
+     */
+    @Override
+    public abstract boolean test(int[] frame);
+
+    /**
+     * Replaces the non-constant operand with the input node
+     *
+     * @param oldChild the operand to replace
+     * @param newChild the node to put in the operand's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        left = (ExprNode) newChild;
+    }
+
+    /**
+     * Equal evaluates an equality
+     */
+    private static final class Equal extends CompareConstNode
+    {
+        /**
+         * Equal constructor for the construction of an equality node
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Equal(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) == super.value;
+        }
+    }
+
+    /**
+     * NotEqual evaluates an inequality
+     */
+    private static final class NotEqual extends CompareConstNode
+    {
+        /**
+         * NotEqual constructor for the construction of an inequality node
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private NotEqual(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is not equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) != super.value;
+        }
+    }
+
+    /**
+     * Less evaluates a less-than comparison
+     */
+    private static final class Less extends CompareConstNode
+    {
+        /**
+         * Less constructor for the construction of a less-than comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Less(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is less than the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) < super.value;
+        }
+    }
+
+    /**
+     * Greater evaluates a greater-than comparison
+     */
+    private static final class Greater extends CompareConstNode
+    {
+        /**
+         * Greater constructor for the construction of a greater-than comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private Greater(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is greater than the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) > super.value;
+        }
+    }
+
+    /**
+     * LessEqual evaluates a less-than-or-equal comparison
+     */
+    private static final class LessEqual extends CompareConstNode
+    {
+        /**
+         * LessEqual constructor for the construction of a less-than-or-equal comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private LessEqual(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is less than or equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) <= super.value;
+        }
+    }
+
+    /**
+     * GreaterEqual evaluates a greater-than-or-equal comparison
+     */
+    private static final class GreaterEqual extends CompareConstNode
+    {
+        /**
+         * GreaterEqual constructor for the construction of a greater-than-or-equal comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param value the right-hand operand
+         */
+        private GreaterEqual(ExprNode left, int value)
+        {
+            super(left, value);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is greater than or equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) >= super.value;
+        }
+    }
+}
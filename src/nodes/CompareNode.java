@@ -0,0 +1,260 @@
+package nodes;
+
+import ast.Operator;
+
+/**
+ * CompareNode evaluates a comparison whose operands are both computed at run time. Conditions get
+ * its result as a boolean through test. Each comparison has a subclass of its own, chosen by
+ * create when the node is built, so testing the node never branches on the operator.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class CompareNode extends ExprNode
+{
+    private ExprNode left;
+    private ExprNode right;
+
+    /**
+     * CompareNode constructor for the construction of a comparison node
+     *
+     * @param left the node of the expression on the left-hand side of the comparison
+     * @param right the node of the expression on the right-hand side of the comparison
+     */
+    private CompareNode(ExprNode left, ExprNode right)
+    {
+        this.left = adopt(left);
+        this.right = adopt(right);
+    }
+
+    /**
+     * Creates the comparison node of the input operator
+     *
+     * @param op the comparison operator
+     * @param left the node of the expression on the left-hand side of the comparison
+     * @param right the node of the expression on the right-hand side of the comparison
+     * @return the node specialized for the operator
+     * @throws IllegalArgumentException when the operator is not a comparison
+     */
+    public static CompareNode create(Operator op, ExprNode left, ExprNode right)
+    {
+        switch (op)
+        {
+            case EQ: return new Equal(left, right);
+            case NE: return new NotEqual(left, right);
+            case LT: return new Less(left, right);
+            case GT: return new Greater(left, right);
+            case LE: return new LessEqual(left, right);
+            case GE: return new GreaterEqual(left, right);
+            default: throw new IllegalArgumentException("Not a comparison: " + op);
+        }
+    }
+
+    /**
+     * Evaluates the comparison
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return 1 if the comparison holds, otherwise 0
+     */
+    @Override
+    public int eval(int[] frame)
+    {
+        return test(frame) ? 1 : 0;
+    }
+
+    /**
+     * Evaluates the comparison as a condition
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return true if the comparison holds, otherwise false
+     */
+    @Override
+    public abstract boolean test(int[] frame);
+
+    /**
+     * Replaces one of this node's operands with the input node
+     *
+     * @param oldChild the operand to replace
+     * @param newChild the node to put in the operand's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        if (oldChild == left) left = (ExprNode) newChild;
+        else right = (ExprNode) newChild;
+    }
+
+    /**
+     * Equal evaluates an equality
+     */
+    private static final class Equal extends CompareNode
+    {
+        /**
+         * Equal constructor for the construction of an equality node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Equal(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) == super.right.eval(frame);
+        }
+    }
+
+    /**
+     * NotEqual evaluates an inequality
+     */
+    private static final class NotEqual extends CompareNode
+    {
+        /**
+         * NotEqual constructor for the construction of an inequality node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private NotEqual(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is not equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) != super.right.eval(frame);
+        }
+    }
+
+    /**
+     * Less evaluates a less-than comparison
+     */
+    private static final class Less extends CompareNode
+    {
+        /**
+         * Less constructor for the construction of a less-than comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Less(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is less than the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) < super.right.eval(frame);
+        }
+    }
+
+    /**
+     * Greater evaluates a greater-than comparison
+     */
+    private static final class Greater extends CompareNode
+    {
+        /**
+         * Greater constructor for the construction of a greater-than comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private Greater(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is greater than the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) > super.right.eval(frame);
+        }
+    }
+
+    /**
+     * LessEqual evaluates a less-than-or-equal comparison
+     */
+    private static final class LessEqual extends CompareNode
+    {
+        /**
+         * LessEqual constructor for the construction of a less-than-or-equal comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private LessEqual(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is less than or equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) <= super.right.eval(frame);
+        }
+    }
+
+    /**
+     * GreaterEqual evaluates a greater-than-or-equal comparison
+     */
+    private static final class GreaterEqual extends CompareNode
+    {
+        /**
+         * GreaterEqual constructor for the construction of a greater-than-or-equal comparison node
+         *
+         * @param left the node of the left-hand operand
+         * @param right the node of the right-hand operand
+         */
+        private GreaterEqual(ExprNode left, ExprNode right)
+        {
+            super(left, right);
+        }
+
+        /**
+         * Evaluates the comparison as a condition
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return true if the left-hand operand is greater than or equal to the right-hand one
+         */
+        @Override
+        public boolean test(int[] frame)
+        {
+            return super.left.eval(frame) >= super.right.eval(frame);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package nodes;
+
+/**
+ * ConstantNode evaluates a number literal
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class ConstantNode extends ExprNode
+{
+    private final int value;
+
+    /**
+     * ConstantNode constructor for the construction of a number literal node
+     *
+     * @param value the value of the literal
+     */
+    public ConstantNode(int value)
+    {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value of the literal
+     *
+     * @return the value
+     */
+    public int getValue()
+    {
+        return value;
+    }
+
+    /**
+     * Evaluates the literal
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return the value of the literal
+     */
+    @Override
+    public int eval(int[] frame)
+    {
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package nodes;
+
+import codegen.RuntimeSupport;
+
+/**
+ * DisplayNode executes a display statement and its optional read statement
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class DisplayNode extends StmtNode
+{
+    private final RuntimeSupport runtime;
+    private ExprNode exp;
+    private final StmtNode read;
+
+    /**
+     * DisplayNode constructor for the construction of a display statement node
+     *
+     * @param runtime the RuntimeSupport to display and read through
+     * @param exp the node of the expression to display
+     * @param read the node of the read statement to execute afterwards, or null if there is none
+     */
+    public DisplayNode(RuntimeSupport runtime, ExprNode exp, StmtNode read)
+    {
+        this.runtime = runtime;
+        this.exp = adopt(exp);
+        this.read = adopt(read);
+    }
+
+    /**
+     * Executes the display statement and then the read statement, if there is one
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        runtime.display(exp.eval(frame));
+        if (read != null) read.exec(frame);
+    }
+
+    /**
+     * Replaces the expression with the input node
+     *
+     * @param oldChild the expression to replace
+     * @param newChild the node to put in the expression's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        exp = (ExprNode) newChild;
+    }
+}
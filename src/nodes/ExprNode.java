@@ -0,0 +1,31 @@
+package nodes;
+
+/**
+ * ExprNode is a node that evaluates an expression
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class ExprNode extends Node
+{
+    /**
+     * Evaluates the expression
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return the value of the expression, taking the value of boolean expressions to be 1 if true
+     * and 0 if false
+     */
+    public abstract int eval(int[] frame);
+
+    /**
+     * Evaluates the expression as the condition of an If or While statement. Comparisons
+     * override this to produce their result without materializing 0 or 1.
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return true if the expression is nonzero, otherwise false
+     */
+    public boolean test(int[] frame)
+    {
+        return eval(frame) != 0;
+    }
+}
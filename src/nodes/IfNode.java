@@ -0,0 +1,98 @@
+package nodes;
+
+/**
+ * IfNode executes an if/if-else statement while counting how often each branch is taken. Once it
+ * has run PROFILE_THRESHOLD times, an IfNode that has only ever taken one branch replaces itself
+ * with a SpeculativeIfNode whose fast path is that branch.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class IfNode extends StmtNode
+{
+    public static final int PROFILE_THRESHOLD = 1000;
+
+    private ExprNode condition;
+    private final StmtNode trueNode;
+    private final StmtNode falseNode;
+    private final boolean speculate;
+    private int trueCount;
+    private int falseCount;
+
+    /**
+     * IfNode constructor for the construction of an if/if-else statement node
+     *
+     * @param condition the node of the condition
+     * @param trueNode the node of the statements to run if the condition is true
+     * @param falseNode the node of the statements to run if the condition is false, or null if
+     * there is no else branch
+     * @param speculate whether the node may specialize to a SpeculativeIfNode, which is false once
+     * a speculation has failed
+     */
+    public IfNode(ExprNode condition, StmtNode trueNode, StmtNode falseNode, boolean speculate)
+    {
+        this.condition = adopt(condition);
+        this.trueNode = adopt(trueNode);
+        this.falseNode = adopt(falseNode);
+        this.speculate = speculate;
+    }
+
+    /**
+     * Executes the if/if-else statement, specializing this node once its profile is complete
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        if (condition.test(frame))
+        {
+            trueCount++;
+            trueNode.exec(frame);
+        }
+        else
+        {
+            falseCount++;
+            if (falseNode != null) falseNode.exec(frame);
+        }
+        if (speculate && trueCount + falseCount == PROFILE_THRESHOLD)
+        {
+            if (falseCount == 0)
+                replace(new SpeculativeIfNode(condition, trueNode, falseNode, true));
+            else if (trueCount == 0)
+                replace(new SpeculativeIfNode(condition, falseNode, trueNode, false));
+        }
+    }
+
+    /**
+     * Gets the number of times the true branch has been taken
+     *
+     * @return the count
+     */
+    public int getTrueCount()
+    {
+        return trueCount;
+    }
+
+    /**
+     * Gets the number of times the false branch has been taken
+     *
+     * @return the count
+     */
+    public int getFalseCount()
+    {
+        return falseCount;
+    }
+
+    /**
+     * Replaces the condition with the input node
+     *
+     * @param oldChild the condition to replace
+     * @param newChild the node to put in the condition's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        condition = (ExprNode) newChild;
+    }
+}
@@ -0,0 +1,34 @@
+package nodes;
+
+/**
+ * LocalNode evaluates a variable by reading its frame slot
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class LocalNode extends ExprNode
+{
+    private final int slot;
+
+    /**
+     * LocalNode constructor for the construction of a variable node
+     *
+     * @param slot the frame slot of the variable
+     */
+    public LocalNode(int slot)
+    {
+        this.slot = slot;
+    }
+
+    /**
+     * Evaluates the variable
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return the value of the variable
+     */
+    @Override
+    public int eval(int[] frame)
+    {
+        return frame[slot];
+    }
+}
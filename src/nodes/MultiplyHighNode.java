@@ -0,0 +1,49 @@
+package nodes;
+
+/**
+ * MultiplyHighNode evaluates the high 32 bits of the product of an expression and a constant
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class MultiplyHighNode extends ExprNode
+{
+    private final long multiplier;
+    private ExprNode exp;
+
+    /**
+     * MultiplyHighNode constructor for the construction of a high-half product node
+     *
+     * @param exp the node of the expression to multiply
+     * @param multiplier the constant to multiply by
+     */
+    public MultiplyHighNode(ExprNode exp, int multiplier)
+    {
+        this.multiplier = multiplier;
+        this.exp = adopt(exp);
+    }
+
+    /**
+     * Evaluates the product
+     *
+     * @param frame the values of the variables indexed by slot
+     * @return the high 32 bits of the signed 64-bit product
+     */
+    @Override
+    public int eval(int[] frame)
+    {
+        return (int) ((exp.eval(frame) * multiplier) >> 32);
+    }
+
+    /**
+     * Replaces the expression with the input node
+     *
+     * @param oldChild the expression to replace
+     * @param newChild the node to put in the expression's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        exp = (ExprNode) newChild;
+    }
+}
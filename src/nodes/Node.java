@@ -0,0 +1,51 @@
+package nodes;
+
+/**
+ * Node is the superclass of every node of a self-specializing tree. A node may replace itself in
+ * its parent with a node that is specialized for what it has observed while running.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class Node
+{
+    private Node parent;
+
+    /**
+     * Makes this node the parent of the input child
+     *
+     * @param child the child node
+     * @return the child node
+     */
+    protected final <T extends Node> T adopt(T child)
+    {
+        if (child != null)
+            ((Node) child).parent = this;
+        return child;
+    }
+
+    /**
+     * Replaces this node in its parent with the input node
+     *
+     * @param newNode the node to put in this node's place
+     * @return the new node
+     * @precondition this node has a parent
+     */
+    protected final <T extends Node> T replace(T newNode)
+    {
+        parent.replaceChild(this, newNode);
+        ((Node) newNode).parent = parent;
+        return newNode;
+    }
+
+    /**
+     * Replaces one of this node's children with the input node
+     *
+     * @param oldChild the child to replace
+     * @param newChild the node to put in the child's place
+     */
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        throw new IllegalArgumentException(getClass().getSimpleName() + " has no such child");
+    }
+}
@@ -0,0 +1,41 @@
+package nodes;
+
+import codegen.RuntimeSupport;
+
+/**
+ * ReadNode executes a read statement
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class ReadNode extends StmtNode
+{
+    private final RuntimeSupport runtime;
+    private final String var;
+    private final int slot;
+
+    /**
+     * ReadNode constructor for the construction of a read statement node
+     *
+     * @param runtime the RuntimeSupport to read through
+     * @param var the name of the variable to read
+     * @param slot the frame slot of the variable
+     */
+    public ReadNode(RuntimeSupport runtime, String var, int slot)
+    {
+        this.runtime = runtime;
+        this.var = var;
+        this.slot = slot;
+    }
+
+    /**
+     * Executes the read statement
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        frame[slot] = runtime.read(var);
+    }
+}
@@ -0,0 +1,145 @@
+package nodes;
+
+import ast.Shift;
+
+/**
+ * ShiftNode evaluates a shift by a constant distance. Each direction has a subclass of its own,
+ * chosen by create when the node is built, so evaluating the node never branches on the kind.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class ShiftNode extends ExprNode
+{
+    private final int distance;
+    private ExprNode exp;
+
+    /**
+     * ShiftNode constructor for the construction of a shift node
+     *
+     * @param exp the node of the expression to shift
+     * @param distance the number of bits to shift by
+     */
+    private ShiftNode(ExprNode exp, int distance)
+    {
+        this.distance = distance;
+        this.exp = adopt(exp);
+    }
+
+    /**
+     * Creates the shift node of the input direction
+     *
+     * @param kind the direction of the shift
+     * @param exp the node of the expression to shift
+     * @param distance the number of bits to shift by
+     * @return the node specialized for the direction
+     */
+    public static ShiftNode create(Shift.Kind kind, ExprNode exp, int distance)
+    {
+        return switch (kind)
+        {
+            case LEFT -> new Left(exp, distance);
+            case RIGHT -> new Right(exp, distance);
+            case UNSIGNED_RIGHT -> new UnsignedRight(exp, distance);
+        };
+    }
+
+    /**
+     * Replaces the expression with the input node
+     *
+     * @param oldChild the expression to replace
+     * @param newChild the node to put in the expression's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        exp = (ExprNode) newChild;
+    }
+
+    /**
+     * Left evaluates a left shift
+     */
+    private static final class Left extends ShiftNode
+    {
+        /**
+         * Left constructor for the construction of a left shift node
+         *
+         * @param exp the node of the expression to shift
+         * @param distance the number of bits to shift by
+         */
+        private Left(ExprNode exp, int distance)
+        {
+            super(exp, distance);
+        }
+
+        /**
+         * Evaluates the shift
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the shifted value
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.exp.eval(frame) << super.distance;
+        }
+    }
+
+    /**
+     * Right evaluates an arithmetic right shift
+     */
+    private static final class Right extends ShiftNode
+    {
+        /**
+         * Right constructor for the construction of an arithmetic right shift node
+         *
+         * @param exp the node of the expression to shift
+         * @param distance the number of bits to shift by
+         */
+        private Right(ExprNode exp, int distance)
+        {
+            super(exp, distance);
+        }
+
+        /**
+         * Evaluates the shift
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the shifted value
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.exp.eval(frame) >> super.distance;
+        }
+    }
+
+    /**
+     * UnsignedRight evaluates a logical right shift
+     */
+    private static final class UnsignedRight extends ShiftNode
+    {
+        /**
+         * UnsignedRight constructor for the construction of a logical right shift node
+         *
+         * @param exp the node of the expression to shift
+         * @param distance the number of bits to shift by
+         */
+        private UnsignedRight(ExprNode exp, int distance)
+        {
+            super(exp, distance);
+        }
+
+        /**
+         * Evaluates the shift
+         *
+         * @param frame the values of the variables indexed by slot
+         * @return the shifted value
+         */
+        @Override
+        public int eval(int[] frame)
+        {
+            return super.exp.eval(frame) >>> super.distance;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package nodes;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+import codegen.RuntimeSupport;
+import environment.Environment;
+import evaluator.Engine;
+import resolver.Resolver;
+
+/**
+ * SpecializingEvaluator executes Programs by building a tree of self-specializing nodes from the
+ * AST. The nodes rewrite themselves as they run: binary operators specialize to their operator and
+ * to constant operands, comparisons used as conditions produce booleans directly, and if
+ * statements that only ever take one branch speculate on it. A fresh tree is built for every
+ * execution, so the profile of one run never leaks into another and no node is shared between
+ * threads.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class SpecializingEvaluator implements Engine
+{
+    private RuntimeSupport runtime;
+
+    /**
+     * SpecializingEvaluator constructor for the construction of an engine that displays and reads
+     * through the standard RuntimeSupport
+     */
+    public SpecializingEvaluator()
+    {
+        this.runtime = new RuntimeSupport();
+    }
+
+    /**
+     * Executes the input program under the input environment, resolving its variables first if it
+     * has not been resolved yet. The values of the variables are copied into a frame before the
+     * program runs and back into the environment once it finishes or throws, and what it
+     * displayed is flushed.
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    @Override
+    public void exec(Program program, Environment env)
+    {
+        if (program.getSlotNames() == null)
+            new Resolver().resolve(program);
+        StmtNode root = build(program.getStmts());
+        String[] slotNames = program.getSlotNames();
+        env.useFrame(slotNames);
+        int[] frame = new int[slotNames.length];
+        for (int i = 0; i < frame.length; i++)
+            frame[i] = env.getSlot(i);
+        try
+        {
+            root.exec(frame);
+        }
+        finally
+        {
+            for (int i = 0; i < frame.length; i++)
+                env.setSlot(i, frame[i]);
+            runtime.flush();
+        }
+    }
+
+    /**
+     * Builds the node of the input list of statements
+     *
+     * @param stmts the input statements
+     * @return the BlockNode of the statements
+     */
+    private StmtNode build(List<Statement> stmts)
+    {
+        StmtNode[] nodes = new StmtNode[stmts.size()];
+        for (int i = 0; i < nodes.length; i++)
+            nodes[i] = build(stmts.get(i));
+        return new BlockNode(nodes);
+    }
+
+    /**
+     * Builds the node of the input statement
+     *
+     * @param stmt the input statement
+     * @return the node of the statement
+     */
+    private StmtNode build(Statement stmt)
+    {
+        return switch (stmt)
+        {
+            case Display display ->
+                new DisplayNode(runtime, build(display.getExpression()),
+                                display.getReadStmt() != null ? build(display.getReadStmt()) :
+                                null);
+            case Assign assign -> new AssignNode(assign.getSlot(), build(assign.getExp()));
+            case If ifStmt ->
+                new IfNode(build(ifStmt.getExpression()), build(ifStmt.getTrueProgram().getStmts()),
+                           ifStmt.getFalseProgram() != null ?
+                               build(ifStmt.getFalseProgram().getStmts()) : null,
+                           true);
+            case While whileStmt ->
+                new WhileNode(build(whileStmt.getExpression()),
+                              build(whileStmt.getProgram().getStmts()));
+            case Read readStmt -> new ReadNode(runtime, readStmt.getVar(), readStmt.getSlot());
+        };
+    }
+
+    /**
+     * Builds the node of the input expression
+     *
+     * @param exp the input expression
+     * @return the node of the expression
+     */
+    private ExprNode build(Expression exp)
+    {
+        return switch (exp)
+        {
+            case Number num -> new ConstantNode(num.getValue());
+            case Variable var -> new LocalNode(var.getSlot());
+            case BinOp binop ->
+                new BinOpNode(binop.getOp(), build(binop.getExp1()), build(binop.getExp2()));
+            case Shift shift ->
+                ShiftNode.create(shift.getKind(), build(shift.getExp()), shift.getDistance());
+            case MultiplyHigh product ->
+                new MultiplyHighNode(build(product.getExp()), product.getMultiplier());
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package nodes;
+
+/**
+ * SpeculativeIfNode executes an if/if-else statement whose profile showed only one branch being
+ * taken. The likely branch is the only one on its fast path; the first time the condition goes
+ * the other way, the node replaces itself with an IfNode that never speculates again.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class SpeculativeIfNode extends StmtNode
+{
+    private ExprNode condition;
+    private final StmtNode likely;
+    private final StmtNode unlikely;
+    private final boolean expected;
+
+    /**
+     * SpeculativeIfNode constructor for the construction of an if/if-else statement node biased
+     * toward one branch
+     *
+     * @param condition the node of the condition
+     * @param likely the node of the branch that has always been taken, or null if it is an absent
+     * else branch
+     * @param unlikely the node of the other branch, or null if it is an absent else branch
+     * @param expected the value of the condition that selects the likely branch
+     */
+    public SpeculativeIfNode(ExprNode condition, StmtNode likely, StmtNode unlikely,
+                             boolean expected)
+    {
+        this.condition = adopt(condition);
+        this.likely = adopt(likely);
+        this.unlikely = adopt(unlikely);
+        this.expected = expected;
+    }
+
+    /**
+     * Executes the if/if-else statement, falling back to an IfNode if the speculation fails
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        if (condition.test(frame) == expected)
+        {
+            if (likely != null) likely.exec(frame);
+            return;
+        }
+        replace(expected ? new IfNode(condition, likely, unlikely, false) :
+                new IfNode(condition, unlikely, likely, false));
+        if (unlikely != null) unlikely.exec(frame);
+    }
+
+    /**
+     * Replaces the condition with the input node
+     *
+     * @param oldChild the condition to replace
+     * @param newChild the node to put in the condition's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        condition = (ExprNode) newChild;
+    }
+}
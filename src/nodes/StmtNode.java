@@ -0,0 +1,17 @@
+package nodes;
+
+/**
+ * StmtNode is a node that executes a statement
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public abstract class StmtNode extends Node
+{
+    /**
+     * Executes the statement
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    public abstract void exec(int[] frame);
+}
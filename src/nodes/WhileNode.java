@@ -0,0 +1,48 @@
+package nodes;
+
+/**
+ * WhileNode executes a While statement, testing its condition as a boolean
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public final class WhileNode extends StmtNode
+{
+    private ExprNode condition;
+    private final StmtNode body;
+
+    /**
+     * WhileNode constructor for the construction of a While statement node
+     *
+     * @param condition the node of the loop condition
+     * @param body the node of the loop body
+     */
+    public WhileNode(ExprNode condition, StmtNode body)
+    {
+        this.condition = adopt(condition);
+        this.body = adopt(body);
+    }
+
+    /**
+     * Executes the While statement
+     *
+     * @param frame the values of the variables indexed by slot
+     */
+    @Override
+    public void exec(int[] frame)
+    {
+        while (condition.test(frame)) body.exec(frame);
+    }
+
+    /**
+     * Replaces the condition with the input node
+     *
+     * @param oldChild the condition to replace
+     * @param newChild the node to put in the condition's place
+     */
+    @Override
+    protected void replaceChild(Node oldChild, Node newChild)
+    {
+        condition = (ExprNode) newChild;
+    }
+}
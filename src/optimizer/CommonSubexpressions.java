@@ -0,0 +1,251 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * CommonSubexpressions eliminates repeated subexpressions within straight-line runs of
+ * statements. A run is a maximal sequence of assign, display, and read statements, together
+ * with the condition of an If statement that ends it; a While statement ends a run without
+ * joining it, since its condition is evaluated on every iteration.
+ *
+ * Walking a run in order, each maximal subexpression that occurs again before any variable it
+ * reads is assigned or read is computed once into a temporary, which is assigned just before the
+ * statement that first uses it, and every later occurrence reads the temporary instead. A
+ * temporary stays available until an assign or read statement changes one of the variables of
+ * its expression. The statement that makes the change may still use it, since its expression is
+ * evaluated before the variable changes. Because expressions have no side effects and every
+ * operand is always evaluated, computing a subexpression a little earlier within the statement
+ * that first uses it never changes what the program displays.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class CommonSubexpressions implements Pass
+{
+    private Temporaries temps;
+
+    /**
+     * Eliminates the common subexpressions of every run of the input program
+     *
+     * @param program the input program
+     * @return the optimized program
+     */
+    @Override
+    public Program run(Program program)
+    {
+        temps = new Temporaries(program);
+        return new Program(eliminate(program.getStmts()));
+    }
+
+    /**
+     * Eliminates the common subexpressions of the runs among and within the input statements
+     *
+     * @param stmts the input statements
+     * @return the optimized statements, each preceded by the temporaries it first uses
+     */
+    private List<Statement> eliminate(List<Statement> stmts)
+    {
+        List<Statement> ret = new ArrayList<Statement>(stmts.size());
+        Map<Expression, String> available = new HashMap<Expression, String>();
+        for (int i = 0; i < stmts.size(); i++)
+        {
+            List<Statement> window = stmts.subList(i, stmts.size());
+            switch (stmts.get(i))
+            {
+                case Assign assign ->
+                {
+                    Expression exp = eliminate(assign.getExp(), window, available, false, ret);
+                    ret.add(new Assign(assign.getVar(), exp));
+                    invalidate(assign.getVar(), available);
+                }
+                case Display display ->
+                {
+                    Expression exp = eliminate(display.getExpression(), window, available, false,
+                                               ret);
+                    Read readStmt = display.getReadStmt();
+                    ret.add(new Display(exp, readStmt != null ? new Read(readStmt.getVar()) :
+                                                                null));
+                    if (readStmt != null)
+                        invalidate(readStmt.getVar(), available);
+                }
+                case Read readStmt ->
+                {
+                    ret.add(new Read(readStmt.getVar()));
+                    invalidate(readStmt.getVar(), available);
+                }
+                case If ifStmt ->
+                {
+                    Expression condition = eliminate(ifStmt.getExpression(), window, available,
+                                                     false, ret);
+                    ret.add(new If(condition,
+                                   new Program(eliminate(ifStmt.getTrueProgram().getStmts())),
+                                   ifStmt.getFalseProgram() != null ?
+                                       new Program(eliminate(ifStmt.getFalseProgram().getStmts())) :
+                                       null));
+                    available.clear();
+                }
+                case While whileStmt ->
+                {
+                    ret.add(new While(Trees.copy(whileStmt.getExpression()),
+                                      new Program(eliminate(whileStmt.getProgram().getStmts()))));
+                    available.clear();
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Copies the input expression, replacing its available subexpressions with their temporaries
+     * and computing each of its maximal subexpressions that recurs within the input window into a
+     * new temporary
+     *
+     * @param exp the input expression
+     * @param window the statements from the one that holds the expression to the end of the list
+     * @param available the map from available expressions to their temporaries
+     * @param nested whether the expression lies within one that is being computed into a
+     * temporary, in which case this occurrence of it is not counted by occurrences()
+     * @param ret the list of optimized statements, onto which new temporaries are assigned
+     * @return the rewritten copy
+     */
+    private Expression eliminate(Expression exp, List<Statement> window,
+                                 Map<Expression, String> available, boolean nested,
+                                 List<Statement> ret)
+    {
+        if (exp instanceof Number || exp instanceof Variable)
+            return Trees.copy(exp);
+        String temp = available.get(exp);
+        if (temp != null)
+            return new Variable(temp);
+        if (occurrences(exp, window, available) + (nested ? 1 : 0) < 2)
+            return rebuild(exp, window, available, nested, ret);
+
+        temp = temps.next();
+        available.put(exp, temp);
+        ret.add(new Assign(temp, rebuild(exp, window, available, true, ret)));
+        return new Variable(temp);
+    }
+
+    /**
+     * Copies the input compound expression, eliminating the common subexpressions of its operands
+     *
+     * @param exp the input expression
+     * @param window the statements from the one that holds the expression to the end of the list
+     * @param available the map from available expressions to their temporaries
+     * @param nested whether the expression lies within one that is being computed into a
+     * temporary
+     * @param ret the list of optimized statements, onto which new temporaries are assigned
+     * @return the rewritten copy
+     */
+    private Expression rebuild(Expression exp, List<Statement> window,
+                               Map<Expression, String> available, boolean nested,
+                               List<Statement> ret)
+    {
+        return switch (exp)
+        {
+            case BinOp binop ->
+            {
+                Expression exp1 = eliminate(binop.getExp1(), window, available, nested, ret);
+                Expression exp2 = eliminate(binop.getExp2(), window, available, nested, ret);
+                yield new BinOp(binop.getOp(), exp1, exp2);
+            }
+            case Shift shift ->
+                new Shift(shift.getKind(), eliminate(shift.getExp(), window, available, nested,
+                                                     ret), shift.getDistance());
+            case MultiplyHigh product ->
+                new MultiplyHigh(eliminate(product.getExp(), window, available, nested, ret),
+                                 product.getMultiplier());
+            default -> Trees.copy(exp);
+        };
+    }
+
+    /**
+     * Counts the occurrences of the input expression in the expressions of the input statements
+     * that are evaluated before the run ends or a variable of the expression changes, not counting
+     * those within subexpressions that are already available
+     *
+     * @param exp the input expression
+     * @param window the statements to search, starting with the one that holds the expression
+     * @param available the map from available expressions to their temporaries
+     * @return the number of occurrences
+     */
+    private static int occurrences(Expression exp, List<Statement> window,
+                                   Map<Expression, String> available)
+    {
+        Set<String> vars = Trees.uses(exp, new HashSet<String>());
+        int count = 0;
+        for (Statement stmt : window)
+        {
+            switch (stmt)
+            {
+                case Assign assign ->
+                {
+                    count += occurrences(exp, assign.getExp(), available);
+                    if (vars.contains(assign.getVar()))
+                        return count;
+                }
+                case Display display ->
+                {
+                    count += occurrences(exp, display.getExpression(), available);
+                    if (display.getReadStmt() != null &&
+                        vars.contains(display.getReadStmt().getVar()))
+                        return count;
+                }
+                case Read readStmt ->
+                {
+                    if (vars.contains(readStmt.getVar()))
+                        return count;
+                }
+                case If ifStmt ->
+                {
+                    return count + occurrences(exp, ifStmt.getExpression(), available);
+                }
+                case While whileStmt ->
+                {
+                    return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the occurrences of the input expression within the input tree, not counting those
+     * within subexpressions that are already available
+     *
+     * @param exp the input expression
+     * @param tree the expression to search
+     * @param available the map from available expressions to their temporaries
+     * @return the number of occurrences
+     */
+    private static int occurrences(Expression exp, Expression tree,
+                                   Map<Expression, String> available)
+    {
+        if (tree.equals(exp))
+            return 1;
+        if (available.containsKey(tree))
+            return 0;
+        return switch (tree)
+        {
+            case BinOp binop -> occurrences(exp, binop.getExp1(), available) +
+                                occurrences(exp, binop.getExp2(), available);
+            case Shift shift -> occurrences(exp, shift.getExp(), available);
+            case MultiplyHigh product -> occurrences(exp, product.getExp(), available);
+            default -> 0;
+        };
+    }
+
+    /**
+     * Removes every available expression that reads the input variable
+     *
+     * @param var the name of the variable that has changed
+     * @param available the map from available expressions to their temporaries
+     */
+    private static void invalidate(String var, Map<Expression, String> available)
+    {
+        available.keySet().removeIf(exp -> Trees.uses(exp, new HashSet<String>()).contains(var));
+    }
+}
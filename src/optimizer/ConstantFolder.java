@@ -0,0 +1,131 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * ConstantFolder evaluates every BinOp whose operands are both number literals at compile time,
+ * including comparisons, which fold to 1 or 0, and the -1 * literal products that the Parser emits
+ * for negated literals. It then replaces each If statement whose condition has folded to a literal
+ * with the statements of the branch that would run, and removes each While loop whose condition
+ * has folded to 0. A division by a literal 0 is never folded, so it still throws when it runs. The
+ * folded program shares no resolvable node with the input program.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ConstantFolder implements Pass
+{
+    /**
+     * Folds the constants of the input program
+     *
+     * @param program the input program
+     * @return the folded program
+     */
+    @Override
+    public Program run(Program program)
+    {
+        return new Program(fold(program.getStmts()));
+    }
+
+    /**
+     * Folds the input list of statements
+     *
+     * @param stmts the input statements
+     * @return the folded statements, into which the statements of If statements with constant
+     * conditions have been spliced
+     */
+    private List<Statement> fold(List<Statement> stmts)
+    {
+        List<Statement> ret = new ArrayList<Statement>(stmts.size());
+        for (Statement stmt : stmts) fold(stmt, ret);
+        return ret;
+    }
+
+    /**
+     * Folds the input statement and appends whatever it folds to onto the input list
+     *
+     * @param stmt the input statement
+     * @param ret the list of folded statements
+     */
+    private void fold(Statement stmt, List<Statement> ret)
+    {
+        switch (stmt)
+        {
+            case Display display ->
+                ret.add(new Display(fold(display.getExpression()),
+                                    display.getReadStmt() != null ?
+                                        new Read(display.getReadStmt().getVar()) : null));
+            case Assign assign -> ret.add(new Assign(assign.getVar(), fold(assign.getExp())));
+            case Read readStmt -> ret.add(new Read(readStmt.getVar()));
+            case If ifStmt ->
+            {
+                Expression condition = fold(ifStmt.getExpression());
+                Program falseProgram = ifStmt.getFalseProgram();
+                if (condition instanceof Number num)
+                {
+                    if (num.getValue() != 0)
+                        ret.addAll(fold(ifStmt.getTrueProgram().getStmts()));
+                    else if (falseProgram != null)
+                        ret.addAll(fold(falseProgram.getStmts()));
+                }
+                else
+                    ret.add(new If(condition, run(ifStmt.getTrueProgram()),
+                                   falseProgram != null ? run(falseProgram) : null));
+            }
+            case While whileStmt ->
+            {
+                Expression condition = fold(whileStmt.getExpression());
+                if (!(condition instanceof Number num && num.getValue() == 0))
+                    ret.add(new While(condition, run(whileStmt.getProgram())));
+            }
+        }
+    }
+
+    /**
+     * Folds the input expression
+     *
+     * @param exp the input expression
+     * @return the folded expression, which is a Number if the expression is constant and does not
+     * divide by 0
+     */
+    public Expression fold(Expression exp)
+    {
+        switch (exp)
+        {
+            case Number num ->
+            {
+                return num;
+            }
+            case Variable var ->
+            {
+                return new Variable(var.getName());
+            }
+            case BinOp binop ->
+            {
+                Expression exp1 = fold(binop.getExp1());
+                Expression exp2 = fold(binop.getExp2());
+                if (exp1 instanceof Number num1 && exp2 instanceof Number num2 &&
+                    !(binop.getOp() == Operator.DIVIDE && num2.getValue() == 0))
+                    return new Number(binop.getOp().apply(num1.getValue(), num2.getValue()));
+                return new BinOp(binop.getOp(), exp1, exp2);
+            }
+            case Shift shift ->
+            {
+                Expression folded = fold(shift.getExp());
+                if (folded instanceof Number num)
+                    return new Number(shift.apply(num.getValue()));
+                return new Shift(shift.getKind(), folded, shift.getDistance());
+            }
+            case MultiplyHigh product ->
+            {
+                Expression folded = fold(product.getExp());
+                if (folded instanceof Number num)
+                    return new Number(product.apply(num.getValue()));
+                return new MultiplyHigh(folded, product.getMultiplier());
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+
+/**
+ * DeadStoreEliminator removes the assign statements whose values are never read. A backward
+ * liveness analysis computes, before every statement, the set of variables whose current values
+ * may still be read; both branches of an If statement flow into the statements before it, and
+ * the body of a While loop is analyzed until the set at its back edge stops growing. An assign
+ * statement is dead when its variable is not live after it and evaluating its expression cannot
+ * throw. An If statement left with no statements in either branch is removed as well when its
+ * condition cannot throw. Read statements and display statements are always kept, as is every
+ * statement that a kept statement reads a value from, so nothing the program displays changes.
+ * Nothing is live when the program ends, so variables that are only ever assigned disappear from
+ * the Environment. The result of each loop is kept for every set of variables live after it, so
+ * an inner loop is analyzed once per set rather than once per iteration of each enclosing loop.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class DeadStoreEliminator implements Pass
+{
+    private int removed;
+    private Map<While, Map<Set<String>, Loop>> loops;
+
+    /**
+     * Removes the dead stores of the input program
+     *
+     * @param program the input program
+     * @return the program without its dead stores
+     */
+    @Override
+    public Program run(Program program)
+    {
+        loops = new IdentityHashMap<While, Map<Set<String>, Loop>>();
+        List<Statement> stmts = eliminate(program.getStmts(), new HashSet<String>());
+        loops = null;
+        removed = count(program.getStmts()) - count(stmts);
+        return new Program(stmts);
+    }
+
+    /**
+     * Gets the number of statements that the last run removed
+     *
+     * @return the number of dead assign and If statements removed from the last program run
+     */
+    public int getRemoved()
+    {
+        return removed;
+    }
+
+    /**
+     * Removes the dead stores of the input statements, given the variables live after them
+     *
+     * @param stmts the input statements
+     * @param live the set of variables live after the statements, which becomes the set of those
+     * live before them
+     * @return the live statements
+     */
+    private List<Statement> eliminate(List<Statement> stmts, Set<String> live)
+    {
+        List<Statement> ret = new ArrayList<Statement>(stmts.size());
+        for (int i = stmts.size() - 1; i >= 0; i--)
+        {
+            switch (stmts.get(i))
+            {
+                case Assign assign ->
+                {
+                    if (!live.contains(assign.getVar()) && !Trees.canThrow(assign.getExp()))
+                        continue;
+                    live.remove(assign.getVar());
+                    Trees.uses(assign.getExp(), live);
+                    ret.add(Trees.rewrite(assign, Map.of()));
+                }
+                case Display display ->
+                {
+                    if (display.getReadStmt() != null)
+                        live.remove(display.getReadStmt().getVar());
+                    Trees.uses(display.getExpression(), live);
+                    ret.add(Trees.rewrite(display, Map.of()));
+                }
+                case Read readStmt ->
+                {
+                    live.remove(readStmt.getVar());
+                    ret.add(new Read(readStmt.getVar()));
+                }
+                case If ifStmt -> eliminate(ifStmt, live, ret);
+                case While whileStmt -> eliminate(whileStmt, live, ret);
+            }
+        }
+        Collections.reverse(ret);
+        return ret;
+    }
+
+    /**
+     * Removes the dead stores of the input If statement and adds what is left of it onto the
+     * input list
+     *
+     * @param ifStmt the input If statement
+     * @param live the set of variables live after the statement, which becomes the set of those
+     * live before it
+     * @param ret the list of live statements, in reverse order
+     */
+    private void eliminate(If ifStmt, Set<String> live, List<Statement> ret)
+    {
+        Set<String> falseLive = new HashSet<String>(live);
+        List<Statement> trueStmts = eliminate(ifStmt.getTrueProgram().getStmts(), live);
+        List<Statement> falseStmts = ifStmt.getFalseProgram() != null ?
+            eliminate(ifStmt.getFalseProgram().getStmts(), falseLive) : List.of();
+        live.addAll(falseLive);
+        if (trueStmts.isEmpty() && falseStmts.isEmpty() && !Trees.canThrow(ifStmt.getExpression()))
+            return;
+        Trees.uses(ifStmt.getExpression(), live);
+        ret.add(new If(Trees.copy(ifStmt.getExpression()), new Program(trueStmts),
+                       ifStmt.getFalseProgram() != null ? new Program(falseStmts) : null));
+    }
+
+    /**
+     * Removes the dead stores of the input While loop and adds what is left of it onto the input
+     * list, reusing the result of an earlier analysis of the loop with the same live variables
+     *
+     * @param whileStmt the input While statement
+     * @param live the set of variables live after the loop, which becomes the set of those live
+     * before it
+     * @param ret the list of live statements, in reverse order
+     */
+    private void eliminate(While whileStmt, Set<String> live, List<Statement> ret)
+    {
+        Map<Set<String>, Loop> results =
+            loops.computeIfAbsent(whileStmt, k -> new HashMap<Set<String>, Loop>());
+        Loop loop = results.get(live);
+        if (loop == null)
+        {
+            Set<String> after = Set.copyOf(live);
+            List<Statement> body = whileStmt.getProgram().getStmts();
+            Trees.uses(whileStmt.getExpression(), live);
+            List<Statement> stmts;
+            while (true)
+            {
+                Set<String> entry = new HashSet<String>(live);
+                stmts = eliminate(body, entry);
+                if (!live.addAll(entry))
+                    break;
+            }
+            loop = new Loop(new While(Trees.copy(whileStmt.getExpression()), new Program(stmts)),
+                            Set.copyOf(live));
+            results.put(after, loop);
+        }
+        live.addAll(loop.live);
+        ret.add(loop.stmt);
+    }
+
+    /**
+     * Counts the input statements along with every statement nested in them
+     *
+     * @param stmts the input statements
+     * @return the number of statements
+     */
+    private static int count(List<Statement> stmts)
+    {
+        int ret = stmts.size();
+        for (Statement stmt : stmts)
+        {
+            if (stmt instanceof If ifStmt)
+            {
+                ret += count(ifStmt.getTrueProgram().getStmts());
+                if (ifStmt.getFalseProgram() != null)
+                    ret += count(ifStmt.getFalseProgram().getStmts());
+            }
+            else if (stmt instanceof While whileStmt)
+                ret += count(whileStmt.getProgram().getStmts());
+        }
+        return ret;
+    }
+
+    /**
+     * Loop is the result of the analysis of a While loop for one set of variables live after it
+     */
+    private static class Loop
+    {
+        private While stmt;
+        private Set<String> live;
+
+        /**
+         * Loop constructor for the construction of the result of a loop's analysis
+         *
+         * @param stmt the loop without its dead stores
+         * @param live the set of variables live before the loop
+         */
+        private Loop(While stmt, Set<String> live)
+        {
+            this.stmt = stmt;
+            this.live = live;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * LoopOptimizer optimizes While loops, innermost first, in two steps.
+ *
+ * Strength reduction finds the loop's induction variables, which are the variables assigned
+ * exactly once in the loop, by a top-level statement of the form i = i + c or i = i - c for a
+ * literal c. Each product i * k of an induction variable and a literal k becomes a temporary that
+ * is set to i * k before the loop and advanced by c * k right after i is.
+ *
+ * Loop-invariant code motion then computes the set of variables the loop assigns and hoists
+ * every maximal subexpression that reads none of them into a temporary assigned before the loop.
+ * Only subexpressions that cannot throw are hoisted, since the loop body may never run.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class LoopOptimizer implements Pass
+{
+    private Temporaries temps;
+
+    /**
+     * Optimizes every loop of the input program
+     *
+     * @param program the input program
+     * @return the optimized program
+     */
+    @Override
+    public Program run(Program program)
+    {
+        temps = new Temporaries(program);
+        return new Program(optimize(program.getStmts()));
+    }
+
+    /**
+     * Optimizes the loops among and within the input statements
+     *
+     * @param stmts the input statements
+     * @return the optimized statements, each loop preceded by the assignments it hoisted
+     */
+    private List<Statement> optimize(List<Statement> stmts)
+    {
+        List<Statement> ret = new ArrayList<Statement>(stmts.size());
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case While whileStmt -> optimize(whileStmt, ret);
+                case If ifStmt ->
+                    ret.add(new If(Trees.copy(ifStmt.getExpression()),
+                                   new Program(optimize(ifStmt.getTrueProgram().getStmts())),
+                                   ifStmt.getFalseProgram() != null ?
+                                       new Program(optimize(ifStmt.getFalseProgram().getStmts())) :
+                                       null));
+                default -> ret.add(Trees.rewrite(stmt, Map.of()));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Optimizes the input loop and appends it, preceded by the assignments it hoisted, onto the
+     * input list
+     *
+     * @param whileStmt the input While statement
+     * @param ret the list of optimized statements
+     */
+    private void optimize(While whileStmt, List<Statement> ret)
+    {
+        List<Statement> body = optimize(whileStmt.getProgram().getStmts());
+        Expression condition = Trees.copy(whileStmt.getExpression());
+
+        Map<Expression, String> reduced = new HashMap<Expression, String>();
+        Map<String, List<Statement>> updates = new HashMap<String, List<Statement>>();
+        reduce(condition, body, reduced, updates, ret);
+        if (!reduced.isEmpty())
+        {
+            condition = Trees.rewrite(condition, reduced);
+            List<Statement> newBody = new ArrayList<Statement>(body.size());
+            for (Statement stmt : body)
+            {
+                newBody.add(Trees.rewrite(stmt, reduced));
+                if (stmt instanceof Assign assign && updates.containsKey(assign.getVar()))
+                    newBody.addAll(updates.get(assign.getVar()));
+            }
+            body = newBody;
+        }
+
+        Set<String> assigned = Trees.assigned(body, new HashSet<String>());
+        Map<Expression, String> hoisted = new HashMap<Expression, String>();
+        hoist(condition, assigned, hoisted, ret);
+        for (Expression exp : Trees.expressions(body, new ArrayList<Expression>()))
+            hoist(exp, assigned, hoisted, ret);
+        if (!hoisted.isEmpty())
+        {
+            condition = Trees.rewrite(condition, hoisted);
+            body = Trees.rewrite(new Program(body), hoisted).getStmts();
+        }
+        ret.add(new While(condition, new Program(body)));
+    }
+
+    /**
+     * Strength-reduces the products of induction variables and literals in the input loop
+     *
+     * @param condition the condition of the loop
+     * @param body the body of the loop
+     * @param reduced the map from reduced products to their temporaries
+     * @param updates the map from each induction variable to the statements that advance its
+     * temporaries
+     * @param ret the list that the initializations of the temporaries are appended to
+     */
+    private void reduce(Expression condition, List<Statement> body, Map<Expression, String> reduced,
+                        Map<String, List<Statement>> updates, List<Statement> ret)
+    {
+        Map<String, Integer> counts = new HashMap<String, Integer>();
+        count(body, counts);
+        Map<String, Integer> steps = new HashMap<String, Integer>();
+        for (Statement stmt : body)
+        {
+            if (stmt instanceof Assign assign && counts.get(assign.getVar()) == 1)
+            {
+                Integer step = step(assign);
+                if (step != null) steps.put(assign.getVar(), step);
+            }
+        }
+        if (steps.isEmpty())
+            return;
+
+        List<Expression> exps = Trees.expressions(body, new ArrayList<Expression>());
+        exps.add(condition);
+        Map<String, String> temporaries = new HashMap<String, String>();
+        for (Expression exp : exps)
+            products(exp, steps, temporaries, reduced, updates, ret);
+    }
+
+    /**
+     * Finds the products of induction variables and literals in the input expression and assigns
+     * each distinct one a temporary
+     *
+     * @param exp the input expression
+     * @param steps the map from each induction variable to the amount it advances by
+     * @param temporaries the map from each product, as variable*literal, to its temporary
+     * @param reduced the map from reduced products to their temporaries
+     * @param updates the map from each induction variable to the statements that advance its
+     * temporaries
+     * @param ret the list that the initializations of the temporaries are appended to
+     */
+    private void products(Expression exp, Map<String, Integer> steps,
+                          Map<String, String> temporaries, Map<Expression, String> reduced,
+                          Map<String, List<Statement>> updates, List<Statement> ret)
+    {
+        if (!(exp instanceof BinOp binop))
+            return;
+        if (binop.getOp() == Operator.TIMES)
+        {
+            Variable var = null;
+            Number factor = null;
+            if (binop.getExp1() instanceof Variable v && binop.getExp2() instanceof Number n)
+            {
+                var = v;
+                factor = n;
+            }
+            else if (binop.getExp1() instanceof Number n && binop.getExp2() instanceof Variable v)
+            {
+                var = v;
+                factor = n;
+            }
+            if (var != null && steps.containsKey(var.getName()))
+            {
+                String name = var.getName();
+                int k = factor.getValue();
+                String product = name + "*" + k;
+                String temp = temporaries.get(product);
+                if (temp == null)
+                {
+                    temp = temps.next();
+                    temporaries.put(product, temp);
+                    ret.add(new Assign(temp, new BinOp(Operator.TIMES, new Variable(name),
+                                                       new Number(k))));
+                    updates.computeIfAbsent(name, v -> new ArrayList<Statement>())
+                           .add(new Assign(temp, new BinOp(Operator.PLUS, new Variable(temp),
+                                                           new Number(steps.get(name) * k))));
+                }
+                reduced.put(binop, temp);
+                return;
+            }
+        }
+        products(binop.getExp1(), steps, temporaries, reduced, updates, ret);
+        products(binop.getExp2(), steps, temporaries, reduced, updates, ret);
+    }
+
+    /**
+     * Gets the amount that the input assignment advances its variable by
+     *
+     * @param assign the input Assign statement
+     * @return c if the statement is i = i + c, i = c + i, or i = i - c for a literal c, otherwise
+     * null
+     */
+    private static Integer step(Assign assign)
+    {
+        if (!(assign.getExp() instanceof BinOp binop))
+            return null;
+        String var = assign.getVar();
+        Expression exp1 = binop.getExp1();
+        Expression exp2 = binop.getExp2();
+        if (binop.getOp() == Operator.PLUS)
+        {
+            if (exp1 instanceof Variable v && v.getName().equals(var) && exp2 instanceof Number n)
+                return n.getValue();
+            if (exp2 instanceof Variable v && v.getName().equals(var) && exp1 instanceof Number n)
+                return n.getValue();
+        }
+        else if (binop.getOp() == Operator.MINUS && exp1 instanceof Variable v &&
+                 v.getName().equals(var) && exp2 instanceof Number n)
+            return -n.getValue();
+        return null;
+    }
+
+    /**
+     * Counts how many statements among and within the input statements assign or read each
+     * variable
+     *
+     * @param stmts the input statements
+     * @param counts the map from variable names to counts
+     */
+    private static void count(List<Statement> stmts, Map<String, Integer> counts)
+    {
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case Assign assign -> counts.merge(assign.getVar(), 1, Integer::sum);
+                case Read readStmt -> counts.merge(readStmt.getVar(), 1, Integer::sum);
+                case Display display ->
+                {
+                    if (display.getReadStmt() != null)
+                        counts.merge(display.getReadStmt().getVar(), 1, Integer::sum);
+                }
+                case If ifStmt ->
+                {
+                    count(ifStmt.getTrueProgram().getStmts(), counts);
+                    if (ifStmt.getFalseProgram() != null)
+                        count(ifStmt.getFalseProgram().getStmts(), counts);
+                }
+                case While whileStmt -> count(whileStmt.getProgram().getStmts(), counts);
+            }
+        }
+    }
+
+    /**
+     * Hoists the maximal loop-invariant subexpressions of the input expression that read at least
+     * one variable and cannot throw
+     *
+     * @param exp the input expression
+     * @param assigned the variables that the loop assigns
+     * @param hoisted the map from hoisted subexpressions to their temporaries
+     * @param ret the list that the assignments of the temporaries are appended to
+     */
+    private void hoist(Expression exp, Set<String> assigned, Map<Expression, String> hoisted,
+                       List<Statement> ret)
+    {
+        if (!(exp instanceof BinOp binop))
+            return;
+        Set<String> uses = Trees.uses(binop, new HashSet<String>());
+        if (!uses.isEmpty() && Collections.disjoint(uses, assigned) && !Trees.canThrow(binop))
+        {
+            if (!hoisted.containsKey(binop))
+            {
+                String temp = temps.next();
+                hoisted.put(binop, temp);
+                ret.add(new Assign(temp, Trees.copy(binop)));
+            }
+            return;
+        }
+        hoist(binop.getExp1(), assigned, hoisted, ret);
+        hoist(binop.getExp2(), assigned, hoisted, ret);
+    }
+}
@@ -0,0 +1,379 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * LoopSummarizer replaces counting While loops with a direct computation of the values they leave
+ * behind. A loop qualifies when its body holds only assign statements whose expressions are
+ * affine: sums of variables times literals plus a literal. One iteration of such a body is then a
+ * fixed affine map of the variables, an integer matrix A acting on the vector of the variables
+ * the loop assigns, the variables it only reads, and the constant 1, so k iterations are A^k.
+ * The loop's condition must compare an induction variable i, which every iteration advances by a
+ * literal step c, with a bound n that cannot throw and that the loop does not change:
+ * i &lt; n or i &lt;= n for c &gt; 0, i &gt; n or i &gt;= n for c &lt; 0, or i &lt;&gt; n for
+ * c = 1 or c = -1. Its trip count k is then (|n - i| - 1) / |c| + 1.
+ *
+ * The summary assigns the bound to a temporary and tests at run time that the loop runs at least
+ * once, that |n - i| does not overflow, and that i stops at the bound instead of wrapping past
+ * it. When the test passes, a binary exponentiation loop of at most 31 iterations applies A^k to
+ * the variables, squaring a temporary copy of A at each step; all of its arithmetic wraps just
+ * as the Evaluator's does, since int arithmetic is arithmetic modulo 2^32 and the affine maps
+ * compose exactly under it. When the test fails, the original loop runs instead.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class LoopSummarizer implements Pass
+{
+    /**
+     * The largest number of variables a summarized loop may involve, which bounds the
+     * n * n * (n + 1) products of each squaring
+     */
+    public static final int MAX_VARIABLES = 8;
+
+    private Temporaries temps;
+
+    /**
+     * Affine is a linear combination of variables with int coefficients plus an int constant
+     */
+    private static class Affine
+    {
+        private Map<String, Integer> coefficients = new HashMap<String, Integer>();
+        private int constant;
+
+        /**
+         * Adds the input multiple of the input affine expression to this one
+         *
+         * @param other the affine expression to add
+         * @param scale the factor to multiply it by
+         * @return this affine expression
+         */
+        private Affine add(Affine other, int scale)
+        {
+            constant += scale * other.constant;
+            for (Map.Entry<String, Integer> term : other.coefficients.entrySet())
+                coefficients.merge(term.getKey(), scale * term.getValue(), Integer::sum);
+            coefficients.values().removeIf(coefficient -> coefficient == 0);
+            return this;
+        }
+    }
+
+    /**
+     * Summarizes every qualifying loop of the input program
+     *
+     * @param program the input program
+     * @return the program with its counting loops summarized
+     */
+    @Override
+    public Program run(Program program)
+    {
+        temps = new Temporaries(program);
+        return new Program(summarize(program.getStmts()));
+    }
+
+    /**
+     * Summarizes the qualifying loops among and within the input statements, innermost first
+     *
+     * @param stmts the input statements
+     * @return the statements with their counting loops summarized
+     */
+    private List<Statement> summarize(List<Statement> stmts)
+    {
+        List<Statement> ret = new ArrayList<Statement>(stmts.size());
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case While whileStmt ->
+                {
+                    While loop = new While(Trees.copy(whileStmt.getExpression()),
+                                           new Program(summarize(
+                                               whileStmt.getProgram().getStmts())));
+                    if (!summarize(loop, ret))
+                        ret.add(loop);
+                }
+                case If ifStmt ->
+                    ret.add(new If(Trees.copy(ifStmt.getExpression()),
+                                   new Program(summarize(ifStmt.getTrueProgram().getStmts())),
+                                   ifStmt.getFalseProgram() != null ?
+                                       new Program(summarize(ifStmt.getFalseProgram().getStmts())) :
+                                       null));
+                default -> ret.add(Trees.rewrite(stmt, Map.of()));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Summarizes the input loop onto the input list if it qualifies
+     *
+     * @param loop the input While statement, whose body has already been summarized
+     * @param ret the list of summarized statements
+     * @return true if the loop qualified and its summary was added, otherwise false
+     */
+    private boolean summarize(While loop, List<Statement> ret)
+    {
+        Map<String, Affine> values = new LinkedHashMap<String, Affine>();
+        for (Statement stmt : loop.getProgram().getStmts())
+        {
+            if (!(stmt instanceof Assign assign))
+                return false;
+            Affine value = affine(assign.getExp(), values);
+            if (value == null)
+                return false;
+            values.put(assign.getVar(), value);
+        }
+        if (!(loop.getExpression() instanceof BinOp condition) ||
+            !condition.getOp().isComparison() || condition.getOp() == Operator.EQ)
+            return false;
+
+        Operator op;
+        Variable induction;
+        Expression bound;
+        if (condition.getExp1() instanceof Variable var && values.containsKey(var.getName()))
+        {
+            op = condition.getOp();
+            induction = var;
+            bound = condition.getExp2();
+        }
+        else if (condition.getExp2() instanceof Variable var && values.containsKey(var.getName()))
+        {
+            op = condition.getOp().swap();
+            induction = var;
+            bound = condition.getExp1();
+        }
+        else
+            return false;
+        int step = step(induction.getName(), values);
+        Set<String> boundUses = Trees.uses(bound, new HashSet<String>());
+        if (step == 0 || Trees.canThrow(bound) ||
+            !Collections.disjoint(boundUses, values.keySet()))
+            return false;
+        boolean up = step > 0;
+        int magnitude = Math.abs(step);
+        if (op == Operator.NE ? magnitude != 1 : up != (op == Operator.LT || op == Operator.LE))
+            return false;
+
+        List<String> vars = new ArrayList<String>(values.keySet());
+        Set<String> invariants = new TreeSet<String>();
+        for (Affine value : values.values()) invariants.addAll(value.coefficients.keySet());
+        invariants.removeAll(values.keySet());
+        if (vars.size() + invariants.size() > MAX_VARIABLES)
+            return false;
+        List<String> columns = new ArrayList<String>(vars);
+        columns.addAll(invariants);
+
+        String limit = temps.next();
+        Expression boundCopy = Trees.copy(bound);
+        Expression guard;
+        if (op == Operator.LE || op == Operator.GE)
+        {
+            ret.add(new Assign(limit, new BinOp(up ? Operator.PLUS : Operator.MINUS, boundCopy,
+                                                new Number(1))));
+            guard = new BinOp(up ? Operator.LE : Operator.GE,
+                              new BinOp(up ? Operator.MINUS : Operator.PLUS, variable(limit),
+                                        new Number(1)),
+                              new Number(up ? Integer.MAX_VALUE - magnitude :
+                                              Integer.MIN_VALUE + magnitude));
+        }
+        else
+        {
+            ret.add(new Assign(limit, boundCopy));
+            guard = new BinOp(up ? Operator.LE : Operator.GE, variable(limit),
+                              new Number(up ? Integer.MAX_VALUE - magnitude + 1 :
+                                              Integer.MIN_VALUE + magnitude - 1));
+        }
+        Expression distance = up ? new BinOp(Operator.MINUS, variable(limit), variable(induction)) :
+                                   new BinOp(Operator.MINUS, variable(induction), variable(limit));
+        guard = new BinOp(Operator.TIMES, new BinOp(Operator.GT, distance, new Number(0)), guard);
+        if (op != Operator.NE)
+        {
+            Operator strict = up ? Operator.LT : Operator.GT;
+            guard = new BinOp(Operator.TIMES,
+                              new BinOp(strict, variable(induction), variable(limit)), guard);
+        }
+        Expression trips = magnitude == 1 ? Trees.copy(distance) :
+            new BinOp(Operator.PLUS,
+                      new BinOp(Operator.DIVIDE,
+                                new BinOp(Operator.MINUS, Trees.copy(distance), new Number(1)),
+                                new Number(magnitude)),
+                      new Number(1));
+
+        Program original = new Program(List.of(new While(Trees.copy(condition),
+                                                         Trees.rewrite(loop.getProgram(),
+                                                                       Map.of()))));
+        ret.add(new If(guard, new Program(power(vars, columns, values, trips)), original));
+        return true;
+    }
+
+    /**
+     * Builds the statements that apply the k-th power of the loop's affine map to its variables
+     *
+     * @param vars the variables the loop assigns, which are the rows of the matrix
+     * @param columns the variables the loop assigns followed by those it only reads
+     * @param values the affine value of each assigned variable after one iteration
+     * @param trips the expression for k, the number of iterations
+     * @return the statements that leave every assigned variable as k iterations would
+     */
+    private List<Statement> power(List<String> vars, List<String> columns,
+                                  Map<String, Affine> values, Expression trips)
+    {
+        String count = temps.next();
+        String[][] matrix = new String[vars.size()][columns.size() + 1];
+        String[][] squared = new String[vars.size()][columns.size() + 1];
+        List<Statement> ret = new ArrayList<Statement>();
+        ret.add(new Assign(count, trips));
+        for (int r = 0; r < vars.size(); r++)
+        {
+            Affine value = values.get(vars.get(r));
+            for (int c = 0; c <= columns.size(); c++)
+            {
+                matrix[r][c] = temps.next();
+                squared[r][c] = temps.next();
+                int entry = c < columns.size() ?
+                    value.coefficients.getOrDefault(columns.get(c), 0) : value.constant;
+                ret.add(new Assign(matrix[r][c], new Number(entry)));
+            }
+        }
+
+        List<Statement> apply = new ArrayList<Statement>();
+        String[] next = new String[vars.size()];
+        for (int r = 0; r < vars.size(); r++)
+        {
+            next[r] = temps.next();
+            Expression sum = variable(matrix[r][columns.size()]);
+            for (int c = 0; c < columns.size(); c++)
+                sum = new BinOp(Operator.PLUS, sum, new BinOp(Operator.TIMES,
+                                                              variable(matrix[r][c]),
+                                                              variable(columns.get(c))));
+            apply.add(new Assign(next[r], sum));
+        }
+        for (int r = 0; r < vars.size(); r++)
+            apply.add(new Assign(vars.get(r), variable(next[r])));
+
+        List<Statement> body = new ArrayList<Statement>();
+        Expression half = new BinOp(Operator.DIVIDE, variable(count), new Number(2));
+        Expression odd = new BinOp(Operator.MINUS, variable(count),
+                                   new BinOp(Operator.TIMES, half, new Number(2)));
+        body.add(new If(new BinOp(Operator.EQ, odd, new Number(1)), new Program(apply), null));
+        for (int r = 0; r < vars.size(); r++)
+        {
+            for (int c = 0; c <= columns.size(); c++)
+            {
+                Expression sum = c < vars.size() ? null : variable(matrix[r][c]);
+                for (int t = 0; t < vars.size(); t++)
+                {
+                    Expression product = new BinOp(Operator.TIMES, variable(matrix[r][t]),
+                                                    variable(matrix[t][c]));
+                    sum = sum == null ? product : new BinOp(Operator.PLUS, sum, product);
+                }
+                body.add(new Assign(squared[r][c], sum));
+            }
+        }
+        for (int r = 0; r < vars.size(); r++)
+            for (int c = 0; c <= columns.size(); c++)
+                body.add(new Assign(matrix[r][c], variable(squared[r][c])));
+        body.add(new Assign(count, Trees.copy(half)));
+        ret.add(new While(new BinOp(Operator.GT, variable(count), new Number(0)),
+                          new Program(body)));
+        return ret;
+    }
+
+    /**
+     * Gets the step of the input variable, the literal that one iteration adds to it
+     *
+     * @param var the name of the variable
+     * @param values the affine value of each assigned variable after one iteration
+     * @return the step, or 0 if the variable is not advanced by a nonzero literal
+     */
+    private static int step(String var, Map<String, Affine> values)
+    {
+        Affine value = values.get(var);
+        if (value.coefficients.size() != 1 || value.coefficients.getOrDefault(var, 0) != 1 ||
+            value.constant == Integer.MIN_VALUE)
+            return 0;
+        return value.constant;
+    }
+
+    /**
+     * Computes the input expression as an affine function of the variables' values at the start
+     * of an iteration
+     *
+     * @param exp the input expression
+     * @param values the affine values of the variables assigned so far in the iteration
+     * @return the affine function, or null if the expression is not affine
+     */
+    private static Affine affine(Expression exp, Map<String, Affine> values)
+    {
+        switch (exp)
+        {
+            case Number num ->
+            {
+                Affine ret = new Affine();
+                ret.constant = num.getValue();
+                return ret;
+            }
+            case Variable var ->
+            {
+                Affine ret = new Affine();
+                if (values.containsKey(var.getName()))
+                    return ret.add(values.get(var.getName()), 1);
+                ret.coefficients.put(var.getName(), 1);
+                return ret;
+            }
+            case BinOp binop ->
+            {
+                Affine left = affine(binop.getExp1(), values);
+                Affine right = affine(binop.getExp2(), values);
+                if (left == null || right == null)
+                    return null;
+                return switch (binop.getOp())
+                {
+                    case PLUS -> left.add(right, 1);
+                    case MINUS -> left.add(right, -1);
+                    case TIMES ->
+                        left.coefficients.isEmpty() ? new Affine().add(right, left.constant) :
+                        right.coefficients.isEmpty() ? new Affine().add(left, right.constant) :
+                        null;
+                    default -> null;
+                };
+            }
+            case Shift shift ->
+            {
+                Affine operand = affine(shift.getExp(), values);
+                if (operand == null || shift.getKind() != Shift.Kind.LEFT)
+                    return null;
+                return new Affine().add(operand, 1 << shift.getDistance());
+            }
+            case MultiplyHigh product ->
+            {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Creates a reference to the input variable
+     *
+     * @param var the name of the variable
+     * @return a new Variable expression for it
+     */
+    private static Variable variable(String var)
+    {
+        return new Variable(var);
+    }
+
+    /**
+     * Creates a reference to the variable of the input expression
+     *
+     * @param var the input variable expression
+     * @return a new Variable expression for the same variable
+     */
+    private static Variable variable(Variable var)
+    {
+        return new Variable(var.getName());
+    }
+}
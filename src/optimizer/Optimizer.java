@@ -0,0 +1,52 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.ExpressionPool;
+import ast.Program;
+
+/**
+ * Optimizer runs a sequence of passes, each on the output of the one before it. The passes walk
+ * programs recursively, so a program nested deeper than MAX_DEPTH is returned as it is, to be run
+ * unoptimized by engines that handle any depth. The passes build their output from fresh copies,
+ * so the expressions of the last one's output are interned into a pool of their own, sharing
+ * identical subtrees again as the Parser's output does.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Optimizer implements Pass
+{
+    /**
+     * The deepest nesting of statements and expressions that the passes are run on
+     */
+    public static final int MAX_DEPTH = 256;
+
+    private List<Pass> passes;
+
+    /**
+     * Optimizer constructor for the construction of a pipeline of the input passes
+     *
+     * @param passes the passes in the order they run
+     */
+    public Optimizer(Pass... passes)
+    {
+        this.passes = List.of(passes);
+    }
+
+    /**
+     * Runs every pass on the input program in order, unless the program is too deep for them
+     *
+     * @param program the input program
+     * @return the program the last pass returns with its expressions hash-consed, or the input
+     * program if it is nested deeper than MAX_DEPTH
+     */
+    @Override
+    public Program run(Program program)
+    {
+        if (Trees.depth(program) > MAX_DEPTH)
+            return program;
+        for (Pass pass : passes) program = pass.run(program);
+        return Trees.intern(program, new ExpressionPool());
+    }
+}
@@ -0,0 +1,21 @@
+package optimizer;
+
+import ast.Program;
+
+/**
+ * Pass is implemented by every AST to AST optimization. A pass may rebuild any part of the tree,
+ * so the program it returns must be resolved afresh before it is executed.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public interface Pass
+{
+    /**
+     * Optimizes the input program without changing what it displays
+     *
+     * @param program the input program, which the pass does not modify
+     * @return the optimized program
+     */
+    Program run(Program program);
+}
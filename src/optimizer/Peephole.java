@@ -0,0 +1,247 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * Peephole simplifies every expression bottom-up. It folds operators whose operands are literals,
+ * applies the identities x * 1 = x, x + 0 = x, x - 0 = x, and x / 1 = x, and the identities
+ * x * 0 = 0 and x - x = 0 when evaluating x cannot throw. It turns multiplication by a power of
+ * two into a left shift and division of a variable by a positive literal into shifts and, unless
+ * the literal is a power of two, a magic-number MultiplyHigh, all of which truncate toward zero
+ * exactly as Java's int division does. Division of anything but a variable is left alone, since
+ * the rewritten forms read the dividend more than once.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Peephole implements Pass
+{
+    /**
+     * Simplifies the expressions of the input program
+     *
+     * @param program the input program
+     * @return the simplified program
+     */
+    @Override
+    public Program run(Program program)
+    {
+        return new Program(simplify(program.getStmts()));
+    }
+
+    /**
+     * Simplifies the expressions of the input statements
+     *
+     * @param stmts the input statements
+     * @return the simplified statements
+     */
+    private List<Statement> simplify(List<Statement> stmts)
+    {
+        List<Statement> ret = new ArrayList<Statement>(stmts.size());
+        for (Statement stmt : stmts) ret.add(simplify(stmt));
+        return ret;
+    }
+
+    /**
+     * Simplifies the expressions of the input statement
+     *
+     * @param stmt the input statement
+     * @return the simplified statement
+     */
+    private Statement simplify(Statement stmt)
+    {
+        return switch (stmt)
+        {
+            case Assign assign -> new Assign(assign.getVar(), simplify(assign.getExp()));
+            case Display display ->
+                new Display(simplify(display.getExpression()),
+                            display.getReadStmt() != null ?
+                                new Read(display.getReadStmt().getVar()) : null);
+            case Read readStmt -> new Read(readStmt.getVar());
+            case If ifStmt ->
+                new If(simplify(ifStmt.getExpression()),
+                       new Program(simplify(ifStmt.getTrueProgram().getStmts())),
+                       ifStmt.getFalseProgram() != null ?
+                           new Program(simplify(ifStmt.getFalseProgram().getStmts())) : null);
+            case While whileStmt ->
+                new While(simplify(whileStmt.getExpression()),
+                          new Program(simplify(whileStmt.getProgram().getStmts())));
+        };
+    }
+
+    /**
+     * Simplifies the input expression
+     *
+     * @param exp the input expression
+     * @return the simplified expression
+     */
+    public Expression simplify(Expression exp)
+    {
+        return switch (exp)
+        {
+            case Number num -> num;
+            case Variable var -> new Variable(var.getName());
+            case BinOp binop -> simplify(binop.getOp(), simplify(binop.getExp1()),
+                                         simplify(binop.getExp2()));
+            case Shift shift ->
+            {
+                Expression operand = simplify(shift.getExp());
+                if (operand instanceof Number num)
+                    yield new Number(shift.apply(num.getValue()));
+                yield shift.getDistance() == 0 ? operand :
+                      new Shift(shift.getKind(), operand, shift.getDistance());
+            }
+            case MultiplyHigh product ->
+            {
+                Expression operand = simplify(product.getExp());
+                if (operand instanceof Number num)
+                    yield new Number(product.apply(num.getValue()));
+                yield new MultiplyHigh(operand, product.getMultiplier());
+            }
+        };
+    }
+
+    /**
+     * Simplifies a binary operator applied to the input simplified operands
+     *
+     * @param op the binary operator
+     * @param exp1 the simplified left-hand operand
+     * @param exp2 the simplified right-hand operand
+     * @return the simplified expression
+     */
+    private Expression simplify(Operator op, Expression exp1, Expression exp2)
+    {
+        Integer value1 = exp1 instanceof Number num ? num.getValue() : null;
+        Integer value2 = exp2 instanceof Number num ? num.getValue() : null;
+        if (value1 != null && value2 != null && !(op == Operator.DIVIDE && value2 == 0))
+            return new Number(op.apply(value1, value2));
+        switch (op)
+        {
+            case PLUS:
+                if (isValue(value2, 0)) return exp1;
+                if (isValue(value1, 0)) return exp2;
+                break;
+            case MINUS:
+                if (isValue(value2, 0)) return exp1;
+                if (!Trees.canThrow(exp1) && exp1.equals(exp2))
+                    return new Number(0);
+                break;
+            case TIMES:
+                if (isValue(value2, 1)) return exp1;
+                if (isValue(value1, 1)) return exp2;
+                if (isValue(value2, 0) && !Trees.canThrow(exp1)) return new Number(0);
+                if (isValue(value1, 0) && !Trees.canThrow(exp2)) return new Number(0);
+                if (value2 != null && isPowerOfTwo(value2))
+                    return new Shift(Shift.Kind.LEFT, exp1, Integer.numberOfTrailingZeros(value2));
+                if (value1 != null && isPowerOfTwo(value1))
+                    return new Shift(Shift.Kind.LEFT, exp2, Integer.numberOfTrailingZeros(value1));
+                break;
+            case DIVIDE:
+                if (isValue(value2, 1)) return exp1;
+                if (value2 != null && value2 > 1 && exp1 instanceof Variable var)
+                    return divide(var.getName(), value2);
+                break;
+            default:
+                break;
+        }
+        return new BinOp(op, exp1, exp2);
+    }
+
+    /**
+     * Determines whether the input literal value is present and equal to the input value
+     *
+     * @param literal the value of a literal operand, or null if the operand is not a literal
+     * @param value the value to compare against
+     * @return true if the operand is the literal value, otherwise false
+     */
+    private static boolean isValue(Integer literal, int value)
+    {
+        return literal != null && literal == value;
+    }
+
+    /**
+     * Determines whether the input value is a positive power of two
+     *
+     * @param value the input value
+     * @return true if the value is 2, 4, 8, and so on up to 2^30, otherwise false
+     */
+    private static boolean isPowerOfTwo(int value)
+    {
+        return value > 1 && (value & (value - 1)) == 0;
+    }
+
+    /**
+     * Builds the division of the input variable by the input divisor out of shifts and, unless the
+     * divisor is a power of two, a multiplication by the divisor's magic number
+     *
+     * @param var the name of the dividend variable
+     * @param divisor the divisor
+     * @return an expression equal to var / divisor for every value of var
+     * @precondition divisor > 1
+     */
+    private static Expression divide(String var, int divisor)
+    {
+        Expression sign = new Shift(Shift.Kind.UNSIGNED_RIGHT, new Variable(var), 31);
+        if (isPowerOfTwo(divisor))
+        {
+            int k = Integer.numberOfTrailingZeros(divisor);
+            Expression bias = k == 1 ? sign :
+                              new Shift(Shift.Kind.UNSIGNED_RIGHT,
+                                        new Shift(Shift.Kind.RIGHT, new Variable(var), 31), 32 - k);
+            return new Shift(Shift.Kind.RIGHT, new BinOp(Operator.PLUS, new Variable(var), bias),
+                             k);
+        }
+        int[] magic = magic(divisor);
+        Expression quotient = new MultiplyHigh(new Variable(var), magic[0]);
+        if (magic[0] < 0)
+            quotient = new BinOp(Operator.PLUS, quotient, new Variable(var));
+        if (magic[1] > 0)
+            quotient = new Shift(Shift.Kind.RIGHT, quotient, magic[1]);
+        return new BinOp(Operator.PLUS, quotient, sign);
+    }
+
+    /**
+     * Computes the magic number and shift for signed division by the input divisor, as in Hacker's
+     * Delight section 10-4
+     *
+     * @param divisor the divisor
+     * @return the magic multiplier and the shift amount
+     * @precondition divisor > 1 and divisor is not a power of two
+     */
+    private static int[] magic(int divisor)
+    {
+        final long twoPow31 = 0x80000000L;
+        final long mask = 0xFFFFFFFFL;
+        long ad = divisor;
+        long anc = twoPow31 - 1 - twoPow31 % ad;
+        int p = 31;
+        long q1 = twoPow31 / anc;
+        long r1 = twoPow31 - q1 * anc;
+        long q2 = twoPow31 / ad;
+        long r2 = twoPow31 - q2 * ad;
+        long delta;
+        do
+        {
+            p++;
+            q1 = (2 * q1) & mask;
+            r1 = (2 * r1) & mask;
+            if (r1 >= anc)
+            {
+                q1 = (q1 + 1) & mask;
+                r1 = (r1 - anc) & mask;
+            }
+            q2 = (2 * q2) & mask;
+            r2 = (2 * r2) & mask;
+            if (r2 >= ad)
+            {
+                q2 = (q2 + 1) & mask;
+                r2 = (r2 - ad) & mask;
+            }
+            delta = ad - r2;
+        }
+        while (q1 < delta || (q1 == delta && r1 == 0));
+        return new int[] {(int) (q2 + 1), p - 32};
+    }
+}
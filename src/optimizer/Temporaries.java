@@ -0,0 +1,97 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+
+/**
+ * Temporaries names the variables that optimization passes introduce. Every name starts with a
+ * '$', which the Scanner never accepts in an identifier, so a temporary can never collide with a
+ * variable of the source program. Numbering continues after the highest temporary already in the
+ * program, so a pass can be run on the output of another.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Temporaries
+{
+    public static final String PREFIX = "$t";
+
+    private int next;
+
+    /**
+     * Temporaries constructor for the construction of a name generator for the input program
+     *
+     * @param program the program that the temporaries will be added to
+     */
+    public Temporaries(Program program)
+    {
+        this.next = 0;
+        scan(program.getStmts());
+    }
+
+    /**
+     * Gets the name of a new temporary
+     *
+     * @return a name that no variable of the program has
+     */
+    public String next()
+    {
+        return PREFIX + next++;
+    }
+
+    /**
+     * Determines whether the input variable name is the name of a temporary
+     *
+     * @param name the variable name
+     * @return true if the variable was introduced by an optimization pass, otherwise false
+     */
+    public static boolean isTemporary(String name)
+    {
+        return name.startsWith(PREFIX);
+    }
+
+    /**
+     * Records the temporaries that the input statements already use
+     *
+     * @param stmts the input statements
+     */
+    private void scan(List<Statement> stmts)
+    {
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case Assign assign -> see(assign.getVar());
+                case If ifStmt ->
+                {
+                    scan(ifStmt.getTrueProgram().getStmts());
+                    if (ifStmt.getFalseProgram() != null)
+                        scan(ifStmt.getFalseProgram().getStmts());
+                }
+                case While whileStmt -> scan(whileStmt.getProgram().getStmts());
+                case Display display -> { }
+                case Read readStmt -> { }
+            }
+        }
+    }
+
+    /**
+     * Advances the numbering past the input variable if it is a temporary
+     *
+     * @param name the variable name
+     */
+    private void see(String name)
+    {
+        if (!isTemporary(name))
+            return;
+        try
+        {
+            next = Math.max(next, Integer.parseInt(name.substring(PREFIX.length())) + 1);
+        }
+        catch (NumberFormatException e)
+        {
+            // a temporary from another naming scheme cannot collide with ours
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package optimizer;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * Trees holds the tree utilities that the optimization passes share
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+final class Trees
+{
+    /**
+     * Trees is never instantiated
+     */
+    private Trees()
+    {
+    }
+
+    /**
+     * Copies the input expression, so that the copy can be resolved independently of it
+     *
+     * @param exp the input expression
+     * @return the copy
+     */
+    static Expression copy(Expression exp)
+    {
+        return rewrite(exp, Map.of());
+    }
+
+    /**
+     * Determines whether evaluating the input expression can throw, which is the case when it
+     * divides by anything but a nonzero literal
+     *
+     * @param exp the input expression
+     * @return true if evaluating the expression may throw an ArithmeticException
+     */
+    static boolean canThrow(Expression exp)
+    {
+        ArrayDeque<Expression> pending = new ArrayDeque<Expression>();
+        pending.push(exp);
+        while (!pending.isEmpty())
+        {
+            switch (pending.pop())
+            {
+                case BinOp binop ->
+                {
+                    if (binop.getOp() == Operator.DIVIDE &&
+                        !(binop.getExp2() instanceof Number num && num.getValue() != 0))
+                        return true;
+                    pending.push(binop.getExp2());
+                    pending.push(binop.getExp1());
+                }
+                case Shift shift -> pending.push(shift.getExp());
+                case MultiplyHigh product -> pending.push(product.getExp());
+                default -> { }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the names of the variables that the input expression reads to the input set
+     *
+     * @param exp the input expression
+     * @param ret the set of variable names
+     * @return the set of variable names
+     */
+    static Set<String> uses(Expression exp, Set<String> ret)
+    {
+        ArrayDeque<Expression> pending = new ArrayDeque<Expression>();
+        pending.push(exp);
+        while (!pending.isEmpty())
+        {
+            switch (pending.pop())
+            {
+                case Variable var -> ret.add(var.getName());
+                case BinOp binop ->
+                {
+                    pending.push(binop.getExp2());
+                    pending.push(binop.getExp1());
+                }
+                case Shift shift -> pending.push(shift.getExp());
+                case MultiplyHigh product -> pending.push(product.getExp());
+                default -> { }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Measures the deepest nesting in the input program, counting each program, statement, and
+     * expression on the way from the root down to a leaf
+     *
+     * @param program the input program
+     * @return the largest number of nodes on any path from the program to a leaf
+     */
+    static int depth(Program program)
+    {
+        ArrayDeque<Object> pending = new ArrayDeque<Object>();
+        ArrayDeque<Integer> depths = new ArrayDeque<Integer>();
+        pending.push(program);
+        depths.push(1);
+        int ret = 0;
+        while (!pending.isEmpty())
+        {
+            Object node = pending.pop();
+            int depth = depths.pop();
+            ret = Math.max(ret, depth);
+            List<Object> children = switch (node)
+            {
+                case Program block -> List.copyOf(block.getStmts());
+                case Assign assign -> List.of(assign.getExp());
+                case Display display -> List.of(display.getExpression());
+                case If ifStmt -> ifStmt.getFalseProgram() == null ?
+                    List.of(ifStmt.getExpression(), ifStmt.getTrueProgram()) :
+                    List.of(ifStmt.getExpression(), ifStmt.getTrueProgram(),
+                            ifStmt.getFalseProgram());
+                case While whileStmt -> List.of(whileStmt.getExpression(), whileStmt.getProgram());
+                case BinOp binop -> List.of(binop.getExp1(), binop.getExp2());
+                case Shift shift -> List.of(shift.getExp());
+                case MultiplyHigh product -> List.of(product.getExp());
+                default -> List.of();
+            };
+            for (Object child : children)
+            {
+                pending.push(child);
+                depths.push(depth + 1);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Adds the names of the variables that the input statements assign or read to the input set,
+     * including the statements nested in them
+     *
+     * @param stmts the input statements
+     * @param ret the set of variable names
+     * @return the set of variable names
+     */
+    static Set<String> assigned(List<Statement> stmts, Set<String> ret)
+    {
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case Assign assign -> ret.add(assign.getVar());
+                case Read readStmt -> ret.add(readStmt.getVar());
+                case Display display ->
+                {
+                    if (display.getReadStmt() != null) ret.add(display.getReadStmt().getVar());
+                }
+                case If ifStmt ->
+                {
+                    assigned(ifStmt.getTrueProgram().getStmts(), ret);
+                    if (ifStmt.getFalseProgram() != null)
+                        assigned(ifStmt.getFalseProgram().getStmts(), ret);
+                }
+                case While whileStmt -> assigned(whileStmt.getProgram().getStmts(), ret);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Adds the top-level expressions of the input statements to the input list: the conditions
+     * of If and While statements and the expressions of display and assign statements, including
+     * those of nested statements
+     *
+     * @param stmts the input statements
+     * @param ret the list of expressions
+     * @return the list of expressions
+     */
+    static List<Expression> expressions(List<Statement> stmts, List<Expression> ret)
+    {
+        for (Statement stmt : stmts)
+        {
+            switch (stmt)
+            {
+                case Assign assign -> ret.add(assign.getExp());
+                case Display display -> ret.add(display.getExpression());
+                case Read readStmt -> { }
+                case If ifStmt ->
+                {
+                    ret.add(ifStmt.getExpression());
+                    expressions(ifStmt.getTrueProgram().getStmts(), ret);
+                    if (ifStmt.getFalseProgram() != null)
+                        expressions(ifStmt.getFalseProgram().getStmts(), ret);
+                }
+                case While whileStmt ->
+                {
+                    ret.add(whileStmt.getExpression());
+                    expressions(whileStmt.getProgram().getStmts(), ret);
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Copies the input expression, replacing every subexpression that is structurally equal to a
+     * key of the input map with the variable the map gives for it. The copy is built by an
+     * iterative post-order traversal, as in Evaluator.evalIteratively, so that no expression is
+     * too deep to copy: each node is pushed once to have its operands pushed above it and once
+     * more to combine their copies, which by then are on top of the copy stack.
+     *
+     * @param exp the input expression
+     * @param replacements the map from expressions to variable names
+     * @return the rewritten copy
+     */
+    static Expression rewrite(Expression exp, Map<Expression, String> replacements)
+    {
+        Expression[] nodes = new Expression[64];
+        boolean[] expanded = new boolean[64];
+        Expression[] copies = new Expression[64];
+        int top = 0;
+        int sp = 0;
+        nodes[top++] = exp;
+        while (top > 0)
+        {
+            Expression node = nodes[--top];
+            if (sp + 1 >= copies.length)
+                copies = Arrays.copyOf(copies, copies.length * 2);
+            if (expanded[top])
+            {
+                switch (node)
+                {
+                    case BinOp binop ->
+                    {
+                        sp--;
+                        copies[sp - 1] = new BinOp(binop.getOp(), copies[sp - 1], copies[sp]);
+                    }
+                    case Shift shift ->
+                        copies[sp - 1] = new Shift(shift.getKind(), copies[sp - 1],
+                                                   shift.getDistance());
+                    case MultiplyHigh product ->
+                        copies[sp - 1] = new MultiplyHigh(copies[sp - 1],
+                                                          product.getMultiplier());
+                    default -> { }
+                }
+                continue;
+            }
+            String var = replacements.isEmpty() || node instanceof Number ||
+                         node instanceof Variable ? null : replacements.get(node);
+            if (var != null)
+            {
+                copies[sp++] = new Variable(var);
+                continue;
+            }
+            if (top + 3 > nodes.length)
+            {
+                nodes = Arrays.copyOf(nodes, nodes.length * 2);
+                expanded = Arrays.copyOf(expanded, expanded.length * 2);
+            }
+            switch (node)
+            {
+                case Number num -> copies[sp++] = num;
+                case Variable variable -> copies[sp++] = new Variable(variable.getName());
+                case BinOp binop ->
+                {
+                    expanded[top] = true;
+                    nodes[top++] = binop;
+                    expanded[top] = false;
+                    nodes[top++] = binop.getExp2();
+                    expanded[top] = false;
+                    nodes[top++] = binop.getExp1();
+                }
+                case Shift shift ->
+                {
+                    expanded[top] = true;
+                    nodes[top++] = shift;
+                    expanded[top] = false;
+                    nodes[top++] = shift.getExp();
+                }
+                case MultiplyHigh product ->
+                {
+                    expanded[top] = true;
+                    nodes[top++] = product;
+                    expanded[top] = false;
+                    nodes[top++] = product.getExp();
+                }
+            }
+        }
+        return copies[0];
+    }
+
+    /**
+     * Copies the input statement, replacing subexpressions of it and of its nested statements as
+     * rewrite(Expression, Map) does
+     *
+     * @param stmt the input statement
+     * @param replacements the map from expressions to variable names
+     * @return the rewritten copy
+     */
+    static Statement rewrite(Statement stmt, Map<Expression, String> replacements)
+    {
+        return switch (stmt)
+        {
+            case Assign assign ->
+                new Assign(assign.getVar(), rewrite(assign.getExp(), replacements));
+            case Display display ->
+                new Display(rewrite(display.getExpression(), replacements),
+                            display.getReadStmt() != null ?
+                                new Read(display.getReadStmt().getVar()) : null);
+            case Read readStmt -> new Read(readStmt.getVar());
+            case If ifStmt ->
+                new If(rewrite(ifStmt.getExpression(), replacements),
+                       rewrite(ifStmt.getTrueProgram(), replacements),
+                       ifStmt.getFalseProgram() != null ?
+                           rewrite(ifStmt.getFalseProgram(), replacements) : null);
+            case While whileStmt ->
+                new While(rewrite(whileStmt.getExpression(), replacements),
+                          rewrite(whileStmt.getProgram(), replacements));
+        };
+    }
+
+    /**
+     * Copies the input program, replacing subexpressions of its statements as
+     * rewrite(Expression, Map) does
+     *
+     * @param program the input program
+     * @param replacements the map from expressions to variable names
+     * @return the rewritten copy
+     */
+    static Program rewrite(Program program, Map<Expression, String> replacements)
+    {
+        List<Statement> stmts = new ArrayList<Statement>(program.getStmts().size());
+        for (Statement stmt : program.getStmts()) stmts.add(rewrite(stmt, replacements));
+        return new Program(stmts);
+    }
+
+    /**
+     * Copies the input statement, replacing each of its top-level expressions and those of its
+     * nested statements with the canonical expression of the input pool
+     *
+     * @param stmt the input statement
+     * @param pool the pool to intern the expressions into
+     * @return the copy, whose expressions are all canonical
+     */
+    static Statement intern(Statement stmt, ExpressionPool pool)
+    {
+        return switch (stmt)
+        {
+            case Assign assign -> new Assign(assign.getVar(), pool.internTree(assign.getExp()));
+            case Display display ->
+                new Display(pool.internTree(display.getExpression()),
+                            display.getReadStmt() != null ?
+                                new Read(display.getReadStmt().getVar()) : null);
+            case Read readStmt -> new Read(readStmt.getVar());
+            case If ifStmt ->
+                new If(pool.internTree(ifStmt.getExpression()),
+                       intern(ifStmt.getTrueProgram(), pool),
+                       ifStmt.getFalseProgram() != null ?
+                           intern(ifStmt.getFalseProgram(), pool) : null);
+            case While whileStmt ->
+                new While(pool.internTree(whileStmt.getExpression()),
+                          intern(whileStmt.getProgram(), pool));
+        };
+    }
+
+    /**
+     * Copies the input program, interning the expressions of its statements as
+     * intern(Statement, ExpressionPool) does
+     *
+     * @param program the input program
+     * @param pool the pool to intern the expressions into
+     * @return the copy, whose expressions are all canonical
+     */
+    static Program intern(Program program, ExpressionPool pool)
+    {
+        List<Statement> stmts = new ArrayList<Statement>(program.getStmts().size());
+        for (Statement stmt : program.getStmts()) stmts.add(intern(stmt, pool));
+        return new Program(stmts);
+    }
+}
@@ -6,257 +6,423 @@ import ast.*;
 import ast.Number;
 import scanner.ScanErrorException;
 import scanner.Scanner;
+import scanner.Token;
+import scanner.TokenStream;
 
 /**
- * Parser parses the input lexemes from an instance of the Scanner class
+ * Parser parses the input lexemes from an instance of the Scanner class or from a pre-tokenized
+ * TokenStream. Expressions are hash-consed through an ExpressionPool, so identical subexpressions
+ * of a program are a single shared node. Neither expressions nor statements are parsed
+ * recursively, so arbitrarily deep nesting never overflows the Java stack. A source that does not
+ * scan is rejected like one that does not parse, with an IllegalArgumentException, so that the
+ * caches and services that parse untrusted sources never have to end the process.
  *
  * @author Rohan Thakur
- * @version 1/10/22
+ * @version 10/18/26
  */
 public class Parser
 {
+    private static final int PAREN = -1;
+    private static final int NEGATE = -2;
+
     private Scanner scanner;
-    private String currentToken;
+    private Token currentToken;
+    private TokenStream tokens;
+    private int index;
+    private int kind;
+    private ExpressionPool pool;
 
     /**
      * Parser constructor for the construction of a Parser that uses a Scanner as input
      *
      * @param scanner the input Scanner object to use
+     * @throws IllegalArgumentException when the first token does not scan
      */
     public Parser(Scanner scanner)
     {
         this.scanner = scanner;
+        this.pool = new ExpressionPool();
+        advance();
+    }
+
+    /**
+     * Parser constructor for the construction of a Parser that consumes a pre-tokenized, packed
+     * TokenStream by index instead of pulling tokens from a Scanner
+     *
+     * @param tokens the input TokenStream object to use
+     */
+    public Parser(TokenStream tokens)
+    {
+        this.tokens = tokens;
+        this.pool = new ExpressionPool();
+        this.index = 0;
+        this.kind = tokens.getKind(0);
+    }
+
+    /**
+     * Advances to the next token, either by calling scanner.next() or by moving to the next index
+     * of the token stream
+     *
+     * @postcondition kind is the kind code of the next token in the input; the final END token of
+     * a token stream is never advanced past
+     * @throws IllegalArgumentException when the scanner finds an invalid token, which is the
+     * cause of the exception
+     */
+    private void advance()
+    {
+        if (tokens != null)
+        {
+            if (index + 1 < tokens.size())
+                index++;
+            this.kind = tokens.getKind(index);
+            return;
+        }
         try
         {
-            this.currentToken = scanner.nextToken();
+            this.currentToken = scanner.next();
+            this.kind = currentToken.getKind();
         }
         catch (ScanErrorException e)
         {
-            e.printStackTrace();
-            System.exit(-1);
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
     }
 
     /**
-     * Advances currentToken to the next token by calling scanner.nextToken() if the expected string
-     * value matches currentToken, throws an IllegalArgumentException otherwise
+     * Gets the text of the current token
      *
-     * @param expected the expected value of currentToken
-     * @throws IllegalArgumentException when the value of currentToken is not equal to the expected
-     * value of currentToken
+     * @return the text of the current token
      */
-    private void eat(String expected) throws IllegalArgumentException
+    private String text()
     {
-        // System.out.println("expected: " + expected + ", currentToken: " + currentToken);
-        if (expected.equals(currentToken))
-        {
-            try
-            {
-                this.currentToken = scanner.nextToken();
-            }
-            catch (ScanErrorException e)
-            {
-                e.printStackTrace();
-                System.exit(-1);
-            }
-        }
-        else
-            throw new IllegalArgumentException("Illegal character: expected " + expected +
-                                            " and found " + currentToken);
+        return tokens != null ? tokens.getText(index) : currentToken.getText();
     }
 
     /**
-     * Parses the current program
-     * 
-     * @precondition currentToken begins a program
-     * @postcondition currentToken has advanced to the end of the input stream, and all of the
-     * tokens in the input stream have been eaten
-     * @return a Program AST object that represents the parsed program
+     * Gets the value of the current token
+     *
+     * @return the numeric value of the current token if it is a NUMBER token
      */
-    public Program parseProgram()
+    private int value()
+    {
+        return tokens != null ? tokens.getValue(index) : currentToken.getValue();
+    }
+
+    /**
+     * Describes the source position of the current token for error messages
+     *
+     * @return the line and column of the current token
+     */
+    private String position()
     {
-        List<Statement> stmts = new ArrayList<Statement>();
+        if (tokens != null)
+            return "line " + tokens.getLine(index) + ", column " + tokens.getColumn(index);
+        return "line " + currentToken.getLine() + ", column " + currentToken.getColumn();
+    }
 
-        Statement stmt = parseStatement();
-        stmts.add(stmt);
-        while (!currentToken.equals("end") && !currentToken.equals("else"))
+    /**
+     * Gets the binary operator of the input operator token kind
+     *
+     * @param kind the kind code of an operator token
+     * @return the Operator that BinOp expressions carry for the token
+     * @precondition kind is the kind code of an arithmetic or comparison operator
+     */
+    private static Operator operator(int kind)
+    {
+        switch (kind)
         {
-            stmt = parseStatement();
-            stmts.add(stmt);
+            case Token.PLUS: return Operator.PLUS;
+            case Token.MINUS: return Operator.MINUS;
+            case Token.TIMES: return Operator.TIMES;
+            case Token.DIVIDE: return Operator.DIVIDE;
+            case Token.EQ: return Operator.EQ;
+            case Token.NE: return Operator.NE;
+            case Token.LT: return Operator.LT;
+            case Token.GT: return Operator.GT;
+            case Token.LE: return Operator.LE;
+            default: return Operator.GE;
         }
-        return new Program(stmts);
     }
 
     /**
-     * Parses the current statement or block of statements and returns a new AST object of the
-     * appropriate type for evaluation by the Evaluator
+     * Advances to the next token if the expected kind code matches the kind code of the current
+     * token, throws an IllegalArgumentException otherwise
      *
-     * @precondition currentToken begins a statement
-     * @postcondition currentToken has advanced past the current statement, all of the current
-     * statement's associated tokens have been eaten
-     * @return a Statement AST object that represents the current statement
+     * @param expected the expected kind code of the current token
+     * @throws IllegalArgumentException when the kind code of the current token is not equal to the
+     * expected kind code
      */
-    private Statement parseStatement()
+    private void eat(int expected) throws IllegalArgumentException
     {
-        // System.out.println("Stmt: " + currentToken);
-        switch (currentToken)
+        if (kind == expected)
+            advance();
+        else
+            throw new IllegalArgumentException("Illegal character: expected " +
+                                               Token.text(expected) + " and found " + text() +
+                                               " at " + position());
+    }
+
+    /**
+     * Parses the current program. Nested While and If statements are parsed with an explicit
+     * stack of the programs being built instead of by recursion, so the depth of nesting is
+     * limited only by the heap.
+     * 
+     * @precondition currentToken begins a program
+     * @postcondition currentToken has advanced to the end of the input stream, and all of the
+     * tokens in the input stream have been eaten
+     * @return a Program AST object that represents the parsed program
+     * @throws IllegalArgumentException when the input does not scan or does not parse
+     */
+    public Program parseProgram()
+    {
+        Deque<Block> blocks = new ArrayDeque<Block>();
+        Block block = new Block(Token.END, null, null);
+        while (true)
         {
-            case "display":
-                eat("display");
-                Expression displayExpression = parseExpression();
-                Read readStmt = null;
-                if (currentToken.equals("read"))
+            if (!block.stmts.isEmpty() && (kind == Token.END || kind == Token.ELSE))
+            {
+                Program program = new Program(block.stmts);
+                if (block.kind == Token.END)
+                    return program;
+                Block parent = blocks.pop();
+                if (block.kind == Token.THEN && kind != Token.END)
                 {
-                    eat("read");
-                    readStmt = new Read(currentToken);
-                    eat(currentToken);
+                    eat(Token.ELSE);
+                    blocks.push(parent);
+                    block = new Block(Token.ELSE, block.condition, program);
+                    continue;
                 }
-                return new Display(displayExpression, readStmt);
+                eat(Token.END);
+                if (block.kind == Token.DO)
+                    parent.stmts.add(new While(block.condition, program));
+                else if (block.kind == Token.THEN)
+                    parent.stmts.add(new If(block.condition, program, null));
+                else
+                    parent.stmts.add(new If(block.condition, block.trueProgram, program));
+                block = parent;
+                continue;
+            }
+
+            switch (kind)
+            {
+                case Token.DISPLAY:
+                    eat(Token.DISPLAY);
+                    Expression displayExpression = parseExpression();
+                    Read readStmt = null;
+                    if (kind == Token.READ)
+                    {
+                        eat(Token.READ);
+                        readStmt = new Read(text());
+                        advance();
+                    }
+                    block.stmts.add(new Display(displayExpression, readStmt));
+                    break;
 
-            case "assign":
-                eat("assign");
-                String varName = currentToken;
-                eat(currentToken);
-                eat("=");
-                Expression varVal = parseExpression();
-                return new Assign(varName, varVal);
+                case Token.ASSIGN:
+                    eat(Token.ASSIGN);
+                    String varName = text();
+                    advance();
+                    eat(Token.EQ);
+                    Expression varVal = parseExpression();
+                    block.stmts.add(new Assign(varName, varVal));
+                    break;
 
-            case "while":
-                eat("while");
-                Expression whileExpression = parseExpression();
-                eat("do");
-                Program whileProgram = parseProgram();
-                eat("end");
-                return new While(whileExpression, whileProgram);
+                case Token.WHILE:
+                    eat(Token.WHILE);
+                    Expression whileExpression = parseExpression();
+                    eat(Token.DO);
+                    blocks.push(block);
+                    block = new Block(Token.DO, whileExpression, null);
+                    break;
 
-            default:
-                eat("if");
-                Expression ifExpression = parseExpression();
-                eat("then");
-                Program ifTrueProgram = parseProgram();
-                Program ifFalseProgram = null;
-                if (!currentToken.equals("end"))
-                {
-                    eat("else");
-                    ifFalseProgram = parseProgram();
-                }
-                eat("end");
-                return new If(ifExpression, ifTrueProgram, ifFalseProgram);
+                default:
+                    eat(Token.IF);
+                    Expression ifExpression = parseExpression();
+                    eat(Token.THEN);
+                    blocks.push(block);
+                    block = new Block(Token.THEN, ifExpression, null);
+                    break;
+            }
         }
     }
 
     /**
-     * Parses the current integer expression
+     * Parses the current integer expression by precedence climbing over explicit operand and
+     * operator stacks, so that neither long operator chains nor deeply nested parentheses recurse.
+     * Comparisons bind loosest, then addition and subtraction, then multiplication and division,
+     * all left-associative, and a unary minus applies to the single value or parenthesized
+     * expression that follows it as a multiplication by -1.
      *
      * @precondition currentToken begins an integer expression
      * @postcondition currentToken has advanced past the current expression, all of the expression's
      * associated tokens have been eaten
      * @return an Expression AST object that represents the parsed expression
+     * @throws IllegalArgumentException when a parenthesis is not closed or a number does not fit
+     * in an int
      */
     private Expression parseExpression()
     {
-        // System.out.println("Expr: " + currentToken);
-        Expression ret = parseAddExpr();
-        while (currentToken.equals("<") || currentToken.equals(">") || currentToken.equals(">=") ||
-               currentToken.equals("<=") || currentToken.equals("<>") || currentToken.equals("="))
+        Expression[] operands = new Expression[8];
+        int[] operators = new int[8];
+        int values = 0;
+        int pending = 0;
+        while (true)
         {
-            String op = currentToken;
-            eat(currentToken);
-            ret = new BinOp(op, ret, parseAddExpr());
+            boolean negated = kind == Token.MINUS;
+            if (negated)
+                eat(Token.MINUS);
+            if (kind == Token.LPAREN)
+            {
+                eat(Token.LPAREN);
+                if (pending + 2 > operators.length)
+                    operators = Arrays.copyOf(operators, operators.length * 2);
+                if (negated)
+                    operators[pending++] = NEGATE;
+                operators[pending++] = PAREN;
+                continue;
+            }
+            Expression value = parseValue();
+            if (negated)
+                value = negate(value);
+            if (values == operands.length)
+                operands = Arrays.copyOf(operands, operands.length * 2);
+            operands[values++] = value;
+
+            while (true)
+            {
+                int precedence = precedence(kind);
+                if (precedence >= 0)
+                {
+                    while (pending > 0 && operators[pending - 1] >= 0 &&
+                           precedence(operators[pending - 1]) >= precedence)
+                        values = reduce(operands, values, operators[--pending]);
+                    if (pending == operators.length)
+                        operators = Arrays.copyOf(operators, operators.length * 2);
+                    operators[pending++] = kind;
+                    advance();
+                    break;
+                }
+                while (pending > 0 && operators[pending - 1] >= 0)
+                    values = reduce(operands, values, operators[--pending]);
+                if (pending == 0)
+                    return operands[0];
+                eat(Token.RPAREN);
+                pending--;
+                if (pending > 0 && operators[pending - 1] == NEGATE)
+                {
+                    pending--;
+                    operands[values - 1] = negate(operands[values - 1]);
+                }
+            }
         }
-        return ret;
     }
 
     /**
-     * Parses the current integer addition/subtraction expression
+     * Gets the precedence of the input binary operator token kind
      *
-     * @precondition currentToken begins an addition/subtraction expression
-     * @postcondition currentToken has advanced past the current addition/subtraction expression,
-     * all of the current addition/subtraction expression's associated tokens have been eaten
-     * @return an Expression AST object that represents the parsed addition/subtraction expression
+     * @param kind the kind code of a token
+     * @return 0 for comparisons, 1 for addition and subtraction, 2 for multiplication and
+     * division, or -1 if the token is not a binary operator
      */
-    private Expression parseAddExpr()
+    private static int precedence(int kind)
     {
-        // System.out.println("AddExpr: " + currentToken);
-        Expression ret = parseMultExpr();
-        while (currentToken.equals("+") || currentToken.equals("-"))
+        switch (kind)
         {
-            String op = currentToken;
-            eat(currentToken);
-            ret = new BinOp(op, ret, parseMultExpr());
+            case Token.LT:
+            case Token.GT:
+            case Token.GE:
+            case Token.LE:
+            case Token.NE:
+            case Token.EQ:
+                return 0;
+            case Token.PLUS:
+            case Token.MINUS:
+                return 1;
+            case Token.TIMES:
+            case Token.DIVIDE:
+                return 2;
+            default:
+                return -1;
         }
-        return ret;
     }
 
     /**
-     * Parses the current integer multiplication/division expression
+     * Replaces the top two operands of the input operand stack with the BinOp of the input
+     * operator token kind that combines them
      *
-     * @precondition currentToken begins an multiplication/division expression
-     * @postcondition currentToken has advanced past the current multiplication/division expression,
-     * all of the current multiplication/division expression's associated tokens have been eaten
-     * @return an Expression AST object that represents the parsed multiplication/division
-     * expression
+     * @param operands the operand stack
+     * @param values the number of operands on the stack
+     * @param kind the kind code of the operator token
+     * @return the number of operands left on the stack
      */
-    private Expression parseMultExpr()
+    private int reduce(Expression[] operands, int values, int kind)
     {
-        // System.out.println("MultExpr: " + currentToken);
-        Expression ret = parseNegExpr();
-        while (currentToken.equals("*") || currentToken.equals("/"))
-        {
-            String op = currentToken;
-            eat(currentToken);
-            ret = new BinOp(op, ret, parseNegExpr());
-        }
-        return ret;
+        operands[values - 2] = pool.intern(new BinOp(operator(kind), operands[values - 2],
+                                                     operands[values - 1]));
+        return values - 1;
     }
 
     /**
-     * Parses the value of the current integer term that may be combined with other terms via
-     * addition, subtraction, multiplication, or division
+     * Negates the input expression as the Parser always has, by multiplying it by -1
      *
-     * @precondition currentToken begins an integer term
-     * @postcondition currentToken has advanced past the current integer term, all of the current
-     * integer term's associated tokens have been eaten
-     * @return an Expression AST object that represents the parsed integer term
+     * @param exp the input expression
+     * @return the negated expression
      */
-    private Expression parseNegExpr()
+    private Expression negate(Expression exp)
     {
-        // System.out.println("NegExpr: " + currentToken);
-        if (currentToken.equals("-"))
-        {
-            eat("-");
-            return new BinOp("*", new Number(-1), parseValue());
-        }
-        return parseValue();
+        return pool.intern(new BinOp(Operator.TIMES, pool.intern(new Number(-1)), exp));
     }
 
     /**
-     * Parses the current integer value, which is a number, variable, or an Expression enclosed in
-     * parentheses
+     * Parses the current integer value, which is a number or a variable
      *
-     * @precondition currentToken begins an integer value
+     * @precondition currentToken begins an integer value other than a parenthesized expression
      * @postcondition currentToken has advanced past the current integer value, all of the value's
      * associated tokens have been eaten
      * @return an Expression AST object that represents the parsed integer value
+     * @throws IllegalArgumentException when a number does not fit in an int
      */
     private Expression parseValue()
     {
-        // System.out.println("Value: " + currentToken);
-        if (currentToken.equals("("))
+        if (kind == Token.NUMBER)
         {
-            eat("(");
-            Expression ret = parseExpression();
-            eat(")");
-            return ret;
+            int numVal = value();
+            if (numVal < 0)
+                throw new IllegalArgumentException("Number out of range: " + text() + " at " +
+                                                   position());
+            advance();
+            return pool.intern(new Number(numVal));
         }
-        if (currentToken.matches("[0-9]+"))
+        String id = text();
+        advance();
+        return pool.intern(new Variable(id));
+    }
+
+    /**
+     * Block is a program whose statements are still being parsed, together with the statement
+     * that the program will become part of
+     */
+    private static class Block
+    {
+        private int kind;
+        private Expression condition;
+        private Program trueProgram;
+        private List<Statement> stmts;
+
+        /**
+         * Block constructor for the construction of an empty program
+         *
+         * @param kind END for the whole program, DO for the body of a While statement, THEN for
+         * the true program of an If statement, or ELSE for its false program
+         * @param condition the condition of the enclosing While or If statement
+         * @param trueProgram the already parsed true program if kind is ELSE
+         */
+        private Block(int kind, Expression condition, Program trueProgram)
         {
-            int numVal = Integer.parseInt(currentToken);
-            eat(currentToken);
-            return new Number(numVal);
+            this.kind = kind;
+            this.condition = condition;
+            this.trueProgram = trueProgram;
+            this.stmts = new ArrayList<Statement>();
         }
-        String id = currentToken;
-        eat(id);
-        return new Variable(id);
     }
 }
@@ -1,11 +1,28 @@
 package parser;
 
 import java.io.*;
+import java.nio.file.Paths;
 
 import ast.Program;
+import codegen.JvmCompiler;
 import environment.Environment;
+import evaluator.ClosureCompiler;
+import evaluator.Engine;
 import evaluator.Evaluator;
+import io.AsyncSink;
+import io.ChannelSink;
+import ir.IREngine;
+import nodes.SpecializingEvaluator;
+import optimizer.CommonSubexpressions;
+import optimizer.ConstantFolder;
+import optimizer.DeadStoreEliminator;
+import optimizer.LoopOptimizer;
+import optimizer.LoopSummarizer;
+import optimizer.Optimizer;
+import optimizer.Peephole;
+import resolver.Resolver;
 import scanner.Scanner;
+import vm.VirtualMachine;
 
 /**
  * ParserTester tests whether the compiler properly compiles a given simplified PASCAL program in
@@ -20,26 +37,57 @@ public class ParserTester
      * Tests compiling a given simplified PASCAL program by compiling the output of the parseProgram
      * Parser function in addition to testing the parsing and evaluation phases of the compiler
      *
-     * @param args the command-line input args
+     * @param args the command-line input args; passing "jvm", "vm", "closure", "nodes", or "ir"
+     * runs the program with the JvmCompiler, the VirtualMachine, the ClosureCompiler, the
+     * SpecializingEvaluator, or the IREngine instead of the Evaluator, and passing "async" runs
+     * it with an Evaluator that displays through an AsyncSink; the number of dead stores removed
+     * is printed to System.err, apart from the program's output
      */
     public static void main(String[] args)
     {
         try
         {
-            FileInputStream inStream = new FileInputStream(new File("./src/parser" +
-                                                                    "/parserTest0.txt"));
-            Scanner scanner = new Scanner(inStream);
+            Scanner scanner = new Scanner(Paths.get("./src/parser/parserTest0.txt"));
             Parser parser = new Parser(scanner);
-            Evaluator eval = new Evaluator();
+            Engine eval = engine(args.length > 0 ? args[0] : "");
             Environment env = new Environment();
 
-            Program program = parser.parseProgram();
+            DeadStoreEliminator deadStores = new DeadStoreEliminator();
+            Program program = new Optimizer(new ConstantFolder(), new LoopSummarizer(),
+                                            new LoopOptimizer(),
+                                            new CommonSubexpressions(), new Peephole(),
+                                            deadStores)
+                                  .run(parser.parseProgram());
+            System.err.println("Dead stores removed: " + deadStores.getRemoved());
+            new Resolver().resolve(program);
             eval.exec(program, env);
         }
-        catch(FileNotFoundException e)
+        catch(IOException e)
         {
             e.printStackTrace();
             System.exit(-1);
         }
     }
+
+    /**
+     * Gets the engine with the input name
+     *
+     * @param name the name of the engine
+     * @return the engine, which is the Evaluator for any unknown name
+     */
+    private static Engine engine(String name)
+    {
+        switch (name)
+        {
+            case "jvm": return new JvmCompiler();
+            case "vm": return new VirtualMachine();
+            case "closure": return new ClosureCompiler();
+            case "nodes": return new SpecializingEvaluator();
+            case "ir": return new IREngine();
+            case "async":
+                return new Evaluator(new AsyncSink(new ChannelSink(), AsyncSink.DEFAULT_CAPACITY,
+                                                   AsyncSink.BackPressure.BLOCK));
+            default: return new Evaluator();
+        }
+    }
 }
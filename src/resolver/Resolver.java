@@ -0,0 +1,142 @@
+package resolver;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+
+/**
+ * Resolver assigns every distinct variable name in a Program a dense int slot and records the
+ * slot on each Variable, Assign, and Read node, so that the Evaluator can keep variables in an
+ * array-backed Environment frame instead of looking them up by name
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Resolver
+{
+    private HashMap<String, Integer> slots;
+    private List<String> names;
+
+    /**
+     * Resolves every variable in the input program
+     *
+     * @param program the input program
+     * @postcondition every Variable, Assign, and Read node in the program has a slot, and the
+     * program's slot names are set
+     * @return the array of variable names indexed by slot
+     */
+    public String[] resolve(Program program)
+    {
+        this.slots = new HashMap<String, Integer>();
+        this.names = new ArrayList<String>();
+        resolveProgram(program);
+        String[] ret = names.toArray(new String[0]);
+        program.setSlotNames(ret);
+        return ret;
+    }
+
+    /**
+     * Gets the slot of the input variable name, assigning the next free slot if the name has not
+     * been seen yet
+     *
+     * @param name the input variable name
+     * @return the slot of the variable
+     */
+    private int slot(String name)
+    {
+        Integer slot = slots.get(name);
+        if (slot == null)
+        {
+            slot = names.size();
+            slots.put(name, slot);
+            names.add(name);
+        }
+        return slot;
+    }
+
+    /**
+     * Resolves every statement of the input program, including the statements nested in them,
+     * keeping the blocks still being resolved on an explicit stack instead of the call stack so
+     * that no program is nested too deeply to resolve
+     *
+     * @param program the input program
+     */
+    private void resolveProgram(Program program)
+    {
+        ArrayDeque<Iterator<Statement>> blocks = new ArrayDeque<Iterator<Statement>>();
+        blocks.push(program.getStmts().iterator());
+        while (!blocks.isEmpty())
+        {
+            Iterator<Statement> block = blocks.peek();
+            if (block.hasNext())
+                resolve(block.next(), blocks);
+            else
+                blocks.pop();
+        }
+    }
+
+    /**
+     * Resolves the input statement and pushes the blocks nested in it, the first block on top
+     *
+     * @param stmt the input statement
+     * @param blocks the stack of blocks still being resolved
+     */
+    private void resolve(Statement stmt, ArrayDeque<Iterator<Statement>> blocks)
+    {
+        switch (stmt)
+        {
+            case Display display ->
+            {
+                resolve(display.getExpression());
+                if (display.getReadStmt() != null)
+                    display.getReadStmt().setSlot(slot(display.getReadStmt().getVar()));
+            }
+            case Read readStmt -> readStmt.setSlot(slot(readStmt.getVar()));
+            case Assign assign ->
+            {
+                resolve(assign.getExp());
+                assign.setSlot(slot(assign.getVar()));
+            }
+            case If ifStmt ->
+            {
+                resolve(ifStmt.getExpression());
+                if (ifStmt.getFalseProgram() != null)
+                    blocks.push(ifStmt.getFalseProgram().getStmts().iterator());
+                blocks.push(ifStmt.getTrueProgram().getStmts().iterator());
+            }
+            case While whileStmt ->
+            {
+                resolve(whileStmt.getExpression());
+                blocks.push(whileStmt.getProgram().getStmts().iterator());
+            }
+        }
+    }
+
+    /**
+     * Resolves the input expression, visiting its variables from left to right with an explicit
+     * stack
+     *
+     * @param exp the input expression
+     */
+    private void resolve(Expression exp)
+    {
+        ArrayDeque<Expression> pending = new ArrayDeque<Expression>();
+        pending.push(exp);
+        while (!pending.isEmpty())
+        {
+            switch (pending.pop())
+            {
+                case Variable var -> var.setSlot(slot(var.getName()));
+                case BinOp binop ->
+                {
+                    pending.push(binop.getExp2());
+                    pending.push(binop.getExp1());
+                }
+                case Shift shift -> pending.push(shift.getExp());
+                case MultiplyHigh product -> pending.push(product.getExp());
+                case Number num -> { }
+            }
+        }
+    }
+}
@@ -1,282 +1,621 @@
-package scanner;
-
-import java.io.*;
-import java.util.regex.Pattern;
-
-/**
- * Scanner is a simple scanner for Compilers and Interpreters (2014-2015) lab exercise 1
- * 
- * @author Rohan Thakur
- * @version 1/12/22
- */
-public class Scanner
-{
-    private BufferedReader in;
-    private char currentChar;
-    private boolean eof;
-
-    /**
-     * Scanner constructor for construction of a scanner that
-     * uses an InputStream object for input.
-     * 
-     * Usage:
-     * FileInputStream inStream = new FileInputStream(new File(<file name>);
-     * Scanner lex = new Scanner(inStream);
-     * 
-     * @param inStream the input stream to use
-     */
-    public Scanner(InputStream inStream)
-    {
-        in = new BufferedReader(new InputStreamReader(inStream));
-        eof = false;
-        getNextChar();
-    }
-
-    /**
-     * Scanner constructor for constructing a scanner that 
-     * scans a given input string.  It sets the end-of-file flag an then reads
-     * the first character of the input string into the instance field currentChar.
-     * 
-     * Usage: Scanner lex = new Scanner(input_string);
-     * 
-     * @param inString the string to scan
-     */
-    public Scanner(String inString)
-    {
-        in = new BufferedReader(new StringReader(inString));
-        eof = false;
-        getNextChar();
-    }
-
-    /**
-     * Gets the next character in the input stream
-     * 
-     * @postcondition advanced to the next character in the input stream, eventually
-     * setting eof to true once the end of the file has been reached
-     */
-    private void getNextChar()
-    {
-        try
-        {
-            int inp = in.read();
-            if (inp == -1)
-                eof = true;
-            else
-                currentChar = (char) inp;
-        }
-        catch (IOException e)
-        {
-            e.printStackTrace();
-            System.exit(-1);
-        }
-    }
-
-    /**
-     * Advances the input stream one character by calling getNextChar() if the
-     * expected char value matches currentChar, throws a ScanErrorException otherwise
-     * 
-     * @param expected the expected value of currentChar
-     * @throws ScanErrorException e
-     */
-    private void eat(char expected) throws ScanErrorException
-    {
-        if (expected == currentChar)
-            getNextChar();
-        else
-            throw new ScanErrorException("Illegal character: expected " + expected +
-                                            " and found " + currentChar);
-    }
-
-    /**
-     * Returns whether the next character in the input stream exists
-     * 
-     * @return true if the next character exists, false otherwise
-     */
-    public boolean hasNext()
-    {
-        return !eof;
-    }
-
-
-    /**
-     * Determines whether the input character is a digit
-     * 
-     * @param inChar the input character to be checked
-     * @return true if the input character is a digit, false otherwise
-     */
-    public static boolean isDigit(char inChar)
-    {
-        return Pattern.matches("[0-9]", "" + inChar);
-    }
-
-    /**
-     * Determines whether the input character is a letter
-     * 
-     * @param inChar the input character to be checked
-     * @return true if the input character is a letter, false otherwise
-     */
-    public static boolean isLetter(char inChar)
-    {
-        return Pattern.matches("[a-zA-Z]", "" + inChar);
-    }
-
-    /**
-     * Determines whether the input character is white space
-     * 
-     * @param inChar the input character to be checked
-     * @return true if the input character is white space, false otherwise
-     */
-    public static boolean isWhiteSpace(char inChar)
-    {
-        return Pattern.matches("[ \t\r\n]", "" + inChar);
-    }
-
-    /**
-     * Determines whether the input character is an operand
-     * 
-     * @param inChar the input character to be checked
-     * @return true if the input character is an operand, false otherwise
-     */
-    public static boolean isOperand(char inChar)
-    {
-        return Pattern.matches("[-=+*/%();:<>,]", "" + inChar);
-    }
-
-    /**
-     * Scans the input and returns the current numeric lexeme, throwing a
-     * ScanErrorException if an invalid character is encountered
-     * 
-     * @precondition currentChar is a digit
-     * @postcondition advanced to the next lexeme
-     * @return the current numeric lexeme
-     * @throws ScanErrorException e
-     */
-    private String scanNumber() throws ScanErrorException
-    {
-        String ret = "";
-        while (hasNext() && isDigit(currentChar))
-        {
-            ret += currentChar;
-            eat(currentChar);
-        }
-
-        if (hasNext() && !isWhiteSpace(currentChar) && !isOperand(currentChar))
-            throw new ScanErrorException("Error: expected a number, white space, or an operand" +
-                                            " and found " + currentChar);
-
-        assert(Pattern.matches("[0-9]+", ret));
-        return ret;
-    }
-
-    /**
-     * Scans the input and returns the current identifier lexeme, throwing a
-     * ScanErrorException if an invalid character is encountered
-     * 
-     * @precondition currentChar is a letter
-     * @postcondition advanced to the next lexeme
-     * @return the current identifier lexeme
-     * @throws ScanErrorException e
-     */
-    private String scanIdentifier() throws ScanErrorException
-    {
-        String ret = "";
-        while (hasNext() && (isDigit(currentChar) || isLetter(currentChar)))
-        {
-            ret += currentChar;
-            eat(currentChar);
-        }
-
-        if (hasNext() && !isWhiteSpace(currentChar) && !isOperand(currentChar))
-            throw new ScanErrorException("Error: expected a number, letter, white space, or an " +
-                                            "operand and found " + currentChar);
-
-        assert(Pattern.matches("[a-zA-Z][a-zA-Z0-9]*", ret));
-        return ret;
-    }
-
-    /**
-     * Scans the input and returns the current operand lexeme, throwing a
-     * ScanErrorException if an invalid character is encountered
-     * 
-     * @precondition currentChar is neither a digit nor a letter
-     * @postcondition advanced to the next lexeme
-     * @return the current operand lexeme
-     * @throws ScanErrorException e
-     */
-    private String scanOperand() throws ScanErrorException
-    {	
-        String ret = "" + currentChar;
-        if (hasNext())
-        {
-            eat(currentChar);
-
-            char prevChar = ret.charAt(0);
-            if (currentChar == '=' && (prevChar == ':' || prevChar == '>' || prevChar == '<'))
-            {
-                ret += currentChar;
-                eat(currentChar);
-            }
-            else if (currentChar == '>' && prevChar == '<')
-            {
-                ret += currentChar;
-                eat(currentChar);
-            }
-        }
-
-        if (!Pattern.matches("[-=+*/%();:<>,]+", ret))
-            throw new ScanErrorException("Error: expected an operand and found " + ret);
-
-        if (hasNext() && !isWhiteSpace(currentChar) && !isLetter(currentChar) &&
-                !isDigit(currentChar) && !isOperand(currentChar))
-            throw new ScanErrorException("Error: expected a number, letter, white space, or an " +
-                                            "operand and found " + currentChar);
-        
-        return ret;
-    }
-
-    /**
-     * Scans the input and returns the next lexeme, throwing a ScanErrorException
-     * if an invalid token is encountered
-     * 
-     * @postcondition advanced to the next lexeme, eof is set to true once the end
-     * of the input stream has been reached
-     * @return the next lexeme or "end" if the input stream is at the end of the
-     * file
-     * @throws ScanErrorException e
-     */
-    public String nextToken() throws ScanErrorException
-    {
-        while (hasNext() && isWhiteSpace(currentChar))
-            eat(currentChar);
-
-        if (!hasNext() || currentChar == '.')
-        {
-            eof = true;
-            return "end";
-        }
-
-        if (isDigit(currentChar))
-            return scanNumber();
-        else if (isLetter(currentChar))
-            return scanIdentifier();
-
-        String ret = scanOperand();
-        char prevChar = ret.charAt(0);
-        if (prevChar == '/' && currentChar == '/')
-        {
-            try
-            {
-                in.readLine();
-            }
-            catch (IOException e)
-            {
-                e.printStackTrace();
-                System.exit(-1);
-            }
-            eat(currentChar);
-            return nextToken();
-        }
-        return ret;
-    }
-
-}
+package scanner;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+/**
+ * Scanner is a simple scanner for Compilers and Interpreters (2014-2015) lab exercise 1
+ *
+ * The scanner is table driven: every input byte is classified with a single lookup into a
+ * precomputed ASCII character class table, and lexemes are recognized by an explicit DFA whose
+ * states are numbers, identifiers, operands (including the two-character operands :=, <=, >=,
+ * and <>), and // comments. It produces exactly the same token stream as RegexScanner.
+ *
+ * Input is scanned as ASCII bytes, either from a byte array that is refilled from an InputStream
+ * (as for stdin) or, for files, from the memory-mapped file itself. The array is indexed
+ * directly, and only the Path constructor's scanners read through a ByteBuffer, so the buffer
+ * access is only ever made on the one mapped buffer class even when both kinds of scanner run in
+ * the same JVM.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Scanner
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // character classes
+    private static final byte OTHER = 0;
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 2;
+    private static final byte SPACE = 3;
+    private static final byte OPERAND = 4;
+    private static final byte EOF = 5;
+
+    // DFA states
+    private static final int START = 0;
+    private static final int NUMBER = 1;
+    private static final int IDENTIFIER = 2;
+    private static final int OPERAND_START = 3;
+    private static final int COLON = 4;
+    private static final int LESS = 5;
+    private static final int GREATER = 6;
+    private static final int SLASH = 7;
+    private static final int COMMENT = 8;
+    private static final int COMMENT_CR = 9;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    // keywords are interned first, so a keyword's symbol id indexes its kind code
+    private static final int[] KEYWORDS = {
+        Token.DISPLAY, Token.READ, Token.ASSIGN, Token.WHILE, Token.DO, Token.IF, Token.THEN,
+        Token.ELSE, Token.END
+    };
+
+    static
+    {
+        for (char c = '0'; c <= '9'; c++)
+            CLASSES[c] = DIGIT;
+        for (char c = 'a'; c <= 'z'; c++)
+            CLASSES[c] = LETTER;
+        for (char c = 'A'; c <= 'Z'; c++)
+            CLASSES[c] = LETTER;
+        for (char c : " \t\r\n".toCharArray())
+            CLASSES[c] = SPACE;
+        for (char c : "-=+*/%();:<>,".toCharArray())
+            CLASSES[c] = OPERAND;
+    }
+
+    private InputStream in;
+    private ByteBuffer buf;
+    private byte[] array;
+    private int pos;
+    private int limit;
+    private int mark;
+    private int base;
+    private int line;
+    private int lineStart;
+    private boolean eof;
+    private int[] lineStarts;
+    private SymbolTable symbols;
+
+    private int tokenStart;
+    private int tokenLength;
+    private int tokenValue;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * Scanner constructor for construction of a scanner that
+     * uses an InputStream object for input.
+     *
+     * Usage:
+     * FileInputStream inStream = new FileInputStream(new File(<file name>);
+     * Scanner lex = new Scanner(inStream);
+     *
+     * @param inStream the input stream to use
+     */
+    public Scanner(InputStream inStream)
+    {
+        in = inStream;
+        array = new byte[BUFFER_SIZE];
+        mark = -1;
+        line = 1;
+        eof = false;
+        symbols = keywordSymbols();
+    }
+
+    /**
+     * Scanner constructor for constructing a scanner that
+     * scans a given input string.  The whole string is used as the scanner's buffer, so no further
+     * input is ever read.
+     *
+     * Usage: Scanner lex = new Scanner(input_string);
+     *
+     * @param inString the string to scan
+     */
+    public Scanner(String inString)
+    {
+        array = inString.getBytes(StandardCharsets.ISO_8859_1);
+        limit = array.length;
+        mark = -1;
+        line = 1;
+        eof = false;
+        symbols = keywordSymbols();
+    }
+
+    /**
+     * Scanner constructor for constructing a scanner that scans the file at the given path.  The
+     * file is memory-mapped and scanned directly from the mapped bytes, which avoids copying very
+     * large programs onto the heap.
+     *
+     * Usage: Scanner lex = new Scanner(Paths.get(<file name>));
+     *
+     * @param path the path of the file to scan
+     * @throws IOException if the file cannot be opened or mapped, or if it is larger than 2 GB
+     */
+    public Scanner(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("File too large to map: " + path);
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        limit = buf.capacity();
+        mark = -1;
+        line = 1;
+        eof = false;
+        symbols = keywordSymbols();
+    }
+
+    /**
+     * Creates a symbol table that holds every keyword, in the order of the KEYWORDS table
+     *
+     * @return the new SymbolTable
+     */
+    private static SymbolTable keywordSymbols()
+    {
+        SymbolTable ret = new SymbolTable();
+        for (int kind : KEYWORDS)
+            ret.intern(Token.text(kind));
+        return ret;
+    }
+
+    /**
+     * Refills the buffer from the input stream, keeping the lexeme that is currently being scanned
+     * (if any) at the front of the buffer
+     *
+     * @postcondition pos < limit if more input was available
+     * @return true if more input was read, false if the end of the input has been reached
+     */
+    private boolean fill()
+    {
+        if (in == null)
+            return false;
+        int keep = mark >= 0 ? mark : pos;
+        int kept = limit - keep;
+        if (kept == array.length)
+        {
+            byte[] bigger = new byte[array.length * 2];
+            System.arraycopy(array, keep, bigger, 0, kept);
+            array = bigger;
+        }
+        else
+            System.arraycopy(array, keep, array, 0, kept);
+        base += keep;
+        pos -= keep;
+        if (mark >= 0)
+            mark -= keep;
+        limit = kept;
+        try
+        {
+            int read = 0;
+            while (read == 0)
+                read = in.read(array, limit, array.length - limit);
+            if (read < 0)
+            {
+                in = null;
+                return false;
+            }
+            limit += read;
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the input byte from the array if the input is scanned from one, otherwise from the
+     * mapped buffer
+     *
+     * @param index the buffer index of the byte
+     * @return the byte
+     */
+    private byte at(int index)
+    {
+        return array != null ? array[index] : buf.get(index);
+    }
+
+    /**
+     * Returns the character class of the character at pos, reading more input if needed
+     *
+     * @return the class of the current character, or EOF at the end of the input
+     */
+    private byte currentClass()
+    {
+        if (pos == limit && !fill())
+            return EOF;
+        int c = at(pos) & 0xFF;
+        return c < 128 ? CLASSES[c] : OTHER;
+    }
+
+    /**
+     * Returns whether the next character in the input stream exists
+     *
+     * @return true if the next character exists, false otherwise
+     */
+    public boolean hasNext()
+    {
+        return !eof && (pos < limit || fill());
+    }
+
+    /**
+     * Determines whether the input character is a digit
+     *
+     * @param inChar the input character to be checked
+     * @return true if the input character is a digit, false otherwise
+     */
+    public static boolean isDigit(char inChar)
+    {
+        return inChar < 128 && CLASSES[inChar] == DIGIT;
+    }
+
+    /**
+     * Determines whether the input character is a letter
+     *
+     * @param inChar the input character to be checked
+     * @return true if the input character is a letter, false otherwise
+     */
+    public static boolean isLetter(char inChar)
+    {
+        return inChar < 128 && CLASSES[inChar] == LETTER;
+    }
+
+    /**
+     * Determines whether the input character is white space
+     *
+     * @param inChar the input character to be checked
+     * @return true if the input character is white space, false otherwise
+     */
+    public static boolean isWhiteSpace(char inChar)
+    {
+        return inChar < 128 && CLASSES[inChar] == SPACE;
+    }
+
+    /**
+     * Determines whether the input character is an operand
+     *
+     * @param inChar the input character to be checked
+     * @return true if the input character is an operand, false otherwise
+     */
+    public static boolean isOperand(char inChar)
+    {
+        return inChar < 128 && CLASSES[inChar] == OPERAND;
+    }
+
+    /**
+     * Returns the lexeme of the input length that starts at the input buffer index
+     *
+     * @param start the buffer index of the first byte of the lexeme
+     * @param length the number of bytes in the lexeme
+     * @return the lexeme
+     */
+    private String lexeme(int start, int length)
+    {
+        if (array != null)
+            return new String(array, start, length, StandardCharsets.ISO_8859_1);
+        byte[] bytes = new byte[length];
+        buf.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Records the token of the input kind that starts at mark and ends at pos
+     *
+     * @param kind the kind code of the token
+     * @param value the numeric value or identifier id of the token
+     * @postcondition the token fields describe the token and mark is cleared
+     * @return the kind code of the token
+     */
+    private int emit(int kind, int value)
+    {
+        tokenStart = base + mark;
+        tokenLength = pos - mark;
+        tokenValue = value;
+        tokenColumn = base + mark - lineStart + 1;
+        tokenLine = line;
+        mark = -1;
+        return kind;
+    }
+
+    /**
+     * Records that the newline at pos has been consumed
+     *
+     * @postcondition line and lineStart refer to the line following the newline
+     */
+    private void newLine()
+    {
+        line++;
+        lineStart = base + pos + 1;
+        if (lineStarts != null)
+        {
+            if (line > lineStarts.length)
+                lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+            lineStarts[line - 1] = lineStart;
+        }
+    }
+
+    /**
+     * Scans the input and returns the next lexeme, throwing a ScanErrorException
+     * if an invalid token is encountered
+     *
+     * @postcondition advanced to the next lexeme, eof is set to true once the end
+     * of the input stream has been reached
+     * @return the next lexeme or "end" if the input stream is at the end of the
+     * file
+     * @throws ScanErrorException e
+     */
+    public String nextToken() throws ScanErrorException
+    {
+        return next().getText();
+    }
+
+    /**
+     * Scans the input and returns the next token, throwing a ScanErrorException if an invalid
+     * token is encountered. The end of the input (or a '.') is reported as an END token, just like
+     * the end keyword.
+     *
+     * @postcondition advanced to the next token, eof is set to true once the end of the input
+     * stream has been reached
+     * @return the next token
+     * @throws ScanErrorException e
+     */
+    public Token next() throws ScanErrorException
+    {
+        int kind = scan();
+        String text;
+        if (kind == Token.NUMBER)
+            text = lexeme(tokenStart - base, tokenLength);
+        else if (kind == Token.IDENTIFIER)
+            text = symbols.name(tokenValue);
+        else
+            text = Token.text(kind);
+        return new Token(kind, text, tokenValue, tokenLine, tokenColumn);
+    }
+
+    /**
+     * Scans the whole remaining input in one pass into a packed TokenStream, throwing a
+     * ScanErrorException if an invalid token is encountered. Identifiers are interned in this
+     * scanner's SymbolTable, so only one String is allocated per distinct identifier.
+     *
+     * @postcondition the whole input has been scanned and eof is true
+     * @return the TokenStream of the remaining input, ending with an END token
+     * @throws ScanErrorException e
+     */
+    public TokenStream tokenize() throws ScanErrorException
+    {
+        TokenStream ret = new TokenStream(symbols);
+        lineStarts = new int[Math.max(64, 2 * line)];
+        lineStarts[line - 1] = lineStart;
+        while (true)
+        {
+            int kind = scan();
+            if (kind == Token.IDENTIFIER)
+                ret.add(kind, tokenStart, tokenLength, tokenValue);
+            else
+                ret.add(kind, tokenStart, tokenLength, kind == Token.NUMBER ? tokenValue : 0);
+            if (kind == Token.NUMBER &&
+                (tokenValue < 0 || (tokenLength > 1 && at(tokenStart - base) == '0')))
+                ret.setNumberText(ret.size() - 1, lexeme(tokenStart - base, tokenLength));
+            if (eof)
+                break;
+        }
+        // lines before the first scanned one are never referenced, so they can stay at offset 0
+        ret.setLineStarts(Arrays.copyOf(lineStarts, line));
+        lineStarts = null;
+        return ret;
+    }
+
+    /**
+     * Scans the input up to the end of the next token, throwing a ScanErrorException if an
+     * invalid token is encountered. The end of the input (or a '.') is reported as an END token.
+     *
+     * @postcondition advanced to the next token, the token fields describe the scanned token, and
+     * eof is set to true once the end of the input stream has been reached
+     * @return the kind code of the scanned token
+     * @throws ScanErrorException e
+     */
+    private int scan() throws ScanErrorException
+    {
+        int state = START;
+        int value = 0;
+        mark = -1;
+        while (true)
+        {
+            if (eof)
+            {
+                mark = pos;
+                return emit(Token.END, 0);
+            }
+            byte cls = currentClass();
+            switch (state)
+            {
+                case START:
+                    if (cls == SPACE)
+                    {
+                        if (at(pos) == '\n')
+                            newLine();
+                        pos++;
+                        break;
+                    }
+                    if (cls == EOF || at(pos) == '.')
+                    {
+                        eof = true;
+                        break;
+                    }
+                    mark = pos++;
+                    if (cls == DIGIT)
+                    {
+                        state = NUMBER;
+                        value = at(mark) - '0';
+                    }
+                    else if (cls == LETTER)
+                        state = IDENTIFIER;
+                    else
+                    {
+                        switch (at(mark))
+                        {
+                            case ':': state = COLON; break;
+                            case '<': state = LESS; break;
+                            case '>': state = GREATER; break;
+                            case '/': state = SLASH; break;
+                            default: state = OPERAND_START; break;
+                        }
+                    }
+                    break;
+
+                case NUMBER:
+                    if (cls == DIGIT)
+                    {
+                        int digit = at(pos++) - '0';
+                        // literals that do not fit in an int are marked with a value of -1
+                        if (value >= 0)
+                            value = value > (Integer.MAX_VALUE - digit) / 10 ? -1 :
+                                    value * 10 + digit;
+                        break;
+                    }
+                    if (cls != EOF && cls != SPACE && cls != OPERAND)
+                        throw new ScanErrorException("Error: expected a number, white space, or " +
+                                                        "an operand and found " +
+                                                        (char) at(pos));
+                    return emit(Token.NUMBER, value);
+
+                case IDENTIFIER:
+                    if (cls == DIGIT || cls == LETTER)
+                    {
+                        pos++;
+                        break;
+                    }
+                    if (cls != EOF && cls != SPACE && cls != OPERAND)
+                        throw new ScanErrorException("Error: expected a number, letter, white " +
+                                                        "space, or an operand and found " +
+                                                        (char) at(pos));
+                    int id = array != null ? symbols.intern(array, mark, pos - mark) :
+                                             symbols.intern(buf, mark, pos - mark);
+                    if (id < KEYWORDS.length)
+                        return emit(KEYWORDS[id], 0);
+                    return emit(Token.IDENTIFIER, id);
+
+                case COLON:
+                    if (cls != EOF && at(pos) == '=')
+                    {
+                        pos++;
+                        return operand(Token.BECOMES);
+                    }
+                    return operand(Token.COLON);
+
+                case GREATER:
+                    if (cls != EOF && at(pos) == '=')
+                    {
+                        pos++;
+                        return operand(Token.GE);
+                    }
+                    return operand(Token.GT);
+
+                case LESS:
+                    if (cls != EOF && at(pos) == '=')
+                    {
+                        pos++;
+                        return operand(Token.LE);
+                    }
+                    if (cls != EOF && at(pos) == '>')
+                    {
+                        pos++;
+                        return operand(Token.NE);
+                    }
+                    return operand(Token.LT);
+                case SLASH:
+                    // a lone '/' at the end of the input is swallowed like a comment, just as
+                    // RegexScanner does
+                    if (cls == EOF || at(pos) == '/')
+                    {
+                        mark = -1;
+                        state = COMMENT;
+                        if (cls != EOF)
+                            pos++;
+                        break;
+                    }
+                    return operand(Token.DIVIDE);
+
+                case COMMENT:
+                    if (cls == EOF)
+                        state = START;
+                    else if (at(pos) == '\n')
+                    {
+                        newLine();
+                        pos++;
+                        state = START;
+                    }
+                    else if (at(pos++) == '\r')
+                        state = COMMENT_CR;
+                    break;
+
+                case COMMENT_CR:
+                    if (cls != EOF && at(pos) == '\n')
+                    {
+                        newLine();
+                        pos++;
+                    }
+                    state = START;
+                    break;
+
+                default:
+                    return operand(singleOperandKind(at(mark)));
+            }
+        }
+    }
+
+    /**
+     * Gets the kind code of the input single-character operand
+     *
+     * @param c the input operand character
+     * @return the kind code of the operand, or -1 if the character is not an operand
+     */
+    private static int singleOperandKind(byte c)
+    {
+        switch (c)
+        {
+            case '+': return Token.PLUS;
+            case '-': return Token.MINUS;
+            case '*': return Token.TIMES;
+            case '%': return Token.MOD;
+            case '(': return Token.LPAREN;
+            case ')': return Token.RPAREN;
+            case ';': return Token.SEMICOLON;
+            case ',': return Token.COMMA;
+            case '=': return Token.EQ;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Finishes scanning the current operand token, throwing a ScanErrorException if the operand
+     * is invalid or if it is followed by an invalid character
+     *
+     * @precondition the operand lexeme runs from mark up to (but not including) pos
+     * @param kind the kind code of the operand, or -1 if the lexeme is not an operand
+     * @return the kind code of the operand
+     * @throws ScanErrorException e
+     */
+    private int operand(int kind) throws ScanErrorException
+    {
+        if (kind < 0)
+            throw new ScanErrorException("Error: expected an operand and found " +
+                                            lexeme(mark, pos - mark));
+        emit(kind, 0);
+        if (currentClass() == OTHER)
+            throw new ScanErrorException("Error: expected a number, letter, white space, or an " +
+                                            "operand and found " + (char) at(pos));
+        return kind;
+    }
+
+}
@@ -0,0 +1,113 @@
+package scanner;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * ScannerBenchmark measures the throughput of the table-driven Scanner against the original
+ * RegexScanner, after first checking that both scanners produce the same token stream
+ *
+ * Usage: java scanner.ScannerBenchmark [source file] [iterations]
+ * Without a source file, a synthetic program of roughly 4 MB is generated. With a source file, the
+ * Scanner is additionally measured on the memory-mapped file.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ScannerBenchmark
+{
+    private static final String SAMPLE =
+        "// generated statement block\n" +
+        "assign counter = 0\n" +
+        "assign total = 12345 * (counter + 67) / 8 - -9\n" +
+        "while counter <= 1000 do\n" +
+        "    assign total := total + counter * 31\n" +
+        "    if total <> 0 then display total else display counter end\n" +
+        "    assign counter = counter + 1 // step\n" +
+        "end\n" +
+        "display total >= 42 read answer\n";
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args the command-line input args: an optional source file and iteration count
+     * @throws IOException if the source file cannot be read
+     * @throws ScanErrorException if the source contains an invalid token
+     */
+    public static void main(String[] args) throws IOException, ScanErrorException
+    {
+        String source;
+        if (args.length > 0)
+            source = new String(Files.readAllBytes(Paths.get(args[0])),
+                                StandardCharsets.ISO_8859_1);
+        else
+        {
+            StringBuilder sb = new StringBuilder();
+            while (sb.length() < (4 << 20))
+                sb.append(SAMPLE);
+            source = sb.append(".").toString();
+        }
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        List<String> expected = scanAll(new RegexScanner(source));
+        List<String> actual = scanAll(new Scanner(source));
+        if (!expected.equals(actual))
+            throw new IllegalStateException("Scanner and RegexScanner token streams differ");
+        System.out.println(expected.size() + " tokens, " + source.length() + " bytes");
+
+        double megabytes = source.length() / (1024.0 * 1024.0);
+        for (int i = 0; i < iterations; i++)
+        {
+            long start = System.nanoTime();
+            scanAll(new RegexScanner(source));
+            long regexTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            scanAll(new Scanner(source));
+            long tableTime = System.nanoTime() - start;
+
+            System.out.printf("iteration %d: RegexScanner %.2f MB/s, Scanner %.2f MB/s", i,
+                              megabytes / (regexTime / 1e9), megabytes / (tableTime / 1e9));
+            if (args.length > 0)
+            {
+                start = System.nanoTime();
+                scanAll(new Scanner(Paths.get(args[0])));
+                long mappedTime = System.nanoTime() - start;
+                System.out.printf(", mapped Scanner %.2f MB/s", megabytes / (mappedTime / 1e9));
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Scans every token produced by the input RegexScanner
+     *
+     * @param lex the scanner to drain
+     * @return the list of scanned tokens
+     * @throws ScanErrorException if an invalid token is encountered
+     */
+    private static List<String> scanAll(RegexScanner lex) throws ScanErrorException
+    {
+        List<String> tokens = new ArrayList<String>();
+        while (lex.hasNext())
+            tokens.add(lex.nextToken());
+        return tokens;
+    }
+
+    /**
+     * Scans every token produced by the input Scanner
+     *
+     * @param lex the scanner to drain
+     * @return the list of scanned tokens
+     * @throws ScanErrorException if an invalid token is encountered
+     */
+    private static List<String> scanAll(Scanner lex) throws ScanErrorException
+    {
+        List<String> tokens = new ArrayList<String>();
+        while (lex.hasNext())
+            tokens.add(lex.nextToken());
+        return tokens;
+    }
+}
@@ -0,0 +1,206 @@
+package scanner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * SymbolTable interns identifiers. Each distinct identifier is assigned a dense int id and its
+ * String is created exactly once, the first time the identifier is seen; later occurrences are
+ * looked up directly from the bytes of the source buffer without allocating.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class SymbolTable
+{
+    private byte[][] bytes;
+    private String[] names;
+    private int[] hashes;
+    private int[] table;
+    private int size;
+
+    /**
+     * SymbolTable constructor for the construction of an empty symbol table
+     */
+    public SymbolTable()
+    {
+        this.bytes = new byte[16][];
+        this.names = new String[16];
+        this.hashes = new int[16];
+        this.table = new int[32];
+        this.size = 0;
+    }
+
+    /**
+     * Interns the input identifier
+     *
+     * @param name the input identifier
+     * @return the id of the identifier
+     */
+    public int intern(String name)
+    {
+        byte[] nameBytes = name.getBytes(StandardCharsets.ISO_8859_1);
+        return intern(nameBytes, 0, nameBytes.length);
+    }
+
+    /**
+     * Interns the identifier whose bytes are at the input range of the input array
+     *
+     * @param src the array that holds the identifier
+     * @param start the index of the first byte of the identifier
+     * @param length the number of bytes in the identifier
+     * @return the id of the identifier
+     */
+    public int intern(byte[] src, int start, int length)
+    {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+            hash = 31 * hash + (src[start + i] & 0xFF);
+
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        while (table[slot] != 0)
+        {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash &&
+                Arrays.equals(bytes[id], 0, bytes[id].length, src, start, start + length))
+                return id;
+            slot = (slot + 1) & mask;
+        }
+        return add(Arrays.copyOfRange(src, start, start + length), hash, slot);
+    }
+
+    /**
+     * Interns the identifier whose bytes are at the input range of the input buffer
+     *
+     * @param src the buffer that holds the identifier
+     * @param start the index of the first byte of the identifier
+     * @param length the number of bytes in the identifier
+     * @return the id of the identifier
+     */
+    public int intern(ByteBuffer src, int start, int length)
+    {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+            hash = 31 * hash + (src.get(start + i) & 0xFF);
+
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        while (table[slot] != 0)
+        {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash && matches(bytes[id], src, start, length))
+                return id;
+            slot = (slot + 1) & mask;
+        }
+        byte[] copy = new byte[length];
+        src.get(start, copy);
+        return add(copy, hash, slot);
+    }
+
+    /**
+     * Adds a new identifier
+     *
+     * @param copy the bytes of the identifier, which the table keeps
+     * @param hash the hash of the bytes
+     * @param slot the free slot of the hash table that the probe for the identifier ended at
+     * @return the id of the identifier
+     */
+    private int add(byte[] copy, int hash, int slot)
+    {
+        if (size == names.length)
+            grow();
+        bytes[size] = copy;
+        names[size] = new String(copy, StandardCharsets.ISO_8859_1);
+        hashes[size] = hash;
+        if (2 * (size + 1) > table.length)
+            rehash();
+        else
+            table[slot] = size + 1;
+        return size++;
+    }
+
+    /**
+     * Determines whether the input identifier bytes match the input range of the input buffer
+     *
+     * @param name the bytes of an interned identifier
+     * @param src the buffer to compare against
+     * @param start the index of the first byte to compare
+     * @param length the number of bytes to compare
+     * @return true if the bytes match, false otherwise
+     */
+    private static boolean matches(byte[] name, ByteBuffer src, int start, int length)
+    {
+        if (name.length != length)
+            return false;
+        for (int i = 0; i < length; i++)
+            if (name[i] != src.get(start + i))
+                return false;
+        return true;
+    }
+
+    /**
+     * Spreads the bits of the input hash so that similar identifiers probe different slots
+     *
+     * @param hash the input hash
+     * @return the mixed hash
+     */
+    private static int mix(int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Doubles the capacity of the per-identifier arrays
+     *
+     * @postcondition the arrays can hold at least one more identifier
+     */
+    private void grow()
+    {
+        int capacity = names.length * 2;
+        bytes = Arrays.copyOf(bytes, capacity);
+        names = Arrays.copyOf(names, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+    }
+
+    /**
+     * Doubles the size of the hash table and reinserts every identifier, including the one that is
+     * currently being added at index size
+     *
+     * @postcondition the table is at most half full
+     */
+    private void rehash()
+    {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int id = 0; id <= size; id++)
+        {
+            int slot = mix(hashes[id]) & mask;
+            while (table[slot] != 0)
+                slot = (slot + 1) & mask;
+            table[slot] = id + 1;
+        }
+    }
+
+    /**
+     * Gets the identifier with the input id
+     *
+     * @param id the id of the identifier
+     * @return the interned String of the identifier
+     */
+    public String name(int id)
+    {
+        return names[id];
+    }
+
+    /**
+     * Gets the number of distinct identifiers in the symbol table
+     *
+     * @return the number of interned identifiers
+     */
+    public int size()
+    {
+        return size;
+    }
+}
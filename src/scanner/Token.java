@@ -0,0 +1,152 @@
+package scanner;
+
+/**
+ * Token represents a single lexeme produced by the Scanner. Each token carries an int kind code
+ * that the Parser can switch on, the lexeme text (keywords and operands always use the same
+ * interned String), the pre-parsed value of numeric tokens, and the line and column at which the
+ * token starts in the source.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Token
+{
+    public static final int NUMBER = 0;
+    public static final int IDENTIFIER = 1;
+
+    // keywords
+    public static final int DISPLAY = 2;
+    public static final int READ = 3;
+    public static final int ASSIGN = 4;
+    public static final int WHILE = 5;
+    public static final int DO = 6;
+    public static final int IF = 7;
+    public static final int THEN = 8;
+    public static final int ELSE = 9;
+    public static final int END = 10;
+
+    // operands
+    public static final int PLUS = 11;
+    public static final int MINUS = 12;
+    public static final int TIMES = 13;
+    public static final int DIVIDE = 14;
+    public static final int MOD = 15;
+    public static final int LPAREN = 16;
+    public static final int RPAREN = 17;
+    public static final int SEMICOLON = 18;
+    public static final int COLON = 19;
+    public static final int COMMA = 20;
+    public static final int BECOMES = 21;
+    public static final int EQ = 22;
+    public static final int NE = 23;
+    public static final int LT = 24;
+    public static final int GT = 25;
+    public static final int LE = 26;
+    public static final int GE = 27;
+
+    private static final String[] TEXTS = {
+        "number", "identifier", "display", "read", "assign", "while", "do", "if", "then", "else",
+        "end", "+", "-", "*", "/", "%", "(", ")", ";", ":", ",", ":=", "=", "<>", "<", ">", "<=",
+        ">="
+    };
+
+    private final int kind;
+    private final String text;
+    private final int value;
+    private final int line;
+    private final int column;
+
+    /**
+     * Token constructor for the construction of a token with the input kind, text, numeric value,
+     * and source position
+     *
+     * @param kind the kind code of the token
+     * @param text the lexeme text of the token
+     * @param value the numeric value of a NUMBER token or the symbol id of an IDENTIFIER token
+     * @param line the line on which the token starts, counting from 1
+     * @param column the column at which the token starts, counting from 1
+     */
+    public Token(int kind, String text, int value, int line, int column)
+    {
+        this.kind = kind;
+        this.text = text;
+        this.value = value;
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Gets the canonical text of the input kind code, which is the interned lexeme for keywords
+     * and operands and a description for numbers and identifiers
+     *
+     * @param kind the input kind code
+     * @return the canonical text of the kind code
+     */
+    public static String text(int kind)
+    {
+        return TEXTS[kind];
+    }
+
+    /**
+     * Gets the Token object's kind code
+     *
+     * @return the kind code of the token
+     */
+    public int getKind()
+    {
+        return this.kind;
+    }
+
+    /**
+     * Gets the Token object's lexeme text
+     *
+     * @return the lexeme text of the token, which is interned for keywords and operands
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Gets the Token object's numeric value
+     *
+     * @return the value of the number if the token is a NUMBER token (or -1 if the number does
+     * not fit in an int), the id of the identifier in the scanner's SymbolTable if the token is an
+     * IDENTIFIER token, and 0 otherwise
+     */
+    public int getValue()
+    {
+        return this.value;
+    }
+
+    /**
+     * Gets the line on which the Token object starts
+     *
+     * @return the line of the token, counting from 1
+     */
+    public int getLine()
+    {
+        return this.line;
+    }
+
+    /**
+     * Gets the column at which the Token object starts
+     *
+     * @return the column of the token, counting from 1
+     */
+    public int getColumn()
+    {
+        return this.column;
+    }
+
+    /**
+     * Gets the lexeme text of the token
+     *
+     * @return the lexeme text of the token
+     */
+    @Override
+    public String toString()
+    {
+        return this.text;
+    }
+}
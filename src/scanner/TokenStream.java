@@ -0,0 +1,200 @@
+package scanner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * TokenStream is a packed, pre-tokenized representation of a whole source file. Tokens are stored
+ * as parallel primitive arrays (kind code, start offset, length, and int value) and are addressed
+ * by index. The value of a NUMBER token is its numeric value (or -1 if it does not fit in an int)
+ * and the value of an IDENTIFIER token is its id in the stream's SymbolTable, so no per-token
+ * objects are ever created. The few numbers whose text is not the decimal form of their value,
+ * those that do not fit and those with leading zeros, keep their text in a side table, since the
+ * source may be gone by the time it is asked for. The stream always ends with an END token.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class TokenStream
+{
+    private int[] kinds;
+    private int[] starts;
+    private int[] lengths;
+    private int[] values;
+    private int size;
+    private int[] lineStarts;
+    private SymbolTable symbols;
+    private HashMap<Integer, String> numberTexts;
+
+    /**
+     * TokenStream constructor for the construction of an empty token stream whose identifiers are
+     * interned in the input symbol table
+     *
+     * @param symbols the symbol table that holds the stream's identifiers
+     */
+    TokenStream(SymbolTable symbols)
+    {
+        this.kinds = new int[256];
+        this.starts = new int[256];
+        this.lengths = new int[256];
+        this.values = new int[256];
+        this.size = 0;
+        this.symbols = symbols;
+        this.numberTexts = new HashMap<Integer, String>();
+    }
+
+    /**
+     * Appends a token to the end of the stream
+     *
+     * @param kind the kind code of the token
+     * @param start the offset of the first byte of the token in the source
+     * @param length the number of bytes in the token
+     * @param value the numeric value or identifier id of the token
+     */
+    void add(int kind, int start, int length, int value)
+    {
+        if (size == kinds.length)
+        {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        kinds[size] = kind;
+        starts[size] = start;
+        lengths[size] = length;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * Sets the text of the NUMBER token at the input index, whose text is not the decimal form of
+     * its value
+     *
+     * @param index the index of the token
+     * @param text the text of the token in the source
+     */
+    void setNumberText(int index, String text)
+    {
+        numberTexts.put(index, text);
+    }
+
+    /**
+     * Sets the offsets at which each line of the source starts
+     *
+     * @param lineStarts the offsets of the first byte of every line, in increasing order
+     */
+    void setLineStarts(int[] lineStarts)
+    {
+        this.lineStarts = lineStarts;
+    }
+
+    /**
+     * Gets the number of tokens in the stream
+     *
+     * @return the number of tokens, including the final END token
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Gets the kind code of the token at the input index
+     *
+     * @param index the index of the token
+     * @return the kind code of the token
+     */
+    public int getKind(int index)
+    {
+        return kinds[index];
+    }
+
+    /**
+     * Gets the source offset of the token at the input index
+     *
+     * @param index the index of the token
+     * @return the offset of the first byte of the token in the source
+     */
+    public int getStart(int index)
+    {
+        return starts[index];
+    }
+
+    /**
+     * Gets the length of the token at the input index
+     *
+     * @param index the index of the token
+     * @return the number of bytes in the token
+     */
+    public int getLength(int index)
+    {
+        return lengths[index];
+    }
+
+    /**
+     * Gets the value of the token at the input index
+     *
+     * @param index the index of the token
+     * @return the numeric value of a NUMBER token, the identifier id of an IDENTIFIER token, and 0
+     * for every other token
+     */
+    public int getValue(int index)
+    {
+        return values[index];
+    }
+
+    /**
+     * Gets the text of the token at the input index. Identifiers, keywords, and operands return
+     * their interned Strings; numbers return their text in the source, which is formatted from
+     * their value unless it was kept when they were added.
+     *
+     * @param index the index of the token
+     * @return the text of the token
+     */
+    public String getText(int index)
+    {
+        switch (kinds[index])
+        {
+            case Token.IDENTIFIER: return symbols.name(values[index]);
+            case Token.NUMBER:
+                String text = numberTexts.get(index);
+                return text != null ? text : Integer.toString(values[index]);
+            default: return Token.text(kinds[index]);
+        }
+    }
+
+    /**
+     * Gets the symbol table in which the stream's identifiers are interned
+     *
+     * @return the stream's SymbolTable
+     */
+    public SymbolTable getSymbols()
+    {
+        return symbols;
+    }
+
+    /**
+     * Gets the line on which the token at the input index starts
+     *
+     * @param index the index of the token
+     * @return the line of the token, counting from 1
+     */
+    public int getLine(int index)
+    {
+        int line = Arrays.binarySearch(lineStarts, starts[index]);
+        return line >= 0 ? line + 1 : -line - 1;
+    }
+
+    /**
+     * Gets the column at which the token at the input index starts
+     *
+     * @param index the index of the token
+     * @return the column of the token, counting from 1
+     */
+    public int getColumn(int index)
+    {
+        return starts[index] - lineStarts[getLine(index) - 1] + 1;
+    }
+}
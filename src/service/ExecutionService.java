@@ -0,0 +1,220 @@
+package service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.*;
+
+import ast.Program;
+import cache.ProgramCache;
+import environment.Environment;
+import evaluator.Evaluator;
+import io.ArraySource;
+import io.ChannelSink;
+import io.InputSource;
+
+/**
+ * ExecutionService runs many programs at once, each job on a virtual thread of its own with its
+ * own Environment, input source, and captured output. Sources are compiled through a shared
+ * ProgramCache, so a script submitted over and over is parsed once and its Program is shared by
+ * every job that runs it. At most a fixed number of jobs execute at any moment; the rest wait
+ * for a permit on their virtual threads, which costs no platform thread.
+ *
+ * Every job completes its future with a Result, even when the program does not parse or throws
+ * while it runs, so that the output displayed before the error is kept. Errors such as a
+ * StackOverflowError end the job the same way as exceptions do.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ExecutionService implements AutoCloseable
+{
+    /**
+     * The default number of programs kept by the service's own cache
+     */
+    public static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private static final int OUTPUT_CAPACITY = 512;
+
+    private ProgramCache cache;
+    private Semaphore permits;
+    private ExecutorService executor;
+
+    /**
+     * ExecutionService constructor for the construction of a service with a cache of its own
+     *
+     * @param concurrency the largest number of jobs to execute at once
+     */
+    public ExecutionService(int concurrency)
+    {
+        this(concurrency, new ProgramCache(DEFAULT_CACHE_CAPACITY, ProgramCache.Policy.LRU));
+    }
+
+    /**
+     * ExecutionService constructor for the construction of a service that compiles sources
+     * through the input cache
+     *
+     * @param concurrency the largest number of jobs to execute at once
+     * @param cache the cache to compile sources through
+     * @throws IllegalArgumentException when the concurrency is not positive
+     */
+    public ExecutionService(int concurrency, ProgramCache cache)
+    {
+        if (concurrency <= 0)
+            throw new IllegalArgumentException("Illegal concurrency: " + concurrency);
+        this.cache = cache;
+        this.permits = new Semaphore(concurrency);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Submits a job that runs the input source, reading the input values in order
+     *
+     * @param source the source of the program
+     * @param inputs the values of the program's read statements
+     * @return the future result of the job
+     */
+    public CompletableFuture<Result> submit(String source, int... inputs)
+    {
+        return submit(source, new ArraySource(inputs));
+    }
+
+    /**
+     * Submits a job that runs the input source, reading from the input source of values
+     *
+     * @param source the source of the program
+     * @param in the source of the values of the program's read statements
+     * @return the future result of the job
+     */
+    public CompletableFuture<Result> submit(String source, InputSource in)
+    {
+        long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> run(null, source, in, submitted), executor);
+    }
+
+    /**
+     * Submits a job that runs the input program, reading from the input source of values
+     *
+     * @param program the program, which has been resolved and is not modified by anyone
+     * @param in the source of the values of the program's read statements
+     * @return the future result of the job
+     */
+    public CompletableFuture<Result> submit(Program program, InputSource in)
+    {
+        long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> run(program, null, in, submitted), executor);
+    }
+
+    /**
+     * Waits for every submitted job to finish and stops accepting new ones
+     */
+    @Override
+    public void close()
+    {
+        executor.close();
+    }
+
+    /**
+     * Runs a job on the current virtual thread once a permit is free
+     *
+     * @param program the program to run, or null to compile the source
+     * @param source the source to compile if there is no program
+     * @param in the source of the values of read statements
+     * @param submitted the System.nanoTime() at which the job was submitted
+     * @return the result of the job
+     */
+    private Result run(Program program, String source, InputSource in, long submitted)
+    {
+        permits.acquireUninterruptibly();
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Environment env = new Environment();
+            Throwable error = null;
+            try
+            {
+                if (program == null)
+                    program = cache.get(source);
+                new Evaluator(new ChannelSink(Channels.newChannel(bytes), OUTPUT_CAPACITY), in)
+                    .exec(program, env);
+            }
+            catch (RuntimeException | Error e)
+            {
+                error = e;
+            }
+            return new Result(bytes.toString(), env, error, System.nanoTime() - submitted);
+        }
+        finally
+        {
+            permits.release();
+        }
+    }
+
+    /**
+     * Result is the outcome of a job
+     */
+    public static class Result
+    {
+        private String output;
+        private Environment env;
+        private Throwable error;
+        private long latency;
+
+        /**
+         * Result constructor for the construction of the outcome of a finished job
+         *
+         * @param output everything the program displayed
+         * @param env the environment the program ran in
+         * @param error the exception or error that stopped the program, or null if it finished
+         * @param latency the nanoseconds from the submission of the job to its end
+         */
+        private Result(String output, Environment env, Throwable error, long latency)
+        {
+            this.output = output;
+            this.env = env;
+            this.error = error;
+            this.latency = latency;
+        }
+
+        /**
+         * Gets the output of the program
+         *
+         * @return everything the program displayed, one value per line
+         */
+        public String getOutput()
+        {
+            return output;
+        }
+
+        /**
+         * Gets the environment of the program
+         *
+         * @return the environment holding the final values of the program's variables
+         */
+        public Environment getEnvironment()
+        {
+            return env;
+        }
+
+        /**
+         * Gets the error that stopped the program
+         *
+         * @return the exception or error thrown while compiling or running the program, or null
+         * if it finished
+         */
+        public Throwable getError()
+        {
+            return error;
+        }
+
+        /**
+         * Gets the latency of the job
+         *
+         * @return the nanoseconds from the submission of the job to its end, including the time
+         * it waited for a permit
+         */
+        public long getLatency()
+        {
+            return latency;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ServiceBenchmark measures the throughput and latency of an ExecutionService on many short
+ * scripts, after first checking that every job of the first round displays what it should
+ *
+ * Usage: java service.ServiceBenchmark [jobs] [concurrency] [scripts] [rounds]
+ * Each script reads a bound and sums the numbers below it in a loop; the jobs cycle through the
+ * scripts, so most of them find their program in the service's cache.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ServiceBenchmark
+{
+    /**
+     * Runs the benchmark
+     *
+     * @param args the command-line input args: the number of jobs per round, the concurrency
+     * limit, the number of distinct scripts, and the number of rounds
+     */
+    public static void main(String[] args)
+    {
+        int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) :
+                          Runtime.getRuntime().availableProcessors() * 4;
+        int scripts = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        String[] sources = new String[scripts];
+        for (int i = 0; i < scripts; i++)
+            sources[i] = "display " + i + " read n\n" +
+                         "assign sum = 0\n" +
+                         "assign i = 0\n" +
+                         "while i < n do\n" +
+                         "    assign sum = sum + i * " + (i + 1) + "\n" +
+                         "    assign i = i + 1\n" +
+                         "end\n" +
+                         "display sum\n" +
+                         ".";
+
+        try (ExecutionService service = new ExecutionService(concurrency))
+        {
+            for (int round = 0; round < rounds; round++)
+            {
+                List<CompletableFuture<ExecutionService.Result>> futures =
+                    new ArrayList<CompletableFuture<ExecutionService.Result>>(jobs);
+                long start = System.nanoTime();
+                for (int i = 0; i < jobs; i++)
+                    futures.add(service.submit(sources[i % scripts], i % 100));
+                long[] latencies = new long[jobs];
+                for (int i = 0; i < jobs; i++)
+                {
+                    ExecutionService.Result result = futures.get(i).join();
+                    latencies[i] = result.getLatency();
+                    if (round == 0 && !result.getOutput().equals(expected(i, scripts)))
+                        throw new IllegalStateException("Job " + i + " displayed " +
+                                                        result.getOutput());
+                }
+                long elapsed = System.nanoTime() - start;
+
+                Arrays.sort(latencies);
+                System.out.printf("round %d: %.0f jobs/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                                  round, jobs / (elapsed / 1e9), latencies[jobs / 2] / 1e6,
+                                  latencies[(int) (jobs * 0.99)] / 1e6,
+                                  latencies[jobs - 1] / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Computes what the input job displays
+     *
+     * @param job the index of the job
+     * @param scripts the number of distinct scripts
+     * @return the expected output of the job
+     */
+    private static String expected(int job, int scripts)
+    {
+        int script = job % scripts;
+        int n = job % 100;
+        int sum = 0;
+        for (int i = 0; i < n; i++)
+            sum += i * (script + 1);
+        String separator = System.lineSeparator();
+        return script + separator + sum + separator;
+    }
+}
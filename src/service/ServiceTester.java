@@ -0,0 +1,67 @@
+package service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ServiceTester tests that an ExecutionService completes a job whose source does not scan with a
+ * Result holding the error, while the jobs running alongside it finish normally
+ *
+ * Usage: java service.ServiceTester
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class ServiceTester
+{
+    private static final String SCAN_ERROR = "display 1 # 2 .";
+    private static final String VALID = "display 0 read n display n * 2 .";
+
+    /**
+     * Tests the ExecutionService
+     *
+     * @param args the command-line input args
+     */
+    public static void main(String[] args)
+    {
+        testScanError();
+        System.out.println("ExecutionService: ok");
+    }
+
+    /**
+     * Tests that a job whose source does not scan comes back with an IllegalArgumentException as
+     * its error, and that the jobs submitted around it display what they should
+     *
+     * @throws IllegalStateException when the service does not behave as expected
+     */
+    private static void testScanError()
+    {
+        try (ExecutionService service = new ExecutionService(4))
+        {
+            List<CompletableFuture<ExecutionService.Result>> futures =
+                new ArrayList<CompletableFuture<ExecutionService.Result>>();
+            for (int i = 0; i < 8; i++)
+                futures.add(service.submit(VALID, i));
+            CompletableFuture<ExecutionService.Result> failed = service.submit(SCAN_ERROR);
+            for (int i = 8; i < 16; i++)
+                futures.add(service.submit(VALID, i));
+
+            ExecutionService.Result result = failed.join();
+            if (!(result.getError() instanceof IllegalArgumentException))
+                throw new IllegalStateException("Job of " + SCAN_ERROR + " ended with " +
+                                                result.getError());
+            if (!result.getOutput().isEmpty())
+                throw new IllegalStateException("Job of " + SCAN_ERROR + " displayed " +
+                                                result.getOutput());
+            for (int i = 0; i < futures.size(); i++)
+            {
+                result = futures.get(i).join();
+                String expected = 0 + System.lineSeparator() + i * 2 + System.lineSeparator();
+                if (result.getError() != null || !result.getOutput().equals(expected))
+                    throw new IllegalStateException("Job " + i + " displayed " +
+                                                    result.getOutput() + " and ended with " +
+                                                    result.getError());
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package vm;
+
+import java.io.*;
+
+/**
+ * Bytecode is a compiled program for the VirtualMachine: a dense int[] instruction stream in
+ * which every instruction is an opcode followed by its operands, together with the names of the
+ * variables in each frame slot and the maximum operand stack depth. Bytecode can be written to and
+ * read back from a stream, so programs can be shipped precompiled.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class Bytecode
+{
+    // operand: constant
+    public static final int PUSH = 0;
+    // operand: slot
+    public static final int LOAD = 1;
+    public static final int STORE = 2;
+
+    public static final int ADD = 3;
+    public static final int SUB = 4;
+    public static final int MUL = 5;
+    public static final int DIV = 6;
+    public static final int EQ = 7;
+    public static final int NE = 8;
+    public static final int LT = 9;
+    public static final int GT = 10;
+    public static final int LE = 11;
+    public static final int GE = 12;
+
+    // operand: target instruction index
+    public static final int JUMP = 13;
+    public static final int JUMP_IF_FALSE = 14;
+    public static final int JUMP_UNLESS_EQ = 15;
+    public static final int JUMP_UNLESS_NE = 16;
+    public static final int JUMP_UNLESS_LT = 17;
+    public static final int JUMP_UNLESS_GT = 18;
+    public static final int JUMP_UNLESS_LE = 19;
+    public static final int JUMP_UNLESS_GE = 20;
+
+    public static final int DISPLAY = 21;
+    // operand: slot
+    public static final int READ = 22;
+    public static final int HALT = 23;
+    // operand: distance
+    public static final int SHL = 24;
+    public static final int SHR = 25;
+    public static final int USHR = 26;
+    // operand: multiplier
+    public static final int MULHI = 27;
+
+    private static final int MAGIC = 0x50534243;
+    private static final int VERSION = 2;
+
+    private final int[] code;
+    private final String[] slotNames;
+    private final int maxStack;
+
+    /**
+     * Bytecode constructor for the construction of a compiled program
+     *
+     * @param code the instruction stream, which ends with HALT
+     * @param slotNames the array of variable names indexed by slot
+     * @param maxStack the maximum operand stack depth of the code
+     */
+    public Bytecode(int[] code, String[] slotNames, int maxStack)
+    {
+        this.code = code;
+        this.slotNames = slotNames;
+        this.maxStack = maxStack;
+    }
+
+    /**
+     * Gets the instruction stream
+     *
+     * @return the code, which must not be modified
+     */
+    public int[] getCode()
+    {
+        return this.code;
+    }
+
+    /**
+     * Gets the names of the variables in each frame slot
+     *
+     * @return the array of variable names indexed by slot
+     */
+    public String[] getSlotNames()
+    {
+        return this.slotNames;
+    }
+
+    /**
+     * Gets the maximum operand stack depth of the code
+     *
+     * @return the maximum stack depth
+     */
+    public int getMaxStack()
+    {
+        return this.maxStack;
+    }
+
+    /**
+     * Writes the compiled program to the output stream
+     *
+     * @param outStream the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream outStream) throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outStream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(maxStack);
+        out.writeInt(slotNames.length);
+        for (String name : slotNames)
+            out.writeUTF(name);
+        out.writeInt(code.length);
+        for (int word : code)
+            out.writeInt(word);
+        out.flush();
+    }
+
+    /**
+     * Reads a compiled program that was written with write
+     *
+     * @param inStream the stream to read from
+     * @return the compiled program
+     * @throws IOException if the stream cannot be read or does not hold compiled bytecode of the
+     * current version
+     */
+    public static Bytecode read(InputStream inStream) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inStream));
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a compiled program");
+        int version = in.readInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported bytecode version " + version);
+        int maxStack = in.readInt();
+        String[] slotNames = new String[in.readInt()];
+        for (int i = 0; i < slotNames.length; i++)
+            slotNames[i] = in.readUTF();
+        int[] code = new int[in.readInt()];
+        for (int i = 0; i < code.length; i++)
+            code[i] = in.readInt();
+        return new Bytecode(code, slotNames, maxStack);
+    }
+}
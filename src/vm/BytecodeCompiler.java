@@ -0,0 +1,279 @@
+package vm;
+
+import java.util.*;
+
+import ast.*;
+import ast.Number;
+import resolver.Resolver;
+
+/**
+ * BytecodeCompiler translates Programs into Bytecode for the VirtualMachine. Every variable is
+ * addressed by its resolved slot, and the conditions of While and If statements that are
+ * comparisons compile to a single compare-and-branch instruction.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class BytecodeCompiler
+{
+    private int[] code;
+    private int length;
+    private int depth;
+    private int maxStack;
+
+    /**
+     * Compiles the input program, resolving its variables first if it has not been resolved yet
+     *
+     * @param program the input program
+     * @return the compiled program
+     */
+    public Bytecode compile(Program program)
+    {
+        if (program.getSlotNames() == null)
+            new Resolver().resolve(program);
+        code = new int[64];
+        length = 0;
+        depth = 0;
+        maxStack = 0;
+        compile(program.getStmts());
+        emit(Bytecode.HALT, 0);
+        Bytecode ret = new Bytecode(Arrays.copyOf(code, length), program.getSlotNames(),
+                                    maxStack);
+        code = null;
+        return ret;
+    }
+
+    /**
+     * Appends a word to the code
+     *
+     * @param word the opcode or operand to append
+     */
+    private void write(int word)
+    {
+        if (length == code.length)
+            code = Arrays.copyOf(code, 2 * length);
+        code[length++] = word;
+    }
+
+    /**
+     * Emits an instruction without operands
+     *
+     * @param opcode the opcode of the instruction
+     * @param delta the change in stack depth caused by the instruction
+     */
+    private void emit(int opcode, int delta)
+    {
+        write(opcode);
+        depth += delta;
+        maxStack = Math.max(maxStack, depth);
+    }
+
+    /**
+     * Emits an instruction with one operand
+     *
+     * @param opcode the opcode of the instruction
+     * @param operand the operand of the instruction
+     * @param delta the change in stack depth caused by the instruction
+     */
+    private void emit(int opcode, int operand, int delta)
+    {
+        emit(opcode, delta);
+        write(operand);
+    }
+
+    /**
+     * Emits a branch whose target is not known yet
+     *
+     * @param opcode the opcode of the branch
+     * @param delta the change in stack depth caused by the branch
+     * @return the index of the operand to patch once the target is known
+     */
+    private int branch(int opcode, int delta)
+    {
+        emit(opcode, -1, delta);
+        return length - 1;
+    }
+
+    /**
+     * Points the branch with the input operand index at the current end of the code
+     *
+     * @param operand the index of the branch's operand
+     */
+    private void patch(int operand)
+    {
+        code[operand] = length;
+    }
+
+    /**
+     * Compiles the input list of statements
+     *
+     * @param stmts the input statements
+     */
+    private void compile(List<Statement> stmts)
+    {
+        for (Statement stmt : stmts) compile(stmt);
+    }
+
+    /**
+     * Compiles the input statement
+     *
+     * @param stmt the input statement
+     */
+    private void compile(Statement stmt)
+    {
+        switch (stmt)
+        {
+            case Display display -> compile(display);
+            case Assign assign -> compile(assign);
+            case If ifStmt -> compile(ifStmt);
+            case While whileStmt -> compile(whileStmt);
+            case Read readStmt -> emit(Bytecode.READ, readStmt.getSlot(), 0);
+        }
+    }
+
+    /**
+     * Compiles the input display statement
+     *
+     * @param display the input Display statement
+     */
+    private void compile(Display display)
+    {
+        compile(display.getExpression());
+        emit(Bytecode.DISPLAY, -1);
+        if (display.getReadStmt() != null) compile(display.getReadStmt());
+    }
+
+    /**
+     * Compiles the input assign statement
+     *
+     * @param assign the input Assign statement
+     */
+    private void compile(Assign assign)
+    {
+        compile(assign.getExp());
+        emit(Bytecode.STORE, assign.getSlot(), -1);
+    }
+
+    /**
+     * Compiles the input if/if-else statement
+     *
+     * @param ifStmt the input If statement
+     */
+    private void compile(If ifStmt)
+    {
+        int falseBranch = jumpIfFalse(ifStmt.getExpression());
+        compile(ifStmt.getTrueProgram().getStmts());
+        if (ifStmt.getFalseProgram() == null)
+            patch(falseBranch);
+        else
+        {
+            int endBranch = branch(Bytecode.JUMP, 0);
+            patch(falseBranch);
+            compile(ifStmt.getFalseProgram().getStmts());
+            patch(endBranch);
+        }
+    }
+
+    /**
+     * Compiles the input While statement
+     *
+     * @param whileStmt the input While statement
+     */
+    private void compile(While whileStmt)
+    {
+        int top = length;
+        int endBranch = jumpIfFalse(whileStmt.getExpression());
+        compile(whileStmt.getProgram().getStmts());
+        emit(Bytecode.JUMP, top, 0);
+        patch(endBranch);
+    }
+
+    /**
+     * Compiles a branch that is taken when the input condition is false. Comparisons branch
+     * directly on their operands instead of materializing 0 or 1.
+     *
+     * @param exp the condition
+     * @return the index of the branch's operand, to be patched with its target
+     */
+    private int jumpIfFalse(Expression exp)
+    {
+        if (exp instanceof BinOp binop && binop.getOp().isComparison())
+        {
+            compile(binop.getExp1());
+            compile(binop.getExp2());
+            return branch(compareOpcode(binop.getOp()) - Bytecode.EQ + Bytecode.JUMP_UNLESS_EQ,
+                          -2);
+        }
+        compile(exp);
+        return branch(Bytecode.JUMP_IF_FALSE, -1);
+    }
+
+    /**
+     * Gets the comparison opcode of the input operator
+     *
+     * @param op the comparison operator
+     * @return the opcode
+     * @precondition op is a comparison
+     */
+    private static int compareOpcode(Operator op)
+    {
+        switch (op)
+        {
+            case EQ: return Bytecode.EQ;
+            case NE: return Bytecode.NE;
+            case LT: return Bytecode.LT;
+            case GT: return Bytecode.GT;
+            case LE: return Bytecode.LE;
+            default: return Bytecode.GE;
+        }
+    }
+
+    /**
+     * Compiles the input expression, leaving its value on top of the operand stack
+     *
+     * @param exp the input expression
+     */
+    private void compile(Expression exp)
+    {
+        switch (exp)
+        {
+            case Number num -> emit(Bytecode.PUSH, num.getValue(), 1);
+            case Variable var -> emit(Bytecode.LOAD, var.getSlot(), 1);
+            case BinOp binop -> compile(binop);
+            case Shift shift ->
+            {
+                compile(shift.getExp());
+                emit(switch (shift.getKind())
+                     {
+                         case LEFT -> Bytecode.SHL;
+                         case RIGHT -> Bytecode.SHR;
+                         case UNSIGNED_RIGHT -> Bytecode.USHR;
+                     }, shift.getDistance(), 0);
+            }
+            case MultiplyHigh product ->
+            {
+                compile(product.getExp());
+                emit(Bytecode.MULHI, product.getMultiplier(), 0);
+            }
+        }
+    }
+
+    /**
+     * Compiles the input BinOp expression
+     *
+     * @param binop the input BinOp expression
+     */
+    private void compile(BinOp binop)
+    {
+        compile(binop.getExp1());
+        compile(binop.getExp2());
+        switch (binop.getOp())
+        {
+            case PLUS: emit(Bytecode.ADD, -1); return;
+            case MINUS: emit(Bytecode.SUB, -1); return;
+            case TIMES: emit(Bytecode.MUL, -1); return;
+            case DIVIDE: emit(Bytecode.DIV, -1); return;
+            default: emit(compareOpcode(binop.getOp()), -1);
+        }
+    }
+}
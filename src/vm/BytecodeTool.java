@@ -0,0 +1,59 @@
+package vm;
+
+import java.io.*;
+import java.nio.file.*;
+
+import environment.Environment;
+import parser.Parser;
+import scanner.Scanner;
+
+/**
+ * BytecodeTool compiles simplified PASCAL programs to bytecode files and runs bytecode files on
+ * the VirtualMachine, so that precompiled programs can be run without scanning or parsing them
+ *
+ * Usage: java vm.BytecodeTool compile [source file] [bytecode file]
+ *        java vm.BytecodeTool run [bytecode file]
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class BytecodeTool
+{
+    /**
+     * Compiles or runs a program as directed by the command-line input args
+     *
+     * @param args the command-line input args
+     */
+    public static void main(String[] args)
+    {
+        try
+        {
+            if (args.length == 3 && args[0].equals("compile"))
+            {
+                Bytecode bytecode = new BytecodeCompiler().compile(
+                    new Parser(new Scanner(Paths.get(args[1]))).parseProgram());
+                try (OutputStream out = Files.newOutputStream(Paths.get(args[2])))
+                {
+                    bytecode.write(out);
+                }
+            }
+            else if (args.length == 2 && args[0].equals("run"))
+            {
+                Bytecode bytecode;
+                try (InputStream in = Files.newInputStream(Paths.get(args[1])))
+                {
+                    bytecode = Bytecode.read(in);
+                }
+                new VirtualMachine().run(bytecode, new Environment());
+            }
+            else
+                System.out.println("Usage: java vm.BytecodeTool compile [source file] " +
+                                   "[bytecode file]\n       java vm.BytecodeTool run [bytecode file]");
+        }
+        catch(IOException e)
+        {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package vm;
+
+import java.util.*;
+
+import ast.Program;
+import codegen.RuntimeSupport;
+import environment.Environment;
+import evaluator.Engine;
+
+/**
+ * VirtualMachine executes Programs by compiling them to Bytecode and running the bytecode in a
+ * single switch-based dispatch loop. Variables live in an int[] frame and intermediate values on
+ * an int[] operand stack, so no objects are allocated while a program runs.
+ *
+ * @author Rohan Thakur
+ * @version 10/18/26
+ */
+public class VirtualMachine implements Engine
+{
+    private Map<Program, Bytecode> compiled;
+    private BytecodeCompiler compiler;
+    private RuntimeSupport runtime;
+
+    /**
+     * VirtualMachine constructor for the construction of a virtual machine that displays and reads
+     * through the standard RuntimeSupport
+     */
+    public VirtualMachine()
+    {
+        this.compiled = Collections.synchronizedMap(new WeakHashMap<Program, Bytecode>());
+        this.compiler = new BytecodeCompiler();
+        this.runtime = new RuntimeSupport();
+    }
+
+    /**
+     * Executes the input program under the input environment, compiling it the first time it is
+     * executed
+     *
+     * @param program the input program
+     * @param env the environment to use for variables
+     */
+    @Override
+    public void exec(Program program, Environment env)
+    {
+        Bytecode bytecode = compiled.get(program);
+        if (bytecode == null)
+        {
+            synchronized (compiler)
+            {
+                bytecode = compiler.compile(program);
+            }
+            compiled.put(program, bytecode);
+        }
+        run(bytecode, env);
+    }
+
+    /**
+     * Runs the input bytecode under the input environment. The values of the variables are copied
+     * into the frame before the code runs and back into the environment once it halts or throws,
+     * and what it displayed is flushed.
+     *
+     * @param bytecode the compiled program
+     * @param env the environment to use for variables
+     */
+    public void run(Bytecode bytecode, Environment env)
+    {
+        String[] slotNames = bytecode.getSlotNames();
+        env.useFrame(slotNames);
+        int[] frame = new int[slotNames.length];
+        for (int i = 0; i < frame.length; i++)
+            frame[i] = env.getSlot(i);
+        try
+        {
+            run(bytecode.getCode(), frame, new int[bytecode.getMaxStack()], slotNames);
+        }
+        finally
+        {
+            for (int i = 0; i < frame.length; i++)
+                env.setSlot(i, frame[i]);
+            runtime.flush();
+        }
+    }
+
+    /**
+     * The dispatch loop
+     *
+     * @param code the instruction stream
+     * @param frame the values of the variables indexed by slot
+     * @param stack the operand stack
+     * @param slotNames the names of the variables indexed by slot, used to prompt for reads
+     * @precondition the code ends with HALT and never needs more stack than it is given
+     */
+    private void run(int[] code, int[] frame, int[] stack, String[] slotNames)
+    {
+        int pc = 0;
+        int sp = 0;
+        while (true)
+        {
+            switch (code[pc])
+            {
+                case Bytecode.PUSH:
+                    stack[sp++] = code[pc + 1];
+                    pc += 2;
+                    break;
+                case Bytecode.LOAD:
+                    stack[sp++] = frame[code[pc + 1]];
+                    pc += 2;
+                    break;
+                case Bytecode.STORE:
+                    frame[code[pc + 1]] = stack[--sp];
+                    pc += 2;
+                    break;
+                case Bytecode.ADD:
+                    sp--;
+                    stack[sp - 1] += stack[sp];
+                    pc++;
+                    break;
+                case Bytecode.SUB:
+                    sp--;
+                    stack[sp - 1] -= stack[sp];
+                    pc++;
+                    break;
+                case Bytecode.MUL:
+                    sp--;
+                    stack[sp - 1] *= stack[sp];
+                    pc++;
+                    break;
+                case Bytecode.DIV:
+                    sp--;
+                    stack[sp - 1] /= stack[sp];
+                    pc++;
+                    break;
+                case Bytecode.EQ:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] == stack[sp] ? 1 : 0;
+                    pc++;
+                    break;
+                case Bytecode.NE:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] != stack[sp] ? 1 : 0;
+                    pc++;
+                    break;
+                case Bytecode.LT:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] < stack[sp] ? 1 : 0;
+                    pc++;
+                    break;
+                case Bytecode.GT:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] > stack[sp] ? 1 : 0;
+                    pc++;
+                    break;
+                case Bytecode.LE:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] <= stack[sp] ? 1 : 0;
+                    pc++;
+                    break;
+                case Bytecode.GE:
+                    sp--;
+                    stack[sp - 1] = stack[sp - 1] >= stack[sp] ? 1 : 0;
+                    pc++;
+                    break;
+                case Bytecode.JUMP:
+                    pc = code[pc + 1];
+                    break;
+                case Bytecode.JUMP_IF_FALSE:
+                    pc = stack[--sp] == 0 ? code[pc + 1] : pc + 2;
+                    break;
+                case Bytecode.JUMP_UNLESS_EQ:
+                    sp -= 2;
+                    pc = stack[sp] == stack[sp + 1] ? pc + 2 : code[pc + 1];
+                    break;
+                case Bytecode.JUMP_UNLESS_NE:
+                    sp -= 2;
+                    pc = stack[sp] != stack[sp + 1] ? pc + 2 : code[pc + 1];
+                    break;
+                case Bytecode.JUMP_UNLESS_LT:
+                    sp -= 2;
+                    pc = stack[sp] < stack[sp + 1] ? pc + 2 : code[pc + 1];
+                    break;
+                case Bytecode.JUMP_UNLESS_GT:
+                    sp -= 2;
+                    pc = stack[sp] > stack[sp + 1] ? pc + 2 : code[pc + 1];
+                    break;
+                case Bytecode.JUMP_UNLESS_LE:
+                    sp -= 2;
+                    pc = stack[sp] <= stack[sp + 1] ? pc + 2 : code[pc + 1];
+                    break;
+                case Bytecode.JUMP_UNLESS_GE:
+                    sp -= 2;
+                    pc = stack[sp] >= stack[sp + 1] ? pc + 2 : code[pc + 1];
+                    break;
+                case Bytecode.DISPLAY:
+                    runtime.display(stack[--sp]);
+                    pc++;
+                    break;
+                case Bytecode.READ:
+                    frame[code[pc + 1]] = runtime.read(slotNames[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case Bytecode.HALT:
+                    return;
+                case Bytecode.SHL:
+                    stack[sp - 1] <<= code[pc + 1];
+                    pc += 2;
+                    break;
+                case Bytecode.SHR:
+                    stack[sp - 1] >>= code[pc + 1];
+                    pc += 2;
+                    break;
+                case Bytecode.USHR:
+                    stack[sp - 1] >>>= code[pc + 1];
+                    pc += 2;
+                    break;
+                case Bytecode.MULHI:
+                    stack[sp - 1] = (int) (((long) stack[sp - 1] * code[pc + 1]) >> 32);
+                    pc += 2;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Illegal opcode " + code[pc] + " at " + pc);
+            }
+        }
+    }
+}